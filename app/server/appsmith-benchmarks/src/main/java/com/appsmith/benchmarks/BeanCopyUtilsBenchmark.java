@@ -0,0 +1,47 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.helpers.BeanCopyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks copying actions onto new actions, as done when an action is updated with the fields given in a request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCopyUtilsBenchmark {
+
+    private List<Action> actions;
+
+    @Setup
+    public void setup() {
+        actions = Fixtures.actions();
+    }
+
+    @Benchmark
+    public void copyNestedNonNullProperties(Blackhole blackhole) {
+        for (Action action : actions) {
+            final Action target = new Action();
+            BeanCopyUtils.copyNestedNonNullProperties(action, target);
+            blackhole.consume(target);
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.services.CurlImporterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the stages of importing cURL commands as actions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurlImporterBenchmark {
+
+    // The services are only used when saving the imported action, which isn't benchmarked here.
+    private final CurlImporterService curlImporterService = new CurlImporterService(null, null);
+
+    private List<String> commands;
+
+    private List<List<String>> normalizedTokens;
+
+    @Setup
+    public void setup() {
+        commands = Fixtures.curlCommands();
+        normalizedTokens = commands.stream()
+                .map(command -> curlImporterService.normalize(curlImporterService.lex(command)))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void lex(Blackhole blackhole) {
+        for (String command : commands) {
+            blackhole.consume(curlImporterService.lex(command));
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws AppsmithException {
+        for (List<String> tokens : normalizedTokens) {
+            blackhole.consume(curlImporterService.parse(tokens));
+        }
+    }
+
+}
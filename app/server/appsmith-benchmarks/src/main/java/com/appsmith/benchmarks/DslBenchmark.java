@@ -0,0 +1,53 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.helpers.DslAnalyzer;
+import com.appsmith.server.helpers.RefactorHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the walks over a page's DSL done by the layout action service, when a layout is saved and when a widget
+ * or an action is renamed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DslBenchmark {
+
+    private Map<String, Object> dsl;
+
+    @Setup
+    public void setup() {
+        dsl = Fixtures.largeDsl();
+    }
+
+    @Benchmark
+    public DslAnalyzer.Analysis analyze() {
+        return DslAnalyzer.analyze(dsl);
+    }
+
+    /**
+     * Renames a table that is referred to from other widgets, and then renames it back, so that every invocation works
+     * on the same DSL.
+     */
+    @Benchmark
+    public boolean refactorDsl() {
+        final boolean isRenamed = RefactorHelper.refactorDsl(dsl, "usersTable", "customersTable");
+        return RefactorHelper.refactorDsl(dsl, "customersTable", "usersTable") && isRenamed;
+    }
+
+}
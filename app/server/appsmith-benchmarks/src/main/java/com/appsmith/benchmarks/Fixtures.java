@@ -0,0 +1,71 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.domains.Action;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the fixtures used by the benchmarks, from `src/main/resources/fixtures`. The fixtures are taken from the
+ * example applications that new organizations are created with.
+ * - `large-dsl.json` is the users & orders dashboard's DSL, with its widgets repeated to about 550 widgets and 500
+ *   bindings, renamed in each copy.
+ * - `actions.json` has the actions of all the example applications.
+ * - `curl-commands.txt` has cURL commands as copied from API docs and browsers, one per line.
+ */
+public final class Fixtures {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return A new copy of the large DSL, every time, so that benchmarks that modify the DSL don't affect each other.
+     */
+    public static Map<String, Object> largeDsl() {
+        return read("large-dsl.json", new TypeReference<>() {});
+    }
+
+    public static List<Action> actions() {
+        return read("actions.json", new TypeReference<>() {});
+    }
+
+    public static List<String> curlCommands() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open("curl-commands.txt"), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T read(String name, TypeReference<T> type) {
+        try (InputStream stream = open(name)) {
+            return objectMapper.readValue(stream, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String name) {
+        final InputStream stream = Fixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (stream == null) {
+            throw new IllegalStateException("Missing fixture " + name);
+        }
+        return stream;
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.external.plugins.MySqlPlugin;
+import com.external.plugins.PostgresPlugin;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting the rows of a query's result to JSON in the Postgres and MySQL plugins. The rows are read from
+ * an in-memory result set, so the time measured is only that of the conversion.
+ * <p>
+ * The plugins decode rows with a plan worked out once from the result's metadata. `postgresPerCellBaseline` decodes
+ * the same rows the way the Postgres plugin did before, looking up the metadata of every cell, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdbcPluginBenchmark {
+
+    // Columns of the `users` table of the example database, repeated to make wider rows.
+    private static final String[][] BASE_COLUMNS = {
+            // Name, Postgres type, MySQL type.
+            {"id", "int4", "INT"},
+            {"name", "varchar", "VARCHAR"},
+            {"email", "varchar", "VARCHAR"},
+            {"phone", "text", "TEXT"},
+            {"isActive", "bool", "BIT"},
+            {"balance", "numeric", "DECIMAL"},
+            {"dob", "date", "DATE"},
+            {"createdAt", "timestamp", "DATETIME"},
+            {"updatedAt", "timestamptz", "TIMESTAMP"},
+    };
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"100", "10000"})
+    private int rowCount;
+
+    @Param({"9", "90"})
+    private int columnCount;
+
+    private final PostgresPlugin.PostgresPluginExecutor postgresPluginExecutor = new PostgresPlugin.PostgresPluginExecutor();
+
+    private final MySqlPlugin.MySqlPluginExecutor mySqlPluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+
+    private final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+    private final ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+    private Connection postgresConnection;
+
+    private Connection mySqlConnection;
+
+    @Setup
+    public void setup() {
+        final List<MockJdbc.Column> postgresColumns = new ArrayList<>(columnCount);
+        final List<MockJdbc.Column> mySqlColumns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; ++i) {
+            final String[] baseColumn = BASE_COLUMNS[i % BASE_COLUMNS.length];
+            final int repetition = i / BASE_COLUMNS.length;
+            final String name = repetition == 0 ? baseColumn[0] : baseColumn[0] + repetition;
+            postgresColumns.add(new MockJdbc.Column(name, baseColumn[1]));
+            mySqlColumns.add(new MockJdbc.Column(name, baseColumn[2]));
+        }
+
+        final List<Object[]> rows = new ArrayList<>(rowCount);
+        final Random random = new Random(42);
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < rowCount; ++i) {
+            final Object[] row = new Object[columnCount];
+            for (int j = 0; j < columnCount; ++j) {
+                row[j] = generateValue(j % BASE_COLUMNS.length, i, random, now);
+            }
+            rows.add(row);
+        }
+
+        postgresConnection = MockJdbc.connection(postgresColumns, rows);
+        mySqlConnection = MockJdbc.connection(mySqlColumns, rows);
+
+        actionConfiguration.setBody("SELECT * FROM users");
+    }
+
+    private static Object generateValue(int baseColumnIndex, int rowIndex, Random random, long now) {
+        switch (baseColumnIndex) {
+            case 0:
+                return rowIndex + 1;
+            case 1:
+                return "User " + rowIndex;
+            case 2:
+                return "user" + rowIndex + "@example.com";
+            case 3:
+                return random.nextBoolean() ? "+1-202-555-" + (1000 + random.nextInt(9000)) : null;
+            case 4:
+                return random.nextInt(5) > 0;
+            case 5:
+                return BigDecimal.valueOf(random.nextInt(100000), 2);
+            default:
+                return new Timestamp(now - random.nextInt(Integer.MAX_VALUE) * 10L);
+        }
+    }
+
+    @Benchmark
+    public ActionExecutionResult postgres() {
+        return postgresPluginExecutor.execute(postgresConnection, datasourceConfiguration, actionConfiguration).block();
+    }
+
+    @Benchmark
+    public ActionExecutionResult mySql() {
+        return mySqlPluginExecutor.execute(mySqlConnection, datasourceConfiguration, actionConfiguration).block();
+    }
+
+    @Benchmark
+    public JsonNode postgresPerCellBaseline() throws SQLException {
+        final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+
+        try (Statement statement = postgresConnection.createStatement()) {
+            statement.execute(actionConfiguration.getBody());
+            final ResultSet resultSet = statement.getResultSet();
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            final int colCount = metaData.getColumnCount();
+
+            while (resultSet.next()) {
+                final Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+                for (int i = 1; i <= colCount; i++) {
+                    Object value;
+                    final String typeName = metaData.getColumnTypeName(i);
+
+                    if (resultSet.getObject(i) == null) {
+                        value = null;
+
+                    } else if ("date".equalsIgnoreCase(typeName)) {
+                        value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                    } else if ("timestamp".equalsIgnoreCase(typeName)) {
+                        value = DateTimeFormatter.ISO_DATE_TIME.format(
+                                LocalDateTime.of(
+                                        resultSet.getDate(i).toLocalDate(),
+                                        resultSet.getTime(i).toLocalTime()
+                                )
+                        ) + "Z";
+
+                    } else if ("timestamptz".equalsIgnoreCase(typeName)) {
+                        value = DateTimeFormatter.ISO_DATE_TIME.format(
+                                resultSet.getObject(i, OffsetDateTime.class)
+                        );
+
+                    } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                        value = resultSet.getString(i);
+
+                    } else if ("interval".equalsIgnoreCase(typeName)) {
+                        value = resultSet.getObject(i).toString();
+
+                    } else {
+                        value = resultSet.getObject(i);
+
+                    }
+
+                    row.put(metaData.getColumnName(i), value);
+                }
+
+                rowsList.add(row);
+            }
+        }
+
+        return objectMapper.valueToTree(rowsList);
+    }
+
+}
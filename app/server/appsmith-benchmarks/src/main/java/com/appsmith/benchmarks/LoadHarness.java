@@ -0,0 +1,313 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.ServerApplication;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.PluginType;
+import com.appsmith.server.repositories.PluginRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import de.flapdoodle.embed.mongo.MongodExecutable;
+import de.flapdoodle.embed.mongo.MongodStarter;
+import de.flapdoodle.embed.mongo.config.MongodConfigBuilder;
+import de.flapdoodle.embed.mongo.config.Net;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.process.runtime.Network;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives `POST /actions/execute` on an in-process server, and reports the throughput, latency percentiles and allocation
+ * rate. The server runs against an embedded MongoDB, and executes a single action of the synthetic plugin, so that the
+ * numbers reflect the server's own overhead, and not that of any database.
+ * <p>
+ * A Redis server is needed for sessions, and is read from `APPSMITH_REDIS_URL`, or `redis://127.0.0.1:6379` by default.
+ * MongoDB is downloaded by the embedded Mongo library on the first run. To build and run, from `app/server`:
+ * <pre>
+ * mvn -P benchmarks -DskipTests package
+ * java -cp appsmith-benchmarks/target/benchmarks.jar com.appsmith.benchmarks.LoadHarness \
+ *     --concurrency=64 --requests=50000 \
+ *     --spec='{"rows": 100, "latency": {"distribution": "LOGNORMAL", "meanMillis": 20}}'
+ * </pre>
+ * The options are
+ * - `--requests`: number of measured executions, 10000 by default,
+ * - `--warmup`: number of executions before measuring, 2000 by default,
+ * - `--concurrency`: number of executions in flight at any time, 32 by default,
+ * - `--spec`: body of the synthetic action, as described in the synthetic plugin, or `@path` to read it from a file,
+ * - `--plugins-dir`: directory with the synthetic plugin's jar, `appsmith-benchmarks/target/plugins` by default.
+ * <p>
+ * Allocations are measured over all the threads of the JVM, so they include those of the HTTP client driving the load.
+ * Since the client's work is the same across changes to the server, the numbers are still comparable between runs.
+ */
+public class LoadHarness {
+
+    private static final String PASSWORD = "load-test-password";
+
+    private static final String DEFAULT_SPEC = "{\"rows\": 100}";
+
+    private final WebClient.Builder webClientBuilder;
+
+    private WebClient webClient;
+
+    private LoadHarness(String baseUrl, int concurrency) {
+        final ConnectionProvider connectionProvider = ConnectionProvider.fixed("load-harness", concurrency);
+        webClientBuilder = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(/* 64MB */ 64 * 1024 * 1024))
+                        .build());
+        webClient = webClientBuilder.build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        final Map<String, String> options = parseOptions(args);
+        final int requests = Integer.parseInt(options.getOrDefault("requests", "10000"));
+        final int warmup = Integer.parseInt(options.getOrDefault("warmup", "2000"));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        final String pluginsDir = options.getOrDefault("plugins-dir", "appsmith-benchmarks/target/plugins");
+        String spec = options.getOrDefault("spec", DEFAULT_SPEC);
+        if (spec.startsWith("@")) {
+            spec = Files.readString(Path.of(spec.substring(1)));
+        }
+
+        final int mongoPort = Network.getFreeServerPort();
+        final MongodExecutable mongod = MongodStarter.getDefaultInstance().prepare(new MongodConfigBuilder()
+                .version(Version.Main.PRODUCTION)
+                .net(new Net("localhost", mongoPort, Network.localhostIsIPv6()))
+                .build());
+        mongod.start();
+
+        // The plugin manager loads plugins from this directory when the server starts.
+        System.setProperty("pf4j.pluginsDir", pluginsDir);
+
+        // Given as command line arguments, since those take precedence over the server's `application.properties`.
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class).run(
+                "--server.port=0",
+                "--spring.data.mongodb.uri=mongodb://localhost:" + mongoPort + "/appsmith-load",
+                "--spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoAutoConfiguration",
+                "--spring.redis.url=" + System.getenv().getOrDefault("APPSMITH_REDIS_URL", "redis://127.0.0.1:6379"),
+                "--encrypt.password=load-test",
+                "--encrypt.salt=load-test",
+                "--logging.level.com.appsmith=info"
+        );
+
+        try {
+            final String port = context.getEnvironment().getProperty("local.server.port");
+            final LoadHarness harness = new LoadHarness("http://localhost:" + port, concurrency);
+            final String actionId = harness.setUp(context.getBean(PluginRepository.class), spec);
+
+            System.out.printf("Warming up with %d executions.%n", warmup);
+            harness.run(actionId, warmup, concurrency);
+
+            System.out.printf("Measuring %d executions, %d at a time.%n", requests, concurrency);
+            harness.run(actionId, requests, concurrency).print();
+
+        } finally {
+            context.close();
+            mongod.stop();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options should be given as `--name=value`, found " + arg);
+            }
+            final int separatorIndex = arg.indexOf('=');
+            options.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Signs up a user, and creates an organization, a datasource of the synthetic plugin and an action with the given
+     * spec, through the API, like the client would.
+     *
+     * @return ID of the action to be executed.
+     */
+    private String setUp(PluginRepository pluginRepository, String spec) {
+        // Plugins are only added to the database by migrations, so the synthetic plugin is saved here directly.
+        final Plugin syntheticPlugin = new Plugin();
+        syntheticPlugin.setName("Synthetic");
+        syntheticPlugin.setType(PluginType.DB);
+        syntheticPlugin.setPackageName("synthetic-plugin");
+        syntheticPlugin.setUiComponent("DbEditorForm");
+        syntheticPlugin.setResponseType(Plugin.ResponseType.TABLE);
+        syntheticPlugin.setDefaultInstall(false);
+        final String pluginId = pluginRepository.save(syntheticPlugin).block().getId();
+
+        final String email = "load-test-" + System.currentTimeMillis() + "@example.com";
+        post(Url.USER_URL, Map.of("email", email, "password", PASSWORD));
+        logIn(email);
+
+        final String organizationId = post(Url.ORGANIZATION_URL, Map.of("name", "Load test")).get("id").asText();
+
+        post(Url.PLUGIN_URL + "/install", Map.of(
+                "pluginId", pluginId,
+                "organizationId", organizationId,
+                "status", "FREE"
+        ));
+
+        final JsonNode application = post(Url.APPLICATION_URL + "?orgId=" + organizationId, Map.of("name", "Load test"));
+        final String pageId = application.get("pages").get(0).get("id").asText();
+
+        final String datasourceId = post(Url.DATASOURCE_URL, Map.of(
+                "name", "Synthetic",
+                "pluginId", pluginId,
+                "organizationId", organizationId,
+                "datasourceConfiguration", Map.of()
+        )).get("id").asText();
+
+        return post(Url.ACTION_URL, Map.of(
+                "name", "SyntheticQuery",
+                "pageId", pageId,
+                "datasource", Map.of("id", datasourceId),
+                "actionConfiguration", Map.of("body", spec)
+        )).get("id").asText();
+    }
+
+    private void logIn(String email) {
+        final HttpCookie session = webClient.post()
+                .uri(Url.LOGIN_URL)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("username", email).with("password", PASSWORD))
+                .exchange()
+                .map(response -> response.cookies().getFirst("SESSION"))
+                .block();
+
+        if (session == null) {
+            throw new IllegalStateException("Logging in didn't give a session cookie.");
+        }
+
+        webClient = webClientBuilder.defaultCookie(session.getName(), session.getValue()).build();
+    }
+
+    private JsonNode post(String uri, Object body) {
+        final JsonNode response = webClient.post()
+                .uri(uri)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(body))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+
+        if (response == null || !response.path("responseMeta").path("success").asBoolean()) {
+            throw new IllegalStateException("Request to " + uri + " failed with " + response);
+        }
+
+        return response.get("data");
+    }
+
+    /**
+     * Executes the action the given number of times, keeping the given number of executions in flight.
+     */
+    private Result run(String actionId, int requests, int concurrency) {
+        final Map<String, Object> body = Map.of("action", Map.of("id", actionId));
+        final long[] latencies = new long[requests];
+        final AtomicLong failures = new AtomicLong();
+
+        final long allocatedBefore = totalAllocatedBytes();
+        final long start = System.nanoTime();
+
+        Flux.range(0, requests)
+                .flatMap(index -> {
+                    final long requestStart = System.nanoTime();
+                    return webClient.post()
+                            .uri(Url.ACTION_URL + "/execute")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(BodyInserters.fromValue(body))
+                            .exchange()
+                            .flatMap(response -> response.bodyToMono(JsonNode.class)
+                                    .map(json -> response.statusCode().is2xxSuccessful()
+                                            && json.path("data").path("isExecutionSuccess").asBoolean()))
+                            .onErrorReturn(false)
+                            .defaultIfEmpty(false)
+                            .doOnNext(isSuccess -> {
+                                latencies[index] = System.nanoTime() - requestStart;
+                                if (!isSuccess) {
+                                    failures.incrementAndGet();
+                                }
+                            });
+                }, concurrency)
+                .blockLast();
+
+        final long elapsedNanos = System.nanoTime() - start;
+        return new Result(latencies, failures.get(), elapsedNanos, totalAllocatedBytes() - allocatedBefore);
+    }
+
+    /**
+     * Bytes allocated so far by all the live threads. Bytes allocated by threads that have ended are not counted, which
+     * is negligible here, since the server and the client run on long-lived event loop threads.
+     */
+    private static long totalAllocatedBytes() {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private static class Result {
+
+        private final long[] latencies;
+
+        private final long failures;
+
+        private final long elapsedNanos;
+
+        private final long allocatedBytes;
+
+        Result(long[] latencies, long failures, long elapsedNanos, long allocatedBytes) {
+            this.latencies = latencies;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        void print() {
+            final long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            final double seconds = elapsedNanos / 1e9;
+
+            System.out.printf("Executions:   %d, %d failed%n", sorted.length, failures);
+            System.out.printf("Throughput:   %.1f executions/s%n", sorted.length / seconds);
+            for (double percentile : List.of(50.0, 90.0, 99.0, 99.9, 100.0)) {
+                System.out.printf("Latency p%-5s %.2f ms%n", trimZero(percentile), percentileMillis(sorted, percentile));
+            }
+            System.out.printf("Allocations:  %.1f MB/s, %.1f KB per execution%n",
+                    allocatedBytes / seconds / (1024 * 1024), allocatedBytes / 1024.0 / sorted.length);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        private static String trimZero(double percentile) {
+            return percentile == Math.floor(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.appsmith.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * A JDBC connection that returns the same in-memory rows for every query, so that plugins' conversion of rows to JSON
+ * can be benchmarked without a database. Only the methods that the plugins call when executing a query are
+ * implemented. Values of date and time columns are given as {@link Timestamp}s, and converted as the drivers would.
+ */
+public final class MockJdbc {
+
+    private MockJdbc() {
+    }
+
+    public static class Column {
+
+        final String name;
+
+        final String typeName;
+
+        public Column(String name, String typeName) {
+            this.name = name;
+            this.typeName = typeName;
+        }
+
+    }
+
+    public static Connection connection(List<Column> columns, List<Object[]> rows) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isClosed":
+                    return false;
+                case "isValid":
+                    return true;
+                case "createStatement":
+                    return statement(columns, rows);
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException("Connection." + method.getName());
+            }
+        });
+    }
+
+    private static Statement statement(List<Column> columns, List<Object[]> rows) {
+        final ResultSet resultSet = resultSet(columns, rows);
+        return proxy(Statement.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "execute":
+                    return true;
+                case "getResultSet":
+                    return resultSet;
+                case "setQueryTimeout":
+                case "cancel":
+                case "close":
+                    // The rows are in memory, so there's nothing to time out or cancel.
+                    return null;
+                default:
+                    throw new UnsupportedOperationException("Statement." + method.getName());
+            }
+        });
+    }
+
+    private static ResultSet resultSet(List<Column> columns, List<Object[]> rows) {
+        final ResultSetMetaData metaData = metaData(columns);
+        final int[] rowIndex = {-1};
+
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            final String name = method.getName();
+            if ("next".equals(name)) {
+                return ++rowIndex[0] < rows.size();
+            } else if ("getMetaData".equals(name)) {
+                return metaData;
+            } else if ("close".equals(name)) {
+                return null;
+            }
+
+            final Object value = rows.get(rowIndex[0])[(Integer) args[0] - 1];
+            switch (name) {
+                case "getObject":
+                    if (args.length == 2 && args[1] == OffsetDateTime.class) {
+                        return value == null ? null : ((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC);
+                    }
+                    return value;
+                case "getString":
+                    return value == null ? null : value.toString();
+                case "getDate":
+                    return value == null ? null : new Date(((Timestamp) value).getTime());
+                case "getTime":
+                    return value == null ? null : new Time(((Timestamp) value).getTime());
+                case "getTimestamp":
+                    return value;
+                default:
+                    throw new UnsupportedOperationException("ResultSet." + name);
+            }
+        });
+    }
+
+    private static ResultSetMetaData metaData(List<Column> columns) {
+        return proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return columns.size();
+                case "getColumnName":
+                case "getColumnLabel":
+                    return columns.get((Integer) args[0] - 1).name;
+                case "getColumnTypeName":
+                    return columns.get((Integer) args[0] - 1).typeName;
+                default:
+                    throw new UnsupportedOperationException("ResultSetMetaData." + method.getName());
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MockJdbc.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+}
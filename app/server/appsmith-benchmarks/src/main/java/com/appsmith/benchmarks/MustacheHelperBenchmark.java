@@ -0,0 +1,101 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.helpers.MustacheHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks finding and substituting the mustache bindings in action configurations, as done for every action
+ * execution and every time an action is saved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    private List<ActionConfiguration> actionConfigurations;
+
+    private List<String> templates;
+
+    private Map<String, String> context;
+
+    // Copies of the action configurations, since rendering replaces their values in-place.
+    private List<ActionConfiguration> configurationsToRender;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        final List<Action> actions = Fixtures.actions();
+
+        actionConfigurations = actions.stream()
+                .map(Action::getActionConfiguration)
+                .collect(Collectors.toList());
+
+        templates = actionConfigurations.stream()
+                .map(ActionConfiguration::getBody)
+                .filter(body -> body != null && body.contains("{{"))
+                .collect(Collectors.toList());
+
+        context = new HashMap<>();
+        for (ActionConfiguration configuration : actionConfigurations) {
+            for (String key : MustacheHelper.extractMustacheKeysFromFields(configuration)) {
+                context.put(key, "\"value of " + key + "\"");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        // Rendering all the actions takes much longer than timestamping an invocation, which is the overhead that
+        // `Level.Invocation` adds to the measurement.
+        configurationsToRender = new ArrayList<>(actionConfigurations.size());
+        for (Action action : Fixtures.actions()) {
+            configurationsToRender.add(action.getActionConfiguration());
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String template : templates) {
+            blackhole.consume(MustacheHelper.tokenize(template));
+        }
+    }
+
+    @Benchmark
+    public void extractMustacheKeysFromFields(Blackhole blackhole) {
+        for (ActionConfiguration configuration : actionConfigurations) {
+            final Set<String> keys = MustacheHelper.extractMustacheKeysFromFields(configuration);
+            blackhole.consume(keys);
+        }
+    }
+
+    @Benchmark
+    public void renderFieldValues(Blackhole blackhole) {
+        for (ActionConfiguration configuration : configurationsToRender) {
+            blackhole.consume(MustacheHelper.renderFieldValues(configuration, context));
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.CustomActionRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks setting the permissions of the current user on documents read from the database, which is done for every
+ * document that is read with an ACL check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionsBenchmark {
+
+    // Number of users in the organization, all of whom are in the policies of every action.
+    @Param({"10", "500"})
+    private int organizationSize;
+
+    // Mongo operations are only needed for querying, which isn't benchmarked here.
+    private final CustomActionRepositoryImpl repository = new CustomActionRepositoryImpl(null, null);
+
+    private List<Action> actions;
+
+    private User user;
+
+    @Setup
+    public void setup() {
+        final Set<String> users = new HashSet<>();
+        for (int i = 0; i < organizationSize; ++i) {
+            users.add("user" + i + "@example.com");
+        }
+
+        final Set<String> groups = Set.of("group-admins", "group-developers", "group-viewers");
+
+        actions = Fixtures.actions();
+        for (Action action : actions) {
+            final Set<Policy> policies = new HashSet<>();
+            for (AclPermission permission : List.of(AclPermission.MANAGE_ACTIONS, AclPermission.READ_ACTIONS, AclPermission.EXECUTE_ACTIONS)) {
+                policies.add(Policy.builder()
+                        .permission(permission.getValue())
+                        .users(users)
+                        .groups(groups)
+                        .build());
+            }
+            action.setPolicies(policies);
+        }
+
+        user = new User();
+        user.setEmail("user" + (organizationSize - 1) + "@example.com");
+        user.setGroupIds(Set.of("group-developers", "group-support"));
+    }
+
+    @Benchmark
+    public void setUserPermissionsInObject(Blackhole blackhole) {
+        for (Action action : actions) {
+            blackhole.consume(repository.setUserPermissionsInObject(action, user));
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.helpers.ResultFormatHelper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serializing a table of rows, as the body of an execution result, in the `ROWS` and `COMPACT` formats.
+ * The time for `compact` includes converting the body, as plugins return it, to the `COMPACT` layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultFormatBenchmark {
+
+    private static final String[] STATUSES = {"active", "inactive", "pending", "blocked"};
+
+    private static final String[] COUNTRIES = {"India", "United States", "Germany", "Brazil", "Japan", "Kenya"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private JsonNode body;
+
+    @Setup
+    public void setup() {
+        // A table of 20 columns, like the ones shown in table widgets: ids, unique strings, strings with few distinct
+        // values, numbers, booleans and timestamps.
+        final Random random = new Random(42);
+        final ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < rowCount; ++i) {
+            final ObjectNode row = rows.addObject();
+            row.put("id", i + 1);
+            row.put("name", "User " + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            row.put("country", COUNTRIES[random.nextInt(COUNTRIES.length)]);
+            row.put("isVerified", random.nextBoolean());
+            row.put("balance", random.nextInt(1000000) / 100.0);
+            row.put("orderCount", random.nextInt(50));
+            row.put("createdAt", "2020-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10) + "T10:15:30Z");
+            row.put("updatedAt", "2020-0" + (1 + random.nextInt(9)) + "-2" + random.nextInt(10) + "T08:45:00Z");
+            for (int j = 0; j < 10; ++j) {
+                row.put("attribute" + j, random.nextInt(4) == 0 ? null : "value-" + random.nextInt(8));
+            }
+        }
+        body = rows;
+    }
+
+    @Benchmark
+    public byte[] rows() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] compact() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResultFormatHelper.toCompact(body));
+    }
+
+}
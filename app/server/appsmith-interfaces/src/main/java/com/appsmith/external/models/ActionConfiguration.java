@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.http.HttpMethod;
 
@@ -45,6 +46,13 @@ public class ActionConfiguration {
 
     // DB action fields
 
+    /*
+     * When the action is executed as a prepared statement, the mustache bindings in the body are replaced with `?`
+     * placeholders, and their values are given here, in order. This is filled in only at execution time.
+     */
+    @Transient
+    List<Param> bodyParams;
+
     // JS action fields
 
     String jsFunction;
@@ -1,11 +1,13 @@
 package com.appsmith.external.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+
 @Getter
 @Setter
 @ToString
@@ -19,4 +21,22 @@ public class ActionExecutionResult {
 
     ActionExecutionRequest request;
 
+    // Only set when asked for, in the execution request.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    ActionExecutionTiming timing;
+
+    // Layout of the body, only set when a format is asked for, in the execution request. This is `ROWS` if the body
+    // isn't a table of rows, and so can't be given in the format asked for.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    ResultFormat resultFormat;
+
+    // Only set for materialized actions: when the result was computed, which may be before this execution, and whether
+    // it is older than the action's materialize interval, as an ISO-8601 instant. Stale results are refreshed in the
+    // background.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String materializedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean isStale;
+
 }
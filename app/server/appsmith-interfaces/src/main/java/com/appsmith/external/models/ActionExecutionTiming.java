@@ -0,0 +1,35 @@
+package com.appsmith.external.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Time taken by each stage of an action's execution, in milliseconds. Time spent in retries is added to the stage that
+ * was retried.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ActionExecutionTiming {
+
+    // Loading the action and its datasource, with their permissions, validating them and finding the plugin.
+    Long contextMillis;
+
+    // Substituting the params in the datasource and action configurations.
+    Long substitutionMillis;
+
+    // Getting a connection to the datasource, from the cached datasource context or by creating a new one.
+    Long connectionMillis;
+
+    // Executing the action in the plugin.
+    Long executionMillis;
+
+    // Saving the result as the cached response of the action.
+    Long cacheSaveMillis;
+
+    Long totalMillis;
+
+}
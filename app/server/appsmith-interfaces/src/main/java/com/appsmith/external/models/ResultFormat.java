@@ -0,0 +1,16 @@
+package com.appsmith.external.models;
+
+/**
+ * Layout of the body of an action's execution result, when it is a table of rows.
+ */
+public enum ResultFormat {
+
+    // An array of objects, one for each row, with the column names as keys. This is what plugins return.
+    ROWS,
+
+    // An object with the columns described once in `columns`, and the rows as arrays of values in `rows`, in the
+    // order of the columns. String columns with many repeated values are dictionary encoded: the column has the
+    // distinct values in `dictionary`, and the rows have indices into it instead of the values.
+    COMPACT
+
+}
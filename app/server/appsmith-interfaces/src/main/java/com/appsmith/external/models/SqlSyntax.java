@@ -0,0 +1,42 @@
+package com.appsmith.external.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * The lexical rules of a plugin's SQL dialect that matter when its queries are turned into prepared statements: how
+ * string literals and quoted identifiers are written, and how comments start. Bindings inside string literals are bound
+ * as parameters, while bindings inside identifiers, comments and dollar quoted bodies are not.
+ */
+@Getter
+@Builder
+public class SqlSyntax {
+
+    /**
+     * Standard SQL: single quoted strings, double quoted identifiers, and `--` line comments and block comments.
+     */
+    public static final SqlSyntax STANDARD = SqlSyntax.builder().build();
+
+    // Characters that start and end a string literal. The character doubled inside the literal stands for itself.
+    @Builder.Default
+    Set<Character> stringQuotes = Set.of('\'');
+
+    // Characters that start and end a quoted identifier, like a column name.
+    @Builder.Default
+    Set<Character> identifierQuotes = Set.of('"');
+
+    // Whether a backslash in a string literal escapes the next character, as in MySQL.
+    boolean backslashEscapes;
+
+    // Whether `#` starts a comment up to the end of the line, as in MySQL.
+    boolean hashComments;
+
+    // Whether `--` only starts a comment when followed by whitespace, as in MySQL, where `5--1` is a subtraction.
+    boolean dashCommentNeedsWhitespace;
+
+    // Whether bodies can be quoted between dollar tags, like `$$ ... $$` or `$body$ ... $body$`, as in Postgres.
+    boolean dollarQuoting;
+
+}
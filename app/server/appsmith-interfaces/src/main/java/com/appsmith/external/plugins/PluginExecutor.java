@@ -5,10 +5,13 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
+import com.appsmith.external.models.SqlSyntax;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Set;
 
 public interface PluginExecutor<C> extends ExtensionPoint {
@@ -24,6 +27,44 @@ public interface PluginExecutor<C> extends ExtensionPoint {
      */
     Mono<ActionExecutionResult> execute(C connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration);
 
+    /**
+     * This function is used to execute the action and emit the result in pages, as they are read from the data source.
+     * Plugins that can read their results incrementally (like a database cursor) should override this. By default,
+     * the whole result of `execute` is emitted as a single page.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of ActionExecutionResult, one for each page of the result.
+     */
+    default Flux<ActionExecutionResult> executeStream(C connection,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      ActionConfiguration actionConfiguration) {
+        return execute(connection, datasourceConfiguration, actionConfiguration).flux();
+    }
+
+    /**
+     * This function tells whether the given action should be executed as a prepared statement. When it is, the mustache
+     * bindings in the action's body are not substituted as text. Instead, they are replaced with `?` placeholders, and
+     * their values are given to the plugin in `bodyParams` of the action configuration, to be bound as parameters.
+     *
+     * @param actionConfiguration : These are the configurations which have been used to create an Action from a Datasource.
+     * @return true if the body should be given to the plugin with `?` placeholders, false by default.
+     */
+    default boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+        return false;
+    }
+
+    /**
+     * This function gives the lexical rules of the plugin's query language, so that bindings inside string literals can
+     * be told apart from the ones inside identifiers or comments when the action is executed as a prepared statement.
+     *
+     * @return The syntax of the plugin's queries, standard SQL by default.
+     */
+    default SqlSyntax getSqlSyntax() {
+        return SqlSyntax.STANDARD;
+    }
+
     /**
      * This function is responsible for creating the connection to the data source and returning the connection variable
      * on success. For executing actions, this connection object would be passed for each function call.
@@ -52,4 +93,32 @@ public interface PluginExecutor<C> extends ExtensionPoint {
         return Mono.empty();
     }
 
+    /**
+     * This function is used to read the structure of the data source one table at a time. Plugins that can introspect
+     * their data source in pages (like a database catalog) should override this, so that partial structures can be
+     * shown and saved while the rest is being read. By default, the tables from `getStructure` are emitted.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @return Flux of tables in the data source, in the order they should be listed.
+     */
+    default Flux<DatasourceStructure.Table> getStructureTables(C connection, DatasourceConfiguration datasourceConfiguration) {
+        return getStructure(connection, datasourceConfiguration)
+                .flatMapIterable(structure -> structure.getTables() == null ? List.of() : structure.getTables());
+    }
+
+    /**
+     * This function computes a cheap fingerprint of the data source's catalog (like a hash over table and column
+     * names). When the fingerprint is unchanged, a previously saved structure is considered up-to-date and doesn't need
+     * to be read again. Plugins that don't support change detection resolve to empty, and their structures are always
+     * read afresh.
+     *
+     * @param connection              : This is the connection that is established to the data source.
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @return Mono of the fingerprint string, or empty if not supported.
+     */
+    default Mono<String> getStructureFingerprint(C connection, DatasourceConfiguration datasourceConfiguration) {
+        return Mono.empty();
+    }
+
 }
@@ -8,6 +8,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.pluginExceptions.AppsmithPluginException;
@@ -17,9 +18,13 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientURI;
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -30,9 +35,13 @@ import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URLEncoder;
@@ -45,9 +54,12 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 public class MongoPlugin extends BasePlugin {
@@ -68,6 +80,38 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUE_STR = "value";
 
+    private static final String CURSOR = "cursor";
+
+    private static final String TRUNCATED_STR = "truncated";
+
+    private static final String MAX_TIME_MS = "maxTimeMS";
+
+    // Commands that take a `maxTimeMS` limit. Write commands like `insert` and `update` don't take one.
+    private static final Set<String> MAX_TIME_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "findandmodify", "mapReduce", "mapreduce"
+    );
+
+    // Keys in `pluginSpecifiedTemplates` of the action, to override the limits on how much of a cursor is read.
+    private static final String MAX_DOCUMENTS_KEY = "maxDocuments";
+
+    private static final String MAX_BYTES_KEY = "maxBytes";
+
+    private static final long DEFAULT_MAX_DOCUMENTS = 10_000;
+
+    private static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+    // Keys in `properties` of the datasource, to configure how documents are sampled when reading the structure.
+    private static final String STRUCTURE_SAMPLE_SIZE_KEY = "structureSampleSize";
+
+    private static final String STRUCTURE_SAMPLING_TIME_KEY = "structureSamplingTimeMs";
+
+    private static final long DEFAULT_STRUCTURE_SAMPLE_SIZE = 1;
+
+    private static final long DEFAULT_STRUCTURE_SAMPLING_TIME_MS = 5000;
+
+    // Number of collections sampled at the same time, when reading the structure.
+    private static final int STRUCTURE_SAMPLING_CONCURRENCY = 8;
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -96,71 +140,180 @@ public class MongoPlugin extends BasePlugin {
                 throw new StaleConnectionException();
             }
 
-            ActionExecutionResult result = new ActionExecutionResult();
+            MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+
+            Bson command = withMaxTime(Document.parse(actionConfiguration.getBody()), actionConfiguration.getTimeoutInMillisecond());
+
+            // Set when the execution is cancelled, like when the action times out on the server, or the client goes
+            // away, so that the cursor is killed instead of being read further, with nobody waiting for its documents.
+            final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+            return Mono.fromCallable(() -> {
+                        Document mongoOutput = database.runCommand(command);
+
+                        if (!mongoOutput.containsKey(CURSOR)) {
+                            return buildResult(mongoOutput, null, false);
+                        }
+
+                        // The command returned a cursor (`find` or `aggregate`). Follow it till the end, or till the
+                        // limits configured on the action are reached, so that results beyond the first batch are not
+                        // lost.
+                        final CursorPager pager = new CursorPager(database, mongoOutput.get(CURSOR, Document.class), actionConfiguration);
+                        final JSONArray documents = new JSONArray();
+                        try {
+                            for (JSONArray page = pager.nextPage(); page != null && !isCancelled.get(); page = pager.nextPage()) {
+                                page.forEach(documents::put);
+                            }
+                        } finally {
+                            pager.close();
+                        }
+
+                        return buildResult(mongoOutput, documents, pager.isTruncated());
+                    })
+                    .subscribeOn(Schedulers.elastic())
+                    .doOnCancel(() -> isCancelled.set(true))
+                    .onErrorMap(e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+        }
+
+        /**
+         * Same as `execute`, except that for commands returning a cursor, each batch read from the cursor is emitted
+         * as a separate result, as soon as it is read. The cursor is killed if the subscriber cancels midway.
+         */
+        @Override
+        public Flux<ActionExecutionResult> executeStream(MongoClient mongoClient,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            if (mongoClient == null) {
+                log.info("Encountered null connection in MongoDB plugin. Reporting back.");
+                throw new StaleConnectionException();
+            }
 
             MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
-            Bson command = Document.parse(actionConfiguration.getBody());
+            Bson command = withMaxTime(Document.parse(actionConfiguration.getBody()), actionConfiguration.getTimeoutInMillisecond());
 
-            try {
-                Document mongoOutput = database.runCommand(command);
+            return Flux.defer(() -> {
+                        final Document mongoOutput = database.runCommand(command);
 
-                JSONObject outputJson = new JSONObject(mongoOutput.toJson());
+                        if (!mongoOutput.containsKey(CURSOR)) {
+                            return Mono.fromCallable(() -> buildResult(mongoOutput, null, false)).flux();
+                        }
 
-                //The output json contains the key "ok". This is the status of the command
-                BigInteger status = outputJson.getBigInteger("ok");
-                JSONArray headerArray = new JSONArray();
+                        return Flux.<ActionExecutionResult, CursorPager>generate(
+                                () -> new CursorPager(database, mongoOutput.get(CURSOR, Document.class), actionConfiguration),
+                                (pager, sink) -> {
+                                    try {
+                                        final JSONArray page = pager.nextPage();
+                                        if (page == null) {
+                                            sink.complete();
+                                        } else {
+                                            sink.next(buildResult(mongoOutput, page, pager.isTruncated()));
+                                        }
+                                    } catch (Exception e) {
+                                        sink.error(e);
+                                    }
+                                    return pager;
+                                },
+                                CursorPager::close
+                        );
+                    })
+                    .onErrorMap(
+                            e -> !(e instanceof AppsmithPluginException),
+                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e)
+                    )
+                    // The command and the getMore calls block, so they are kept off the caller's thread.
+                    .subscribeOn(Schedulers.elastic());
+        }
 
-                if (BigInteger.ONE.equals(status)) {
-                    result.setIsExecutionSuccess(true);
+        /**
+         * Limits the time the database spends on the command to the action's timeout, for the commands that can be
+         * limited, unless the command sets its own limit. The database stops these commands by itself once nobody is
+         * waiting for them. For commands returning a cursor, the limit covers reading all of the cursor.
+         */
+        static Document withMaxTime(Document command, Integer timeoutInMillisecond) {
+            final String commandName = command.keySet().stream().findFirst().orElse(null);
+            if (timeoutInMillisecond == null
+                    || !MAX_TIME_COMMANDS.contains(commandName)
+                    || command.containsKey(MAX_TIME_MS)) {
+                return command;
+            }
 
-                    // For the `findAndModify` command, we don't get the count of modifications made. Instead, we either
-                    // get the modified new value or the pre-modified old value (depending on the `new` field in the
-                    // command. Let's return that value to the user.
-                    if (outputJson.has(VALUE_STR)) {
-                        result.setBody(objectMapper.readTree(
-                                cleanUp(new JSONObject().put(VALUE_STR, outputJson.get(VALUE_STR))).toString()
-                        ));
-                    }
+            return command.append(MAX_TIME_MS, timeoutInMillisecond);
+        }
 
-                    //The json contains key "cursor" when find command was issued and there are 1 or more results. In case
-                    //there are no results for find, this key is not present in the result json.
-                    if (outputJson.has("cursor")) {
-                        JSONArray outputResult = (JSONArray) cleanUp(
-                                outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                        result.setBody(objectMapper.readTree(outputResult.toString()));
-                    }
+        /**
+         * Builds the action execution result from the output of a command.
+         *
+         * @param mongoOutput     : The output of the command, as returned by `runCommand`.
+         * @param cursorDocuments : Cleaned up documents read from the cursor in the output, if the command returned a
+         *                        cursor. This is used as the body of the result instead of the cursor's `firstBatch`.
+         * @param truncated       : Whether reading of the cursor was stopped because of the documents/bytes limit.
+         * @return The result object to be sent back to the server.
+         */
+        private ActionExecutionResult buildResult(Document mongoOutput,
+                                                  JSONArray cursorDocuments,
+                                                  boolean truncated) throws IOException {
+            ActionExecutionResult result = new ActionExecutionResult();
 
-                    //The json contains key "n" when insert/update command is issued. "n" for update signifies the no of
-                    //documents selected for update. "n" in case of insert signifies the number of documents inserted.
-                    if (outputJson.has("n")) {
-                        JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                        result.setBody(body);
-                        headerArray.put(body);
-                    }
+            // The documents in the cursor are already cleaned up, so we don't serialize them again here.
+            final Document outputWithoutCursor = new Document(mongoOutput);
+            outputWithoutCursor.remove(CURSOR);
+            JSONObject outputJson = new JSONObject(outputWithoutCursor.toJson());
+
+            //The output json contains the key "ok". This is the status of the command
+            BigInteger status = outputJson.getBigInteger("ok");
+            JSONArray headerArray = new JSONArray();
+
+            if (BigInteger.ONE.equals(status)) {
+                result.setIsExecutionSuccess(true);
+
+                // For the `findAndModify` command, we don't get the count of modifications made. Instead, we either
+                // get the modified new value or the pre-modified old value (depending on the `new` field in the
+                // command. Let's return that value to the user.
+                if (outputJson.has(VALUE_STR)) {
+                    result.setBody(objectMapper.readTree(
+                            cleanUp(new JSONObject().put(VALUE_STR, outputJson.get(VALUE_STR))).toString()
+                    ));
+                }
 
-                    //The json key contains key "nModified" in case of update command. This signifies the no of
-                    //documents updated.
-                    if (outputJson.has(N_MODIFIED)) {
-                        JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                        result.setBody(body);
-                        headerArray.put(body);
-                    }
+                //The json contains key "cursor" when find command was issued and there are 1 or more results. In case
+                //there are no results for find, this key is not present in the result json.
+                if (cursorDocuments != null) {
+                    result.setBody(objectMapper.readTree(cursorDocuments.toString()));
+                }
 
-                    /** TODO
-                     * Go through all the possible fields that are returned in the output JSON and add all the fields
-                     * that are important to the headerArray.
-                     */
+                //The json contains key "n" when insert/update command is issued. "n" for update signifies the no of
+                //documents selected for update. "n" in case of insert signifies the number of documents inserted.
+                if (outputJson.has("n")) {
+                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
+                    result.setBody(body);
+                    headerArray.put(body);
                 }
 
-                JSONObject statusJson = new JSONObject().put("ok", status);
-                headerArray.put(statusJson);
-                result.setHeaders(objectMapper.readTree(headerArray.toString()));
-            } catch (Exception e) {
-                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+                //The json key contains key "nModified" in case of update command. This signifies the no of
+                //documents updated.
+                if (outputJson.has(N_MODIFIED)) {
+                    JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
+                    result.setBody(body);
+                    headerArray.put(body);
+                }
+
+                if (truncated) {
+                    headerArray.put(new JSONObject().put(TRUNCATED_STR, true));
+                }
+
+                /** TODO
+                 * Go through all the possible fields that are returned in the output JSON and add all the fields
+                 * that are important to the headerArray.
+                 */
             }
 
-            return Mono.just(result);
+            JSONObject statusJson = new JSONObject().put("ok", status);
+            headerArray.put(statusJson);
+            result.setHeaders(objectMapper.readTree(headerArray.toString()));
+
+            return result;
         }
 
         private String getDatabaseName(DatasourceConfiguration datasourceConfiguration) {
@@ -367,167 +520,368 @@ public class MongoPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration) {
-            final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
-
-            final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
-
-            for (Document collection : database.listCollections()) {
-                final String collectionName = collection.getString("name");
-
-                final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                tables.add(new DatasourceStructure.Table(
-                        DatasourceStructure.TableType.COLLECTION,
-                        collectionName,
-                        columns,
-                        new ArrayList<>(),
-                        templates
-                ));
-
-                final Document first = database.getCollection(collectionName).find().limit(1).first();
-                if (first == null) {
-                    continue;
+            return getStructureTables(mongoClient, datasourceConfiguration)
+                    .collectList()
+                    .map(tables -> {
+                        final DatasourceStructure structure = new DatasourceStructure();
+                        structure.setTables(tables);
+                        return structure;
+                    });
+        }
+
+        /**
+         * Reads the structure of the database one collection at a time, in the order of the collection names. Each
+         * collection's fields are guessed from a sample of its documents. Up to {@link #STRUCTURE_SAMPLING_CONCURRENCY}
+         * collections are sampled at the same time, and the time limit for sampling applies to all of them together.
+         */
+        @Override
+        public Flux<DatasourceStructure.Table> getStructureTables(MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration) {
+            return Flux.defer(() -> {
+                final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                final List<Property> properties = datasourceConfiguration.getProperties();
+                final long sampleSize = getLongProperty(properties, STRUCTURE_SAMPLE_SIZE_KEY, DEFAULT_STRUCTURE_SAMPLE_SIZE);
+                final long deadline = System.currentTimeMillis()
+                        + getLongProperty(properties, STRUCTURE_SAMPLING_TIME_KEY, DEFAULT_STRUCTURE_SAMPLING_TIME_MS);
+
+                return Flux.fromIterable(getSortedCollectionNames(database))
+                        .flatMapSequential(
+                                collectionName -> Mono
+                                        .fromCallable(() -> getTable(database, collectionName, sampleSize, deadline))
+                                        .subscribeOn(Schedulers.elastic()),
+                                STRUCTURE_SAMPLING_CONCURRENCY
+                        );
+            });
+        }
+
+        /**
+         * Collection names are the only part of a Mongo database's structure that can be read without sampling its
+         * documents, so the fingerprint is computed from those alone.
+         */
+        @Override
+        public Mono<String> getStructureFingerprint(MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromCallable(() -> {
+                final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                return DigestUtils.md5DigestAsHex(
+                        String.join(",", getSortedCollectionNames(database)).getBytes(StandardCharsets.UTF_8)
+                );
+            });
+        }
+
+        private static long getLongProperty(List<Property> properties, String key, long defaultValue) {
+            if (properties == null) {
+                return defaultValue;
+            }
+
+            for (Property property : properties) {
+                if (property != null && key.equals(property.getKey()) && !StringUtils.isEmpty(property.getValue())) {
+                    try {
+                        return Long.parseLong(property.getValue().trim());
+                    } catch (NumberFormatException e) {
+                        log.debug("Ignoring invalid value for {}: `{}`.", key, property.getValue());
+                    }
                 }
+            }
+
+            return defaultValue;
+        }
+
+        private static List<String> getSortedCollectionNames(MongoDatabase database) {
+            final List<String> collectionNames = database.listCollectionNames().into(new ArrayList<>());
+            collectionNames.sort(Comparator.naturalOrder());
+            return collectionNames;
+        }
+
+        /**
+         * Samples documents from the collection, to guess its fields from. By default, only the first document is used.
+         * When a larger sample size is configured on the datasource, a random sample is read with `$sample`, but only
+         * till the deadline. Whatever has been read by then is used, so the guessed fields may be from fewer documents.
+         *
+         * @param collection Collection to sample.
+         * @param sampleSize Maximum number of documents to sample.
+         * @param deadline   Time, in epoch milliseconds, after which no more documents are sampled.
+         * @return The sampled documents.
+         */
+        private static List<Document> sampleDocuments(MongoCollection<Document> collection, long sampleSize, long deadline) {
+            final long remainingMillis = deadline - System.currentTimeMillis();
+
+            if (sampleSize <= 1 || remainingMillis <= 0) {
+                // When the time budget has been used up, still look at one document, so the collection's fields are
+                // not left out entirely.
+                final Document first = collection.find().limit(1).first();
+                return first == null ? List.of() : List.of(first);
+            }
+
+            final List<Document> documents = new ArrayList<>();
+            try (MongoCursor<Document> cursor = collection
+                    .aggregate(List.of(Aggregates.sample((int) Math.min(sampleSize, Integer.MAX_VALUE))))
+                    .maxTime(remainingMillis, TimeUnit.MILLISECONDS)
+                    .iterator()) {
+                while (cursor.hasNext() && System.currentTimeMillis() < deadline) {
+                    documents.add(cursor.next());
+                }
+            } catch (MongoExecutionTimeoutException e) {
+                log.debug("Time limit reached while sampling collection {}, after {} documents.",
+                        collection.getNamespace().getCollectionName(), documents.size());
+            }
+
+            return documents;
+        }
+
+        private static DatasourceStructure.Table getTable(MongoDatabase database,
+                                                          String collectionName,
+                                                          long sampleSize,
+                                                          long deadline) {
+            final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+            final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+            final DatasourceStructure.Table table = new DatasourceStructure.Table(
+                    DatasourceStructure.TableType.COLLECTION,
+                    collectionName,
+                    columns,
+                    new ArrayList<>(),
+                    templates
+            );
+
+            final List<Document> documents = sampleDocuments(database.getCollection(collectionName), sampleSize, deadline);
+            if (documents.isEmpty()) {
+                return table;
+            }
 
-                String filterFieldName = null;
-                String filterFieldValue = null;
-                Map<String, String> sampleInsertValues = new LinkedHashMap<>();
+            String filterFieldName = null;
+            String filterFieldValue = null;
+            Map<String, String> sampleInsertValues = new LinkedHashMap<>();
+            Map<String, Set<String>> fieldTypes = new LinkedHashMap<>();
 
-                for (Map.Entry<String, Object> entry : first.entrySet()) {
+            // Merge the fields of all the sampled documents. A field that has different types in different documents
+            // is listed once, with all its types.
+            for (Document document : documents) {
+                for (Map.Entry<String, Object> entry : document.entrySet()) {
                     final String name = entry.getKey();
                     final Object value = entry.getValue();
                     String type;
+                    String sampleValue;
 
                     if (value instanceof Integer) {
                         type = "Integer";
-                        sampleInsertValues.put(name, "1");
+                        sampleValue = "1";
                     } else if (value instanceof Long) {
                         type = "Long";
-                        sampleInsertValues.put(name, "NumberLong(\"1\")");
+                        sampleValue = "NumberLong(\"1\")";
                     } else if (value instanceof Double) {
                         type = "Double";
-                        sampleInsertValues.put(name, "1");
+                        sampleValue = "1";
                     } else if (value instanceof Decimal128) {
                         type = "BigDecimal";
-                        sampleInsertValues.put(name, "NumberDecimal(\"1\")");
+                        sampleValue = "NumberDecimal(\"1\")";
                     } else if (value instanceof String) {
                         type = "String";
-                        sampleInsertValues.put(name, "\"new value\"");
+                        sampleValue = "\"new value\"";
                         if (filterFieldName == null || filterFieldName.compareTo(name) > 0) {
                             filterFieldName = name;
                             filterFieldValue = (String) value;
                         }
                     } else if (value instanceof ObjectId) {
                         type = "ObjectId";
-                        if (!value.equals("_id")) {
-                            sampleInsertValues.put(name, "ObjectId(\"a_valid_object_id_hex\")");
-                        }
+                        sampleValue = "ObjectId(\"a_valid_object_id_hex\")";
                     } else if (value instanceof Collection) {
                         type = "Array";
-                        sampleInsertValues.put(name, "[1, 2, 3]");
+                        sampleValue = "[1, 2, 3]";
                     } else if (value instanceof Date) {
                         type = "Date";
-                        sampleInsertValues.put(name, "new Date(\"2019-07-01\")");
+                        sampleValue = "new Date(\"2019-07-01\")";
                     } else {
                         type = "Object";
-                        sampleInsertValues.put(name, "{}");
+                        sampleValue = "{}";
                     }
 
-                    columns.add(new DatasourceStructure.Column(name, type, null));
+                    sampleInsertValues.putIfAbsent(name, sampleValue);
+                    fieldTypes.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(type);
                 }
+            }
 
-                columns.sort(Comparator.naturalOrder());
-
-                templates.add(
-                        new DatasourceStructure.Template(
-                                "Find",
-                                "{\n" +
-                                        "  \"find\": \"" + collectionName + "\",\n" +
-                                        (
-                                                filterFieldName == null ? "" :
-                                                        "  \"filter\": {\n" +
-                                                        "    \"" + filterFieldName + "\": \"" + filterFieldValue + "\"\n" +
-                                                        "  },\n"
-                                        ) +
-                                        "  \"sort\": {\n" +
-                                        "    \"_id\": 1\n" +
-                                        "  },\n" +
-                                        "  \"limit\": 10\n" +
-                                        "}\n"
-                        )
-                );
+            for (Map.Entry<String, Set<String>> entry : fieldTypes.entrySet()) {
+                columns.add(new DatasourceStructure.Column(entry.getKey(), String.join(" | ", entry.getValue()), null));
+            }
 
-                templates.add(
-                        new DatasourceStructure.Template(
-                                "Find by ID",
-                                "{\n" +
-                                        "  \"find\": \"" + collectionName + "\",\n" +
-                                        "  \"filter\": {\n" +
-                                        "    \"_id\": ObjectId(\"id_to_query_with\")\n" +
-                                        "  }\n" +
-                                        "}\n"
-                        )
-                );
+            columns.sort(Comparator.naturalOrder());
+
+            templates.add(
+                    new DatasourceStructure.Template(
+                            "Find",
+                            "{\n" +
+                                    "  \"find\": \"" + collectionName + "\",\n" +
+                                    (
+                                            filterFieldName == null ? "" :
+                                                    "  \"filter\": {\n" +
+                                                    "    \"" + filterFieldName + "\": \"" + filterFieldValue + "\"\n" +
+                                                    "  },\n"
+                                    ) +
+                                    "  \"sort\": {\n" +
+                                    "    \"_id\": 1\n" +
+                                    "  },\n" +
+                                    "  \"limit\": 10\n" +
+                                    "}\n"
+                    )
+            );
+
+            templates.add(
+                    new DatasourceStructure.Template(
+                            "Find by ID",
+                            "{\n" +
+                                    "  \"find\": \"" + collectionName + "\",\n" +
+                                    "  \"filter\": {\n" +
+                                    "    \"_id\": ObjectId(\"id_to_query_with\")\n" +
+                                    "  }\n" +
+                                    "}\n"
+                    )
+            );
+
+            sampleInsertValues.entrySet().stream()
+                    .map(entry -> "      \"" + entry.getKey() + "\": " + entry.getValue() + ",\n")
+                    .collect(Collectors.joining(""));
+            templates.add(
+                    new DatasourceStructure.Template(
+                            "Insert",
+                            "{\n" +
+                                    "  \"insert\": \"" + collectionName + "\",\n" +
+                                    "  \"documents\": [\n" +
+                                    "    {\n" +
+                                    sampleInsertValues.entrySet().stream()
+                                            .map(entry -> "      \"" + entry.getKey() + "\": " + entry.getValue() + ",\n")
+                                            .sorted()
+                                            .collect(Collectors.joining("")) +
+                                    "    }\n" +
+                                    "  ]\n" +
+                                    "}\n"
+                    )
+            );
+
+            templates.add(
+                    new DatasourceStructure.Template(
+                            "Update",
+                            "{\n" +
+                                    "  \"update\": \"" + collectionName + "\",\n" +
+                                    "  \"updates\": [\n" +
+                                    "    {\n" +
+                                    "      \"q\": {\n" +
+                                    "        \"_id\": ObjectId(\"id_of_document_to_update\")\n" +
+                                    "      },\n" +
+                                    "      \"u\": { \"$set\": { \"" + filterFieldName + "\": \"new value\" } }\n" +
+                                    "    }\n" +
+                                    "  ]\n" +
+                                    "}\n"
+                    )
+            );
+
+            templates.add(
+                    new DatasourceStructure.Template(
+                            "Delete",
+                            "{\n" +
+                                    "  \"delete\": \"" + collectionName + "\",\n" +
+                                    "  \"deletes\": [\n" +
+                                    "    {\n" +
+                                    "      \"q\": {\n" +
+                                    "        \"_id\": \"id_of_document_to_delete\"\n" +
+                                    "      },\n" +
+                                    "      \"limit\": 1\n" +
+                                    "    }\n" +
+                                    "  ]\n" +
+                                    "}\n"
+                    )
+            );
+
+            return table;
+        }
 
-                sampleInsertValues.entrySet().stream()
-                        .map(entry -> "      \"" + entry.getKey() + "\": " + entry.getValue() + ",\n")
-                        .collect(Collectors.joining(""));
-                templates.add(
-                        new DatasourceStructure.Template(
-                                "Insert",
-                                "{\n" +
-                                        "  \"insert\": \"" + collectionName + "\",\n" +
-                                        "  \"documents\": [\n" +
-                                        "    {\n" +
-                                        sampleInsertValues.entrySet().stream()
-                                                .map(entry -> "      \"" + entry.getKey() + "\": " + entry.getValue() + ",\n")
-                                                .sorted()
-                                                .collect(Collectors.joining("")) +
-                                        "    }\n" +
-                                        "  ]\n" +
-                                        "}\n"
-                        )
-                );
+        /**
+         * Reads the documents of a cursor returned by a command, one batch at a time. The first batch comes with the
+         * command's output, and the following ones are fetched with `getMore`, till the cursor is exhausted, or the
+         * number of documents or their (approximate) size crosses the limits set on the action.
+         */
+        private static class CursorPager {
+
+            private final MongoDatabase database;
+            private final String collectionName;
+            private final long maxDocuments;
+            private final long maxBytes;
+
+            private long cursorId;
+            private List<Document> batch;
+            private long documentCount = 0;
+            private long byteCount = 0;
+            private boolean truncated = false;
+
+            CursorPager(MongoDatabase database, Document cursor, ActionConfiguration actionConfiguration) {
+                this.database = database;
+                // The namespace is of the form `database.collection`, and the collection name may itself have dots.
+                final String namespace = cursor.getString("ns");
+                this.collectionName = namespace.substring(namespace.indexOf('.') + 1);
+                this.maxDocuments = getLongProperty(actionConfiguration.getPluginSpecifiedTemplates(), MAX_DOCUMENTS_KEY, DEFAULT_MAX_DOCUMENTS);
+                this.maxBytes = getLongProperty(actionConfiguration.getPluginSpecifiedTemplates(), MAX_BYTES_KEY, DEFAULT_MAX_BYTES);
+                this.cursorId = ((Number) cursor.get("id")).longValue();
+                this.batch = cursor.getList("firstBatch", Document.class);
+            }
 
-                templates.add(
-                        new DatasourceStructure.Template(
-                                "Update",
-                                "{\n" +
-                                        "  \"update\": \"" + collectionName + "\",\n" +
-                                        "  \"updates\": [\n" +
-                                        "    {\n" +
-                                        "      \"q\": {\n" +
-                                        "        \"_id\": ObjectId(\"id_of_document_to_update\")\n" +
-                                        "      },\n" +
-                                        "      \"u\": { \"$set\": { \"" + filterFieldName + "\": \"new value\" } }\n" +
-                                        "    }\n" +
-                                        "  ]\n" +
-                                        "}\n"
-                        )
-                );
+            boolean isTruncated() {
+                return truncated;
+            }
 
-                templates.add(
-                        new DatasourceStructure.Template(
-                                "Delete",
-                                "{\n" +
-                                        "  \"delete\": \"" + collectionName + "\",\n" +
-                                        "  \"deletes\": [\n" +
-                                        "    {\n" +
-                                        "      \"q\": {\n" +
-                                        "        \"_id\": \"id_of_document_to_delete\"\n" +
-                                        "      },\n" +
-                                        "      \"limit\": 1\n" +
-                                        "    }\n" +
-                                        "  ]\n" +
-                                        "}\n"
-                        )
-                );
+            /**
+             * @return The next page of cleaned up documents, or null if there are no more pages to be read.
+             */
+            JSONArray nextPage() {
+                if (truncated) {
+                    return null;
+                }
+
+                if (batch == null) {
+                    if (cursorId == 0) {
+                        return null;
+                    }
+                    final Document cursor = database
+                            .runCommand(new Document("getMore", cursorId).append("collection", collectionName))
+                            .get(CURSOR, Document.class);
+                    cursorId = ((Number) cursor.get("id")).longValue();
+                    batch = cursor.getList("nextBatch", Document.class);
+                }
+
+                final JSONArray page = new JSONArray();
+                for (Document document : batch) {
+                    if (documentCount >= maxDocuments || byteCount >= maxBytes) {
+                        truncated = true;
+                        break;
+                    }
+                    final String json = document.toJson();
+                    documentCount++;
+                    byteCount += json.length();
+                    page.put(cleanUp(new JSONObject(json)));
+                }
+                batch = null;
+
+                // Once the limits are reached at the end of a batch, the cursor isn't read any further, so that no more
+                // documents are fetched only to be dropped, and no empty page is given out.
+                if (cursorId != 0 && (documentCount >= maxDocuments || byteCount >= maxBytes)) {
+                    truncated = true;
+                }
+
+                return page;
+            }
+
+            /**
+             * Kills the cursor on the server, if it has not been exhausted yet.
+             */
+            void close() {
+                if (cursorId == 0) {
+                    return;
+                }
+
+                try {
+                    database.runCommand(new Document("killCursors", collectionName).append("cursors", List.of(cursorId)));
+                } catch (Exception e) {
+                    log.warn("Error killing cursor {} on collection {}.", cursorId, collectionName, e);
+                }
+                cursorId = 0;
             }
 
-            tables.sort(Comparator.comparing(DatasourceStructure.Table::getName));
-            return Mono.just(structure);
         }
 
     }
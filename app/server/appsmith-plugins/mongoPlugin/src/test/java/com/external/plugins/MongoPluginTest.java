@@ -6,6 +6,7 @@ import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -16,6 +17,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.GenericContainer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -129,6 +131,103 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteReadQueryBeyondFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { age: { $gte: 30 } },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQueryWithDocumentLimit() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { age: { $gte: 30 } },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("maxDocuments", "1")));
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                    assertTrue(result.getHeaders().findValue("truncated").asBoolean());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreamReadQuery() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { age: { $gte: 30 } },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+
+        Flux<ActionExecutionResult> executeFlux = dsConnectionMono
+                .flatMapMany(conn -> pluginExecutor.executeStream(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeFlux)
+                .assertNext(result -> assertEquals(1, ((ArrayNode) result.getBody()).size()))
+                .assertNext(result -> assertEquals(1, ((ArrayNode) result.getBody()).size()))
+                .thenConsumeWhile(result -> ((ArrayNode) result.getBody()).size() == 0)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreamReadQueryWithDocumentLimit() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\n" +
+                "      find: \"users\",\n" +
+                "      filter: { age: { $gte: 30 } },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("maxDocuments", "1")));
+
+        Flux<ActionExecutionResult> executeFlux = dsConnectionMono
+                .flatMapMany(conn -> pluginExecutor.executeStream(conn, dsConfig, actionConfiguration));
+
+        // The limit is reached with the first batch, so the cursor isn't read further, and no empty page follows.
+        StepVerifier.create(executeFlux)
+                .assertNext(result -> {
+                    assertEquals(1, ((ArrayNode) result.getBody()).size());
+                    assertTrue(result.getHeaders().findValue("truncated").asBoolean());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteWriteQuery() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -312,4 +411,51 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testStructureWithSampling() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        dsConfig.setProperties(List.of(
+                new Property("structureSampleSize", "10"),
+                new Property("structureSamplingTimeMs", "10000")
+        ));
+        Mono<DatasourceStructure> structureMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertEquals(1, structure.getTables().size());
+
+                    final DatasourceStructure.Table usersTable = structure.getTables().get(0);
+                    assertEquals("users", usersTable.getName());
+                    assertArrayEquals(
+                            new DatasourceStructure.Column[]{
+                                    new DatasourceStructure.Column("_id", "ObjectId", null),
+                                    new DatasourceStructure.Column("age", "Integer", null),
+                                    new DatasourceStructure.Column("dob", "Date", null),
+                                    new DatasourceStructure.Column("gender", "String", null),
+                                    new DatasourceStructure.Column("luckyNumber", "Long", null),
+                                    new DatasourceStructure.Column("name", "String", null),
+                                    new DatasourceStructure.Column("netWorth", "BigDecimal", null),
+                            },
+                            usersTable.getColumns().toArray()
+                    );
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testMaxTimeIsAddedToReadCommands() {
+        final Document find = MongoPlugin.MongoPluginExecutor.withMaxTime(Document.parse("{find: \"users\"}"), 5000);
+        assertEquals(5000, find.get("maxTimeMS"));
+
+        // A limit set on the command is kept.
+        final Document aggregate = MongoPlugin.MongoPluginExecutor.withMaxTime(
+                Document.parse("{aggregate: \"users\", pipeline: [], cursor: {}, maxTimeMS: 100}"), 5000);
+        assertEquals(100, aggregate.get("maxTimeMS"));
+
+        // Write commands don't take a limit.
+        final Document insert = MongoPlugin.MongoPluginExecutor.withMaxTime(
+                Document.parse("{insert: \"users\", documents: [{name: \"Zoe\"}]}"), 5000);
+        assertTrue(!insert.containsKey("maxTimeMS"));
+    }
 }
@@ -7,7 +7,9 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SqlSyntax;
 import com.appsmith.external.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.pluginExceptions.StaleConnectionException;
@@ -20,25 +22,34 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
@@ -68,6 +79,7 @@ public class MySqlPlugin extends BasePlugin {
             "                        and col.table_name = tab.table_name\n" +
             "where tab.table_type = 'BASE TABLE'\n" +
             "  and tab.table_schema = database()\n" +
+            "  and tab.table_name in (%s)\n" +
             "order by tab.table_name,\n" +
             "         col.ordinal_position;";
 
@@ -86,8 +98,27 @@ public class MySqlPlugin extends BasePlugin {
             "  and k.constraint_schema = database()\n" +
             // "  and i.enforced = 'YES'\n" +  // Looks like this is not available on all versions of MySQL.
             "  and i.constraint_type in ('FOREIGN KEY', 'PRIMARY KEY')\n" +
+            "  and i.table_name in (%s)\n" +
             "order by i.table_name, i.constraint_name, k.position_in_unique_constraint;";
 
+    private static final String TABLE_NAMES_QUERY = "select table_name\n" +
+            "from information_schema.tables\n" +
+            "where table_type = 'BASE TABLE'\n" +
+            "  and table_schema = database()\n" +
+            "order by table_name;";
+
+    private static final String FINGERPRINT_QUERY = "select concat(\n" +
+            "           count(*), ':',\n" +
+            "           coalesce(sum(crc32(concat_ws(':', table_name, column_name, data_type, column_key))), 0)\n" +
+            "       ) as fingerprint\n" +
+            "from information_schema.columns\n" +
+            "where table_schema = database();";
+
+    /**
+     * Number of tables whose columns and keys are read with a single query, when reading the structure.
+     */
+    private static final int STRUCTURE_PAGE_SIZE = 100;
+
     public MySqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -96,6 +127,14 @@ public class MySqlPlugin extends BasePlugin {
     @Extension
     public static class MySqlPluginExecutor implements PluginExecutor<Connection> {
 
+        private static final SqlSyntax SQL_SYNTAX = SqlSyntax.builder()
+                .stringQuotes(Set.of('\'', '"'))
+                .identifierQuotes(Set.of('`'))
+                .backslashEscapes(true)
+                .hashComments(true)
+                .dashCommentNeedsWhitespace(true)
+                .build();
+
         @Override
         public Mono<ActionExecutionResult> execute(Connection connection,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -118,52 +157,51 @@ public class MySqlPlugin extends BasePlugin {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Missing required parameter: Query."));
             }
 
+            // The statement being executed is kept, so that it can be cancelled on the database when the execution is
+            // cancelled, like when the action times out on the server, or the client goes away. Otherwise, the query
+            // would keep running on the database, and hold the connection, with nobody waiting for its result.
+            final AtomicReference<Statement> runningStatement = new AtomicReference<>();
+            final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+            return Mono.fromCallable(() -> executeQuery(connection, query, actionConfiguration, runningStatement, isCancelled))
+                    .subscribeOn(Schedulers.elastic())
+                    .doOnCancel(() -> {
+                        isCancelled.set(true);
+                        cancelStatement(runningStatement.get());
+                    });
+        }
+
+        private ActionExecutionResult executeQuery(Connection connection,
+                                                   String query,
+                                                   ActionConfiguration actionConfiguration,
+                                                   AtomicReference<Statement> runningStatement,
+                                                   AtomicBoolean isCancelled) throws AppsmithPluginException {
             List<Map<String, Object>> rowsList = new ArrayList<>(50);
 
             Statement statement = null;
             ResultSet resultSet = null;
             try {
-                statement = connection.createStatement();
-                boolean isResultSet = statement.execute(query);
+                boolean isResultSet;
+                if (isPreparedStatement(actionConfiguration)) {
+                    // The driver caches prepared statements on this connection, so executing the same query again,
+                    // with different values, reuses the plan prepared on the server.
+                    final PreparedStatement preparedStatement = connection.prepareStatement(query);
+                    statement = preparedStatement;
+                    bindParams(preparedStatement, actionConfiguration.getBodyParams());
+                    startStatement(statement, actionConfiguration, runningStatement, isCancelled);
+                    isResultSet = preparedStatement.execute();
+                } else {
+                    statement = connection.createStatement();
+                    startStatement(statement, actionConfiguration, runningStatement, isCancelled);
+                    isResultSet = statement.execute(query);
+                }
 
                 if (isResultSet) {
                     resultSet = statement.getResultSet();
-                    ResultSetMetaData metaData = resultSet.getMetaData();
-                    int colCount = metaData.getColumnCount();
-                    while (resultSet.next()) {
-                        // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                        Map<String, Object> row = new LinkedHashMap<>(colCount);
-                        rowsList.add(row);
-
-                        for (int i = 1; i <= colCount; i++) {
-                            Object value;
-                            final String typeName = metaData.getColumnTypeName(i);
-
-                            if (resultSet.getObject(i) == null) {
-                                value = null;
-
-                            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                            } else if (DATETIME_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)
-                                    || TIMESTAMP_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                        LocalDateTime.of(
-                                                resultSet.getDate(i).toLocalDate(),
-                                                resultSet.getTime(i).toLocalTime()
-                                        )
-                                ) + "Z";
-
-                            } else if ("year".equalsIgnoreCase(typeName)) {
-                                value = resultSet.getDate(i).toLocalDate().getYear();
-
-                            } else {
-                                value = resultSet.getObject(i);
-
-                            }
-
-                            row.put(metaData.getColumnLabel(i), value);
-                        }
+                    final ColumnDecoderPlan plan = ColumnDecoderPlan.of(resultSet.getMetaData());
+                    // Rows already sent by the database are not decoded once the execution is cancelled.
+                    while (!isCancelled.get() && resultSet.next()) {
+                        rowsList.add(plan.decodeRow(resultSet));
                     }
 
                 } else {
@@ -175,9 +213,11 @@ public class MySqlPlugin extends BasePlugin {
                 }
 
             } catch (SQLException e) {
-                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
 
             } finally {
+                runningStatement.set(null);
+
                 if (resultSet != null) {
                     try {
                         resultSet.close();
@@ -199,8 +239,159 @@ public class MySqlPlugin extends BasePlugin {
             ActionExecutionResult result = new ActionExecutionResult();
             result.setBody(objectMapper.valueToTree(rowsList));
             result.setIsExecutionSuccess(true);
-            log.debug("In the MySqlPlugin, got action execution result: " + result.toString());
-            return Mono.just(result);
+            log.debug("In the MySqlPlugin, got action execution result: {}", result);
+            return result;
+        }
+
+        /**
+         * Gets the statement ready to be executed: it is given the action's timeout, so that the database stops the
+         * query by itself if the cancel from the server doesn't reach it, and it is made cancellable.
+         */
+        private static void startStatement(Statement statement,
+                                           ActionConfiguration actionConfiguration,
+                                           AtomicReference<Statement> runningStatement,
+                                           AtomicBoolean isCancelled) throws SQLException {
+            statement.setQueryTimeout(toQueryTimeoutSeconds(actionConfiguration.getTimeoutInMillisecond()));
+            runningStatement.set(statement);
+            // The execution may have been cancelled before the statement could be cancelled.
+            if (isCancelled.get()) {
+                throw new SQLException("Execution of the query was cancelled.");
+            }
+        }
+
+        static int toQueryTimeoutSeconds(Integer timeoutInMillisecond) {
+            // Rounded up, since a timeout of zero seconds means no timeout.
+            return timeoutInMillisecond == null ? 0 : (int) ((timeoutInMillisecond + 999L) / 1000);
+        }
+
+        private static void cancelStatement(Statement statement) {
+            if (statement == null) {
+                return;
+            }
+
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.warn("Error cancelling MySQL Statement", e);
+            }
+        }
+
+        /**
+         * Reads a column of the current row of a result set, as the value to be given in the response.
+         */
+        @FunctionalInterface
+        interface ColumnReader {
+            Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+        }
+
+        private static final ColumnReader DATE_READER = (resultSet, columnIndex) -> {
+            final Date date = resultSet.getDate(columnIndex);
+            return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+        };
+
+        private static final ColumnReader DATETIME_READER = (resultSet, columnIndex) -> {
+            final Timestamp timestamp = resultSet.getTimestamp(columnIndex);
+            // Fractions of a second are dropped, as they always have been in the responses.
+            return timestamp == null
+                    ? null
+                    : DateTimeFormatter.ISO_DATE_TIME.format(timestamp.toLocalDateTime().withNano(0)) + "Z";
+        };
+
+        private static final ColumnReader YEAR_READER = (resultSet, columnIndex) -> {
+            final Date date = resultSet.getDate(columnIndex);
+            return date == null ? null : date.toLocalDate().getYear();
+        };
+
+        private static final ColumnReader OBJECT_READER = ResultSet::getObject;
+
+        /**
+         * The labels and readers of the columns of a query's result, worked out once from the result's metadata, so
+         * that decoding each row needs no metadata lookups or comparisons of type names.
+         */
+        static class ColumnDecoderPlan {
+
+            private final String[] columnLabels;
+
+            private final ColumnReader[] columnReaders;
+
+            // Capacity of each row's map, so that it holds all the columns without being resized.
+            private final int rowCapacity;
+
+            private ColumnDecoderPlan(String[] columnLabels, ColumnReader[] columnReaders) {
+                this.columnLabels = columnLabels;
+                this.columnReaders = columnReaders;
+                this.rowCapacity = (int) (columnLabels.length / 0.75f) + 1;
+            }
+
+            static ColumnDecoderPlan of(ResultSetMetaData metaData) throws SQLException {
+                final int colCount = metaData.getColumnCount();
+                final String[] columnLabels = new String[colCount];
+                final ColumnReader[] columnReaders = new ColumnReader[colCount];
+
+                for (int i = 0; i < colCount; i++) {
+                    columnLabels[i] = metaData.getColumnLabel(i + 1);
+                    columnReaders[i] = readerForType(metaData.getColumnTypeName(i + 1));
+                }
+
+                return new ColumnDecoderPlan(columnLabels, columnReaders);
+            }
+
+            private static ColumnReader readerForType(String typeName) {
+                switch (typeName == null ? "" : typeName.toLowerCase(Locale.ROOT)) {
+                    case DATE_COLUMN_TYPE_NAME:
+                        return DATE_READER;
+                    case DATETIME_COLUMN_TYPE_NAME:
+                    case TIMESTAMP_COLUMN_TYPE_NAME:
+                        return DATETIME_READER;
+                    case "year":
+                        return YEAR_READER;
+                    default:
+                        return OBJECT_READER;
+                }
+            }
+
+            Map<String, Object> decodeRow(ResultSet resultSet) throws SQLException {
+                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+                final Map<String, Object> row = new LinkedHashMap<>(rowCapacity);
+                for (int i = 0; i < columnReaders.length; i++) {
+                    row.put(columnLabels[i], columnReaders[i].read(resultSet, i + 1));
+                }
+                return row;
+            }
+
+        }
+
+        @Override
+        public boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            return !CollectionUtils.isEmpty(properties)
+                    && properties.get(0) != null
+                    && "true".equalsIgnoreCase(properties.get(0).getValue());
+        }
+
+        /**
+         * MySQL takes double quoted strings and backslash escapes, and quotes identifiers with backticks, unless the
+         * `ANSI_QUOTES` or `NO_BACKSLASH_ESCAPES` SQL modes are set on the server.
+         */
+        @Override
+        public SqlSyntax getSqlSyntax() {
+            return SQL_SYNTAX;
+        }
+
+        private static void bindParams(PreparedStatement preparedStatement, List<Param> params) throws SQLException {
+            if (params == null) {
+                return;
+            }
+
+            for (int i = 0; i < params.size(); ++i) {
+                final Param param = params.get(i);
+                if (param.getValue() == null) {
+                    preparedStatement.setNull(i + 1, Types.NULL);
+                } else {
+                    // MySQL converts string parameters to the type expected by the query, as it does for literals.
+                    preparedStatement.setString(i + 1, param.getValue());
+                }
+            }
         }
 
         @Override
@@ -246,6 +437,13 @@ public class MySqlPlugin extends BasePlugin {
 
             urlBuilder.append("?zeroDateTimeBehavior=convertToNull");
 
+            // Prepare statements on the server and cache them on the connection, so that actions executed as prepared
+            // statements reuse their plans across executions.
+            properties.put("useServerPrepStmts", "true");
+            properties.put("cachePrepStmts", "true");
+            properties.put("prepStmtCacheSize", "250");
+            properties.put("prepStmtCacheSqlLimit", "2048");
+
             final List<Property> dsProperties = datasourceConfiguration.getProperties();
             if (dsProperties != null) {
                 for (Property property : dsProperties) {
@@ -334,26 +532,98 @@ public class MySqlPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructureTables(connection, datasourceConfiguration)
+                    .collectList()
+                    .map(tables -> {
+                        final DatasourceStructure structure = new DatasourceStructure();
+                        structure.setTables(tables);
+                        return structure;
+                    });
+        }
+
+        /**
+         * Reads the structure of the database, {@link #STRUCTURE_PAGE_SIZE} tables at a time. The names of all the
+         * tables are read first, and then the columns and keys of each page of tables are read with queries restricted
+         * to the tables in that page.
+         */
+        @Override
+        public Flux<DatasourceStructure.Table> getStructureTables(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Flux.defer(() -> {
+                checkConnectionValidity(connection);
+
+                final List<String> tableNames = new ArrayList<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet tableNamesResultSet = statement.executeQuery(TABLE_NAMES_QUERY)) {
+                    while (tableNamesResultSet.next()) {
+                        tableNames.add(tableNamesResultSet.getString("table_name"));
+                    }
+                } catch (SQLException throwable) {
+                    return Flux.error(Exceptions.propagate(throwable));
+                }
+
+                return Flux.range(0, (tableNames.size() + STRUCTURE_PAGE_SIZE - 1) / STRUCTURE_PAGE_SIZE)
+                        .map(page -> tableNames.subList(
+                                page * STRUCTURE_PAGE_SIZE,
+                                Math.min(tableNames.size(), (page + 1) * STRUCTURE_PAGE_SIZE)
+                        ))
+                        .concatMap(pageTableNames -> Mono.fromCallable(() -> getTables(connection, pageTableNames)))
+                        .concatMapIterable(tables -> tables);
+            });
+        }
+
+        @Override
+        public Mono<String> getStructureFingerprint(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromCallable(() -> {
+                checkConnectionValidity(connection);
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(FINGERPRINT_QUERY)) {
+                    return resultSet.next() ? resultSet.getString("fingerprint") : null;
+                }
+            });
+        }
+
+        private void checkConnectionValidity(Connection connection) {
             try {
                 if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
-                    log.info("Encountered stale connection in Postgres plugin. Reporting back.");
+                    log.info("Encountered stale connection in MySQL plugin. Reporting back.");
                     throw new StaleConnectionException();
                 }
             } catch (SQLException error) {
                 // This exception is thrown only when the timeout to `isValid` is negative. Since, that's not the case,
                 // here, this should never happen.
-                log.error("Error checking validity of Postgres connection.", error);
+                log.error("Error checking validity of MySQL connection.", error);
+            }
+        }
+
+        private static PreparedStatement prepareForTables(Connection connection, String query, List<String> tableNames) throws SQLException {
+            final PreparedStatement statement = connection.prepareStatement(
+                    String.format(query, String.join(", ", Collections.nCopies(tableNames.size(), "?")))
+            );
+            for (int i = 0; i < tableNames.size(); i++) {
+                statement.setString(i + 1, tableNames.get(i));
             }
+            return statement;
+        }
 
-            final DatasourceStructure structure = new DatasourceStructure();
+        /**
+         * Reads the columns and keys of the given tables, and computes their templates.
+         *
+         * @param connection Connection to the database.
+         * @param tableNames Names of the tables to read.
+         * @return The tables, ordered by their names.
+         * @throws SQLException If any of the queries fail.
+         */
+        private List<DatasourceStructure.Table> getTables(Connection connection, List<String> tableNames) throws SQLException {
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
 
             // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
 
-            try (Statement statement = connection.createStatement()) {
+            try (PreparedStatement columnsStatement = prepareForTables(connection, COLUMNS_QUERY, tableNames);
+                 PreparedStatement keysStatement = prepareForTables(connection, KEYS_QUERY, tableNames)) {
 
                 // Get tables and fill up their columns.
-                try (ResultSet columnsResultSet = statement.executeQuery(COLUMNS_QUERY)) {
+                try (ResultSet columnsResultSet = columnsStatement.executeQuery()) {
                     while (columnsResultSet.next()) {
                         final String tableName = columnsResultSet.getString("table_name");
                         if (!tablesByName.containsKey(tableName)) {
@@ -375,7 +645,7 @@ public class MySqlPlugin extends BasePlugin {
                 }
 
                 // Get tables' constraints and fill those up.
-                try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
+                try (ResultSet constraintsResultSet = keysStatement.executeQuery()) {
                     final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
                     while (constraintsResultSet.next()) {
@@ -425,68 +695,65 @@ public class MySqlPlugin extends BasePlugin {
                     }
                 }
 
-                // Get/compute templates for each table and put those in.
-                for (DatasourceStructure.Table table : tablesByName.values()) {
-                    final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
-                            .stream()
-                            .filter(column -> column.getDefaultValue() == null)
-                            .collect(Collectors.toList());
-
-                    final List<String> columnNames = new ArrayList<>();
-                    final List<String> columnValues = new ArrayList<>();
-                    final StringBuilder setFragments = new StringBuilder();
-
-                    for (DatasourceStructure.Column column : columnsWithoutDefault) {
-                        final String name = column.getName();
-                        final String type = column.getType();
-                        String value;
-
-                        if (type == null) {
-                            value = "null";
-                        } else if ("text".equals(type) || "varchar".equals(type)) {
-                            value = "''";
-                        } else if (type.startsWith("int")) {
-                            value = "1";
-                        } else if (type.startsWith("double")) {
-                            value = "1.0";
-                        } else if (DATE_COLUMN_TYPE_NAME.equals(type)) {
-                            value = "'2019-07-01'";
-                        } else if (DATETIME_COLUMN_TYPE_NAME.equals(type)
-                                || TIMESTAMP_COLUMN_TYPE_NAME.equals(type)) {
-                            value = "'2019-07-01 10:00:00'";
-                        } else {
-                            value = "''";
-                        }
+            }
 
-                        columnNames.add(name);
-                        columnValues.add(value);
-                        setFragments.append("\n    ").append(name).append(" = ").append(value);
-                    }
+            for (DatasourceStructure.Table table : tablesByName.values()) {
+                table.getKeys().sort(Comparator.naturalOrder());
+                addTemplates(table);
+            }
 
-                    final String tableName = table.getName();
-                    table.getTemplates().addAll(List.of(
-                            new DatasourceStructure.Template("SELECT", "SELECT * FROM " + tableName + " LIMIT 10;"),
-                            new DatasourceStructure.Template("INSERT", "INSERT INTO " + tableName
-                                    + " (" + String.join(", ", columnNames) + ")\n"
-                                    + "  VALUES (" + String.join(", ", columnValues) + ");"),
-                            new DatasourceStructure.Template("UPDATE", "UPDATE " + tableName + " SET"
-                                    + setFragments.toString() + "\n"
-                                    + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
-                            new DatasourceStructure.Template("DELETE", "DELETE FROM " + tableName
-                                    + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
-                    ));
-                }
+            return new ArrayList<>(tablesByName.values());
+        }
 
-            } catch (SQLException throwable) {
-                return Mono.error(Exceptions.propagate(throwable));
+        private static void addTemplates(DatasourceStructure.Table table) {
+            final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
+                    .stream()
+                    .filter(column -> column.getDefaultValue() == null)
+                    .collect(Collectors.toList());
+
+            final List<String> columnNames = new ArrayList<>();
+            final List<String> columnValues = new ArrayList<>();
+            final StringBuilder setFragments = new StringBuilder();
+
+            for (DatasourceStructure.Column column : columnsWithoutDefault) {
+                final String name = column.getName();
+                final String type = column.getType();
+                String value;
+
+                if (type == null) {
+                    value = "null";
+                } else if ("text".equals(type) || "varchar".equals(type)) {
+                    value = "''";
+                } else if (type.startsWith("int")) {
+                    value = "1";
+                } else if (type.startsWith("double")) {
+                    value = "1.0";
+                } else if (DATE_COLUMN_TYPE_NAME.equals(type)) {
+                    value = "'2019-07-01'";
+                } else if (DATETIME_COLUMN_TYPE_NAME.equals(type)
+                        || TIMESTAMP_COLUMN_TYPE_NAME.equals(type)) {
+                    value = "'2019-07-01 10:00:00'";
+                } else {
+                    value = "''";
+                }
 
+                columnNames.add(name);
+                columnValues.add(value);
+                setFragments.append("\n    ").append(name).append(" = ").append(value);
             }
 
-            structure.setTables(new ArrayList<>(tablesByName.values()));
-            for (DatasourceStructure.Table table : structure.getTables()) {
-                table.getKeys().sort(Comparator.naturalOrder());
-            }
-            return Mono.just(structure);
+            final String tableName = table.getName();
+            table.getTemplates().addAll(List.of(
+                    new DatasourceStructure.Template("SELECT", "SELECT * FROM " + tableName + " LIMIT 10;"),
+                    new DatasourceStructure.Template("INSERT", "INSERT INTO " + tableName
+                            + " (" + String.join(", ", columnNames) + ")\n"
+                            + "  VALUES (" + String.join(", ", columnValues) + ");"),
+                    new DatasourceStructure.Template("UPDATE", "UPDATE " + tableName + " SET"
+                            + setFragments.toString() + "\n"
+                            + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
+                    new DatasourceStructure.Template("DELETE", "DELETE FROM " + tableName
+                            + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
+            ));
         }
     }
 }
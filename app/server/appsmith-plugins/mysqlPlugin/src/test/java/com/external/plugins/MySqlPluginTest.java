@@ -6,6 +6,7 @@ import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -209,6 +210,36 @@ public class MySqlPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecutePreparedStatement() {
+        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        // Rendered from "... WHERE `username` LIKE '%{{ Input1.text }}%' AND email <> '{{ Input2.text }}'", where the
+        // literals with bindings become placeholders whose values are the whole literals.
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id, `username` FROM users WHERE `username` LIKE ? AND email <> ?");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+        actionConfiguration.setBodyParams(List.of(
+                new Param("Input1.text", "%ac%"),
+                new Param("Input2.text", "\\'; drop table users; -- ")
+        ));
+
+        assertTrue(pluginExecutor.isPreparedStatement(actionConfiguration));
+        assertTrue(pluginExecutor.getSqlSyntax().getIdentifierQuotes().contains('`'));
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final ArrayNode rows = (ArrayNode) result.getBody();
+                    assertEquals(1, rows.size());
+                    assertEquals("Jack", rows.get(0).get("username").asText());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testValidateDatasourceNullCredentials() {
         dsConfig.setConnection(new com.appsmith.external.models.Connection());
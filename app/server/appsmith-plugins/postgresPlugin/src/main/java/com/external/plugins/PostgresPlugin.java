@@ -7,7 +7,10 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.SqlSyntax;
 import com.appsmith.external.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.pluginExceptions.StaleConnectionException;
@@ -21,15 +24,21 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.sql.Array;
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -37,9 +46,12 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -85,8 +97,44 @@ public class PostgresPlugin extends BasePlugin {
                 "  and n.nspname not in ('information_schema', 'pg_catalog')\n" +
                 "  and c.relkind in ('r', 'v')\n" +
                 "  and pg_catalog.pg_table_is_visible(a.attrelid)\n" +
+                "  and c.oid::bigint = any(?)\n" +
                 "order by c.relname, a.attnum;";
 
+        private static final String TABLE_IDS_QUERY =
+                "select c.oid::bigint as id\n" +
+                "from pg_catalog.pg_class c\n" +
+                "         left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n" +
+                "where n.nspname not in ('information_schema', 'pg_catalog')\n" +
+                "  and c.relkind in ('r', 'v')\n" +
+                "  and pg_catalog.pg_table_is_visible(c.oid)\n" +
+                "order by c.relname, c.oid;";
+
+        private static final String FINGERPRINT_QUERY =
+                "select md5(\n" +
+                "   (select coalesce(string_agg(c.oid::text || ':' || c.relname || ':' || a.attname || ':' || a.atttypid::text\n" +
+                "                                   || ':' || a.atthasdef::text, ',' order by c.oid, a.attnum), '')\n" +
+                "    from pg_catalog.pg_attribute a\n" +
+                "             inner join pg_catalog.pg_class c on a.attrelid = c.oid\n" +
+                "             left join pg_catalog.pg_namespace n on c.relnamespace = n.oid\n" +
+                "    where a.attnum > 0\n" +
+                "      and not a.attisdropped\n" +
+                "      and n.nspname not in ('information_schema', 'pg_catalog')\n" +
+                "      and c.relkind in ('r', 'v'))\n" +
+                "   || '|' ||\n" +
+                "   (select coalesce(string_agg(c.oid::text, ',' order by c.oid), '')\n" +
+                "    from pg_catalog.pg_constraint c\n" +
+                "    where c.contype in ('p', 'f'))\n" +
+                ") as fingerprint;";
+
+        /**
+         * Number of tables whose columns and keys are read with a single catalog query, when reading the structure.
+         */
+        private static final int STRUCTURE_PAGE_SIZE = 100;
+
+        private static final SqlSyntax SQL_SYNTAX = SqlSyntax.builder()
+                .dollarQuoting(true)
+                .build();
+
         public static final String KEYS_QUERY =
                 "select c.conname                                         as constraint_name,\n" +
                 "       c.contype                                         as constraint_type,\n" +
@@ -107,6 +155,7 @@ public class PostgresPlugin extends BasePlugin {
                 "         left join pg_class f_tbl on f_tbl.oid = c.confrelid\n" +
                 "         left join pg_namespace f_sch on f_sch.oid = f_tbl.relnamespace\n" +
                 "         left join pg_attribute f_col on (f_col.attrelid = f_tbl.oid and f_col.attnum = f_u.attnum)\n" +
+                "where c.conrelid::bigint = any(?)\n" +
                 "group by constraint_name, constraint_type, self_schema, self_table, definition, foreign_schema, foreign_table\n" +
                 "order by self_schema, self_table;";
 
@@ -132,61 +181,51 @@ public class PostgresPlugin extends BasePlugin {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Missing required parameter: Query."));
             }
 
+            // The statement being executed is kept, so that it can be cancelled on the database when the execution is
+            // cancelled, like when the action times out on the server, or the client goes away. Otherwise, the query
+            // would keep running on the database, and hold the connection, with nobody waiting for its result.
+            final AtomicReference<Statement> runningStatement = new AtomicReference<>();
+            final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+            return Mono.fromCallable(() -> executeQuery(connection, query, actionConfiguration, runningStatement, isCancelled))
+                    .subscribeOn(Schedulers.elastic())
+                    .doOnCancel(() -> {
+                        isCancelled.set(true);
+                        cancelStatement(runningStatement.get());
+                    });
+        }
+
+        private ActionExecutionResult executeQuery(Connection connection,
+                                                   String query,
+                                                   ActionConfiguration actionConfiguration,
+                                                   AtomicReference<Statement> runningStatement,
+                                                   AtomicBoolean isCancelled) throws AppsmithPluginException {
             List<Map<String, Object>> rowsList = new ArrayList<>(50);
 
             Statement statement = null;
             ResultSet resultSet = null;
             try {
-                statement = connection.createStatement();
-                boolean isResultSet = statement.execute(query);
+                boolean isResultSet;
+                if (isPreparedStatement(actionConfiguration)) {
+                    // The driver caches prepared statements on this connection, so executing the same query again,
+                    // with different values, reuses the plan prepared on the server.
+                    final PreparedStatement preparedStatement = connection.prepareStatement(query);
+                    statement = preparedStatement;
+                    bindParams(preparedStatement, actionConfiguration.getBodyParams());
+                    startStatement(statement, actionConfiguration, runningStatement, isCancelled);
+                    isResultSet = preparedStatement.execute();
+                } else {
+                    statement = connection.createStatement();
+                    startStatement(statement, actionConfiguration, runningStatement, isCancelled);
+                    isResultSet = statement.execute(query);
+                }
 
                 if (isResultSet) {
                     resultSet = statement.getResultSet();
-                    ResultSetMetaData metaData = resultSet.getMetaData();
-                    int colCount = metaData.getColumnCount();
-
-                    while (resultSet.next()) {
-                        // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                        Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                        for (int i = 1; i <= colCount; i++) {
-                            Object value;
-                            final String typeName = metaData.getColumnTypeName(i);
-
-                            if (resultSet.getObject(i) == null) {
-                                value = null;
-
-                            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                            } else if ("timestamp".equalsIgnoreCase(typeName)) {
-                                value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                        LocalDateTime.of(
-                                                resultSet.getDate(i).toLocalDate(),
-                                                resultSet.getTime(i).toLocalTime()
-                                        )
-                                ) + "Z";
-
-                            } else if ("timestamptz".equalsIgnoreCase(typeName)) {
-                                value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                        resultSet.getObject(i, OffsetDateTime.class)
-                                );
-
-                            } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
-                                value = resultSet.getString(i);
-
-                            } else if ("interval".equalsIgnoreCase(typeName)) {
-                                value = resultSet.getObject(i).toString();
-
-                            } else {
-                                value = resultSet.getObject(i);
-
-                            }
-
-                            row.put(metaData.getColumnName(i), value);
-                        }
-
-                        rowsList.add(row);
+                    final ColumnDecoderPlan plan = ColumnDecoderPlan.of(resultSet.getMetaData());
+                    // Rows already sent by the database are not decoded once the execution is cancelled.
+                    while (!isCancelled.get() && resultSet.next()) {
+                        rowsList.add(plan.decodeRow(resultSet));
                     }
 
                 } else {
@@ -198,9 +237,11 @@ public class PostgresPlugin extends BasePlugin {
                 }
 
             } catch (SQLException e) {
-                return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
 
             } finally {
+                runningStatement.set(null);
+
                 if (resultSet != null) {
                     try {
                         resultSet.close();
@@ -222,8 +263,170 @@ public class PostgresPlugin extends BasePlugin {
             ActionExecutionResult result = new ActionExecutionResult();
             result.setBody(objectMapper.valueToTree(rowsList));
             result.setIsExecutionSuccess(true);
-            log.debug("In the PostgresPlugin, got action execution result: " + result.toString());
-            return Mono.just(result);
+            log.debug("In the PostgresPlugin, got action execution result: {}", result);
+            return result;
+        }
+
+        /**
+         * Gets the statement ready to be executed: it is given the action's timeout, so that the database stops the
+         * query by itself if the cancel from the server doesn't reach it, and it is made cancellable.
+         */
+        private static void startStatement(Statement statement,
+                                           ActionConfiguration actionConfiguration,
+                                           AtomicReference<Statement> runningStatement,
+                                           AtomicBoolean isCancelled) throws SQLException {
+            statement.setQueryTimeout(toQueryTimeoutSeconds(actionConfiguration.getTimeoutInMillisecond()));
+            runningStatement.set(statement);
+            // The execution may have been cancelled before the statement could be cancelled.
+            if (isCancelled.get()) {
+                throw new SQLException("Execution of the query was cancelled.");
+            }
+        }
+
+        static int toQueryTimeoutSeconds(Integer timeoutInMillisecond) {
+            // Rounded up, since a timeout of zero seconds means no timeout.
+            return timeoutInMillisecond == null ? 0 : (int) ((timeoutInMillisecond + 999L) / 1000);
+        }
+
+        private static void cancelStatement(Statement statement) {
+            if (statement == null) {
+                return;
+            }
+
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.warn("Error cancelling Postgres Statement", e);
+            }
+        }
+
+        /**
+         * Reads a column of the current row of a result set, as the value to be given in the response.
+         */
+        @FunctionalInterface
+        interface ColumnReader {
+            Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+        }
+
+        private static final ColumnReader DATE_READER = (resultSet, columnIndex) -> {
+            final Date date = resultSet.getDate(columnIndex);
+            return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+        };
+
+        private static final ColumnReader TIMESTAMP_READER = (resultSet, columnIndex) -> {
+            final Timestamp timestamp = resultSet.getTimestamp(columnIndex);
+            // Fractions of a second are dropped, as they always have been in the responses.
+            return timestamp == null
+                    ? null
+                    : DateTimeFormatter.ISO_DATE_TIME.format(timestamp.toLocalDateTime().withNano(0)) + "Z";
+        };
+
+        private static final ColumnReader TIMESTAMPTZ_READER = (resultSet, columnIndex) -> {
+            final OffsetDateTime dateTime = resultSet.getObject(columnIndex, OffsetDateTime.class);
+            return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+        };
+
+        private static final ColumnReader STRING_READER = ResultSet::getString;
+
+        private static final ColumnReader INTERVAL_READER = (resultSet, columnIndex) -> {
+            final Object interval = resultSet.getObject(columnIndex);
+            return interval == null ? null : interval.toString();
+        };
+
+        private static final ColumnReader OBJECT_READER = ResultSet::getObject;
+
+        /**
+         * The names and readers of the columns of a query's result, worked out once from the result's metadata, so
+         * that decoding each row needs no metadata lookups or comparisons of type names.
+         */
+        static class ColumnDecoderPlan {
+
+            private final String[] columnNames;
+
+            private final ColumnReader[] columnReaders;
+
+            // Capacity of each row's map, so that it holds all the columns without being resized.
+            private final int rowCapacity;
+
+            private ColumnDecoderPlan(String[] columnNames, ColumnReader[] columnReaders) {
+                this.columnNames = columnNames;
+                this.columnReaders = columnReaders;
+                this.rowCapacity = (int) (columnNames.length / 0.75f) + 1;
+            }
+
+            static ColumnDecoderPlan of(ResultSetMetaData metaData) throws SQLException {
+                final int colCount = metaData.getColumnCount();
+                final String[] columnNames = new String[colCount];
+                final ColumnReader[] columnReaders = new ColumnReader[colCount];
+
+                for (int i = 0; i < colCount; i++) {
+                    columnNames[i] = metaData.getColumnName(i + 1);
+                    columnReaders[i] = readerForType(metaData.getColumnTypeName(i + 1));
+                }
+
+                return new ColumnDecoderPlan(columnNames, columnReaders);
+            }
+
+            private static ColumnReader readerForType(String typeName) {
+                switch (typeName == null ? "" : typeName.toLowerCase(Locale.ROOT)) {
+                    case DATE_COLUMN_TYPE_NAME:
+                        return DATE_READER;
+                    case "timestamp":
+                        return TIMESTAMP_READER;
+                    case "timestamptz":
+                        return TIMESTAMPTZ_READER;
+                    case "time":
+                    case "timetz":
+                        return STRING_READER;
+                    case "interval":
+                        return INTERVAL_READER;
+                    default:
+                        return OBJECT_READER;
+                }
+            }
+
+            Map<String, Object> decodeRow(ResultSet resultSet) throws SQLException {
+                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+                final Map<String, Object> row = new LinkedHashMap<>(rowCapacity);
+                for (int i = 0; i < columnReaders.length; i++) {
+                    row.put(columnNames[i], columnReaders[i].read(resultSet, i + 1));
+                }
+                return row;
+            }
+
+        }
+
+        @Override
+        public boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            return !CollectionUtils.isEmpty(properties)
+                    && properties.get(0) != null
+                    && "true".equalsIgnoreCase(properties.get(0).getValue());
+        }
+
+        /**
+         * Postgres quotes identifiers with double quotes, and function bodies with dollar tags.
+         */
+        @Override
+        public SqlSyntax getSqlSyntax() {
+            return SQL_SYNTAX;
+        }
+
+        private static void bindParams(PreparedStatement preparedStatement, List<Param> params) throws SQLException {
+            if (params == null) {
+                return;
+            }
+
+            for (int i = 0; i < params.size(); ++i) {
+                final Param param = params.get(i);
+                if (param.getValue() == null) {
+                    preparedStatement.setNull(i + 1, Types.NULL);
+                } else {
+                    // Bound as an untyped value, so that Postgres infers the type from the query, as it would for a
+                    // literal in the query text.
+                    preparedStatement.setObject(i + 1, param.getValue(), Types.OTHER);
+                }
+            }
         }
 
         @Override
@@ -348,6 +551,59 @@ public class PostgresPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructureTables(connection, datasourceConfiguration)
+                    .collectList()
+                    .map(tables -> {
+                        final DatasourceStructure structure = new DatasourceStructure();
+                        structure.setTables(tables);
+                        return structure;
+                    });
+        }
+
+        /**
+         * Reads the structure of the database, {@link #STRUCTURE_PAGE_SIZE} tables at a time. The ids of all the visible
+         * tables are read first, and then the columns and keys of each page of tables are read with the catalog queries,
+         * restricted to the tables in that page. This keeps each query small, even on databases with thousands of
+         * tables, and lets the tables of a page be used before the next page is read.
+         */
+        @Override
+        public Flux<DatasourceStructure.Table> getStructureTables(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Flux.defer(() -> {
+                checkConnectionValidity(connection);
+
+                final List<Long> tableIds = new ArrayList<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet tableIdsResultSet = statement.executeQuery(TABLE_IDS_QUERY)) {
+                    while (tableIdsResultSet.next()) {
+                        tableIds.add(tableIdsResultSet.getLong("id"));
+                    }
+                } catch (SQLException throwable) {
+                    return Flux.error(Exceptions.propagate(throwable));
+                }
+
+                return Flux.range(0, (tableIds.size() + STRUCTURE_PAGE_SIZE - 1) / STRUCTURE_PAGE_SIZE)
+                        .map(page -> tableIds.subList(
+                                page * STRUCTURE_PAGE_SIZE,
+                                Math.min(tableIds.size(), (page + 1) * STRUCTURE_PAGE_SIZE)
+                        ))
+                        .concatMap(pageTableIds -> Mono.fromCallable(() -> getTables(connection, pageTableIds)))
+                        .concatMapIterable(tables -> tables);
+            });
+        }
+
+        @Override
+        public Mono<String> getStructureFingerprint(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromCallable(() -> {
+                checkConnectionValidity(connection);
+
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(FINGERPRINT_QUERY)) {
+                    return resultSet.next() ? resultSet.getString("fingerprint") : null;
+                }
+            });
+        }
+
+        private void checkConnectionValidity(Connection connection) {
             try {
                 if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
                     log.info("Encountered stale connection in Postgres plugin. Reporting back.");
@@ -358,16 +614,29 @@ public class PostgresPlugin extends BasePlugin {
                 // here, this should never happen.
                 log.error("Error checking validity of Postgres connection.", error);
             }
+        }
 
-            final DatasourceStructure structure = new DatasourceStructure();
+        /**
+         * Reads the columns and keys of the given tables, and computes their templates.
+         *
+         * @param connection Connection to the database.
+         * @param tableIds   OIDs of the tables to read, as given by {@link #TABLE_IDS_QUERY}.
+         * @return The tables, ordered by their names.
+         * @throws SQLException If any of the catalog queries fail.
+         */
+        private List<DatasourceStructure.Table> getTables(Connection connection, List<Long> tableIds) throws SQLException {
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
 
             // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
 
-            try (Statement statement = connection.createStatement()) {
+            try (PreparedStatement columnsStatement = connection.prepareStatement(TABLES_QUERY);
+                 PreparedStatement keysStatement = connection.prepareStatement(KEYS_QUERY)) {
+
+                final Array tableIdsArray = connection.createArrayOf("int8", tableIds.toArray());
 
                 // Get tables and fill up their columns.
-                try (ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
+                columnsStatement.setArray(1, tableIdsArray);
+                try (ResultSet columnsResultSet = columnsStatement.executeQuery()) {
                     while (columnsResultSet.next()) {
                         final char kind = columnsResultSet.getString("kind").charAt(0);
                         final String schemaName = columnsResultSet.getString("schema_name");
@@ -392,7 +661,8 @@ public class PostgresPlugin extends BasePlugin {
                 }
 
                 // Get tables' constraints and fill those up.
-                try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
+                keysStatement.setArray(1, tableIdsArray);
+                try (ResultSet constraintsResultSet = keysStatement.executeQuery()) {
                     while (constraintsResultSet.next()) {
                         final String constraintName = constraintsResultSet.getString("constraint_name");
                         final char constraintType = constraintsResultSet.getString("constraint_type").charAt(0);
@@ -432,71 +702,68 @@ public class PostgresPlugin extends BasePlugin {
                     }
                 }
 
-                // Get/compute templates for each table and put those in.
-                for (DatasourceStructure.Table table : tablesByName.values()) {
-                    final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
-                            .stream()
-                            .filter(column -> column.getDefaultValue() == null)
-                            .collect(Collectors.toList());
-
-                    final List<String> columnNames = new ArrayList<>();
-                    final List<String> columnValues = new ArrayList<>();
-                    final StringBuilder setFragments = new StringBuilder();
-
-                    for (DatasourceStructure.Column column : columnsWithoutDefault) {
-                        final String name = column.getName();
-                        final String type = column.getType();
-                        String value;
-
-                        if (type == null) {
-                            value = "null";
-                        } else if ("text".equals(type) || "varchar".equals(type)) {
-                            value = "''";
-                        } else if (type.startsWith("int")) {
-                            value = "1";
-                        } else if ("date".equals(type)) {
-                            value = "'2019-07-01'";
-                        } else if ("time".equals(type)) {
-                            value = "'18:32:45'";
-                        } else if ("timetz".equals(type)) {
-                            value = "'04:05:06 PST'";
-                        } else if ("timestamp".equals(type)) {
-                            value = "TIMESTAMP '2019-07-01 10:00:00'";
-                        } else if ("timestamptz".equals(type)) {
-                            value = "TIMESTAMP WITH TIME ZONE '2019-07-01 06:30:00 CET'";
-                        } else {
-                            value = "''";
-                        }
+            }
 
-                        columnNames.add("\"" + name + "\"");
-                        columnValues.add(value);
-                        setFragments.append("\n    \"").append(name).append("\" = ").append(value);
-                    }
+            for (DatasourceStructure.Table table : tablesByName.values()) {
+                table.getKeys().sort(Comparator.naturalOrder());
+                addTemplates(table);
+            }
 
-                    final String quotedTableName = table.getName().replaceFirst("\\.(\\w+)", ".\"$1\"");
-                    table.getTemplates().addAll(List.of(
-                            new DatasourceStructure.Template("SELECT", "SELECT * FROM " + quotedTableName + " LIMIT 10;"),
-                            new DatasourceStructure.Template("INSERT", "INSERT INTO " + quotedTableName
-                                    + " (" + String.join(", ", columnNames) + ")\n"
-                                    + "  VALUES (" + String.join(", ", columnValues) + ");"),
-                            new DatasourceStructure.Template("UPDATE", "UPDATE " + quotedTableName + " SET"
-                                    + setFragments.toString() + "\n"
-                                    + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
-                            new DatasourceStructure.Template("DELETE", "DELETE FROM " + quotedTableName
-                                    + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
-                    ));
-                }
+            return new ArrayList<>(tablesByName.values());
+        }
 
-            } catch (SQLException throwable) {
-                return Mono.error(Exceptions.propagate(throwable));
+        private static void addTemplates(DatasourceStructure.Table table) {
+            final List<DatasourceStructure.Column> columnsWithoutDefault = table.getColumns()
+                    .stream()
+                    .filter(column -> column.getDefaultValue() == null)
+                    .collect(Collectors.toList());
+
+            final List<String> columnNames = new ArrayList<>();
+            final List<String> columnValues = new ArrayList<>();
+            final StringBuilder setFragments = new StringBuilder();
+
+            for (DatasourceStructure.Column column : columnsWithoutDefault) {
+                final String name = column.getName();
+                final String type = column.getType();
+                String value;
+
+                if (type == null) {
+                    value = "null";
+                } else if ("text".equals(type) || "varchar".equals(type)) {
+                    value = "''";
+                } else if (type.startsWith("int")) {
+                    value = "1";
+                } else if ("date".equals(type)) {
+                    value = "'2019-07-01'";
+                } else if ("time".equals(type)) {
+                    value = "'18:32:45'";
+                } else if ("timetz".equals(type)) {
+                    value = "'04:05:06 PST'";
+                } else if ("timestamp".equals(type)) {
+                    value = "TIMESTAMP '2019-07-01 10:00:00'";
+                } else if ("timestamptz".equals(type)) {
+                    value = "TIMESTAMP WITH TIME ZONE '2019-07-01 06:30:00 CET'";
+                } else {
+                    value = "''";
+                }
 
+                columnNames.add("\"" + name + "\"");
+                columnValues.add(value);
+                setFragments.append("\n    \"").append(name).append("\" = ").append(value);
             }
 
-            structure.setTables(new ArrayList<>(tablesByName.values()));
-            for (DatasourceStructure.Table table : structure.getTables()) {
-                table.getKeys().sort(Comparator.naturalOrder());
-            }
-            return Mono.just(structure);
+            final String quotedTableName = table.getName().replaceFirst("\\.(\\w+)", ".\"$1\"");
+            table.getTemplates().addAll(List.of(
+                    new DatasourceStructure.Template("SELECT", "SELECT * FROM " + quotedTableName + " LIMIT 10;"),
+                    new DatasourceStructure.Template("INSERT", "INSERT INTO " + quotedTableName
+                            + " (" + String.join(", ", columnNames) + ")\n"
+                            + "  VALUES (" + String.join(", ", columnValues) + ");"),
+                    new DatasourceStructure.Template("UPDATE", "UPDATE " + quotedTableName + " SET"
+                            + setFragments.toString() + "\n"
+                            + "  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may update every row in the table!"),
+                    new DatasourceStructure.Template("DELETE", "DELETE FROM " + quotedTableName
+                            + "\n  WHERE 1 = 0; -- Specify a valid condition here. Removing the condition may delete everything in the table!")
+            ));
         }
     }
 
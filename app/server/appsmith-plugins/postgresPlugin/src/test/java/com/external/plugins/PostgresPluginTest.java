@@ -6,6 +6,9 @@ import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.Property;
+import com.appsmith.external.pluginExceptions.AppsmithPluginException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -15,6 +18,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -22,11 +26,13 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
@@ -186,6 +192,31 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecutePreparedStatement() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT id, username FROM users WHERE id = ? AND username <> ?");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+        actionConfiguration.setBodyParams(List.of(new Param("id", "1"), new Param("name", "'; drop table users; --")));
+
+        assertTrue(pluginExecutor.isPreparedStatement(actionConfiguration));
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final ArrayNode rows = (ArrayNode) result.getBody();
+                    assertEquals(1, rows.size());
+                    assertEquals(1, rows.get(0).get("id").asInt());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecute() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -338,4 +369,74 @@ public class PostgresPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testStructureFingerprint() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<List<String>> fingerprintsMono = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMap(connection -> Mono.zip(
+                        pluginExecutor.getStructureFingerprint(connection, dsConfig),
+                        pluginExecutor.getStructureFingerprint(connection, dsConfig),
+                        List::of
+                ));
+
+        StepVerifier.create(fingerprintsMono)
+                .assertNext(fingerprints -> {
+                    assertNotNull(fingerprints.get(0));
+                    assertEquals(fingerprints.get(0), fingerprints.get(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testStructureTables() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Flux<DatasourceStructure.Table> tablesFlux = pluginExecutor.datasourceCreate(dsConfig)
+                .flatMapMany(connection -> pluginExecutor.getStructureTables(connection, dsConfig));
+
+        StepVerifier.create(tablesFlux)
+                .assertNext(table -> assertEquals("public.possessions", table.getName()))
+                .assertNext(table -> assertEquals("public.users", table.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testQueryTimeoutStopsQueryOnDatabase() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT pg_sleep(30)");
+        actionConfiguration.setTimeoutInMillisecond(1000);
+
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono
+                .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .expectError(AppsmithPluginException.class)
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testCancelledExecutionStopsQueryOnDatabase() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Connection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration sleepConfiguration = new ActionConfiguration();
+        sleepConfiguration.setBody("SELECT pg_sleep(30)");
+        sleepConfiguration.setTimeoutInMillisecond(60000);
+
+        // The server cancels the execution when the action times out, as it does here.
+        StepVerifier.create(pluginExecutor.execute(connection, dsConfig, sleepConfiguration).timeout(Duration.ofMillis(500)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(10));
+
+        // Queries on the connection wait for the running query to end, so this only runs once the sleep is stopped.
+        ActionConfiguration activityConfiguration = new ActionConfiguration();
+        activityConfiguration.setBody("SELECT count(*) AS running FROM pg_stat_activity WHERE query = 'SELECT pg_sleep(30)'");
+
+        StepVerifier.create(pluginExecutor.execute(connection, dsConfig, activityConfiguration))
+                .assertNext(result -> assertEquals(0, ((ArrayNode) result.getBody()).get(0).get("running").asInt()))
+                .verifyComplete();
+    }
 }
@@ -274,8 +274,11 @@ public class RestApiPlugin extends BasePlugin {
                             } catch (URISyntaxException e) {
                                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                             }
-                            return httpCall(webClient, httpMethod, redirectUri, requestBodyAsString, iteration + 1,
-                                    contentType);
+                            // The body of the redirect is released, so that its connection goes back to the pool
+                            // instead of staying open till it's garbage collected.
+                            return response.bodyToMono(Void.class)
+                                    .then(httpCall(webClient, httpMethod, redirectUri, requestBodyAsString, iteration + 1,
+                                            contentType));
                         }
                         return Mono.just(response);
                     });
@@ -0,0 +1,335 @@
+package com.external.plugins;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceTestResult;
+import com.appsmith.external.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.plugins.BasePlugin;
+import com.appsmith.external.plugins.PluginExecutor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.pf4j.Extension;
+import org.pf4j.PluginWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A plugin that doesn't connect to any data source, and instead generates results as described in the action's body.
+ * It is meant for load testing and profiling the server's action execution, without the cost and variance of a real
+ * database. It is not installed with the other plugins, and is only built with the `benchmarks` profile.
+ * <p>
+ * The action's body is a JSON object like the following, where every field is optional.
+ * <pre>
+ * {
+ *   "rows": 100,
+ *   "columns": [{"name": "id", "type": "INTEGER"}, {"name": "name", "type": "STRING"}],
+ *   "payloadSize": 16,
+ *   "latency": {"distribution": "LOGNORMAL", "meanMillis": 20, "sigma": 0.5, "maxMillis": 1000},
+ *   "errorRate": 0.01,
+ *   "pageSize": 0,
+ *   "seed": 42
+ * }
+ * </pre>
+ */
+public class SyntheticPlugin extends BasePlugin {
+
+    private static final LocalDateTime BASE_TIMESTAMP = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final char[] PAYLOAD_FILLER = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    public SyntheticPlugin(PluginWrapper wrapper) {
+        super(wrapper);
+    }
+
+    public enum ColumnType {
+        INTEGER, DOUBLE, BOOLEAN, STRING, TIMESTAMP
+    }
+
+    public enum Distribution {
+        CONSTANT, UNIFORM, EXPONENTIAL, LOGNORMAL
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Column {
+
+        String name;
+
+        ColumnType type;
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Latency {
+
+        Distribution distribution = Distribution.CONSTANT;
+
+        // Mean of the distribution. For the uniform distribution, latencies are between zero and twice the mean.
+        double meanMillis = 0;
+
+        // Standard deviation of the log of the latencies, for the log-normal distribution. Higher values give a
+        // longer tail.
+        double sigma = 0.5;
+
+        // Latencies are capped at this value, if given.
+        Long maxMillis;
+
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Spec {
+
+        int rows = 10;
+
+        // Columns of each row. Defaults to a few columns of each type, like a table of users.
+        List<Column> columns;
+
+        // Length of each value in the `STRING` columns.
+        int payloadSize = 16;
+
+        Latency latency = new Latency();
+
+        // Probability of an execution failing, between 0 and 1. Failures happen after the latency.
+        double errorRate = 0;
+
+        // Number of rows in each page, when the result is streamed. The whole result is a single page if this is 0.
+        int pageSize = 0;
+
+        // Seed for the random latencies, failures and values, to repeat the same results. Random if not given.
+        Long seed;
+
+    }
+
+    @Slf4j
+    @Extension
+    public static class SyntheticPluginExecutor implements PluginExecutor<Void> {
+
+        private static final List<Column> DEFAULT_COLUMNS = List.of(
+                column("id", ColumnType.INTEGER),
+                column("name", ColumnType.STRING),
+                column("email", ColumnType.STRING),
+                column("score", ColumnType.DOUBLE),
+                column("isActive", ColumnType.BOOLEAN),
+                column("createdAt", ColumnType.TIMESTAMP)
+        );
+
+        @Override
+        public Mono<ActionExecutionResult> execute(Void ignored,
+                                                   DatasourceConfiguration datasourceConfiguration,
+                                                   ActionConfiguration actionConfiguration) {
+            return Mono.fromCallable(() -> parseSpec(actionConfiguration))
+                    .flatMap(spec -> {
+                        final Random random = random(spec);
+                        return delayAndFail(spec, random)
+                                .then(Mono.fromCallable(() -> toResult(generateRows(spec, random, 0, spec.getRows()))));
+                    });
+        }
+
+        @Override
+        public Flux<ActionExecutionResult> executeStream(Void ignored,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+            return Mono.fromCallable(() -> parseSpec(actionConfiguration))
+                    .flatMapMany(spec -> {
+                        if (spec.getPageSize() <= 0) {
+                            return execute(ignored, datasourceConfiguration, actionConfiguration);
+                        }
+
+                        final Random random = random(spec);
+                        final int pageCount = (spec.getRows() + spec.getPageSize() - 1) / spec.getPageSize();
+                        return delayAndFail(spec, random)
+                                .thenMany(Flux.range(0, pageCount))
+                                .map(page -> {
+                                    final int from = page * spec.getPageSize();
+                                    final int to = Math.min(from + spec.getPageSize(), spec.getRows());
+                                    return toResult(generateRows(spec, random, from, to));
+                                });
+                    });
+        }
+
+        private Spec parseSpec(ActionConfiguration actionConfiguration) throws AppsmithPluginException {
+            final String body = actionConfiguration.getBody();
+            if (body == null || body.isBlank()) {
+                return new Spec();
+            }
+
+            final Spec spec;
+            try {
+                spec = objectMapper.readValue(body, Spec.class);
+            } catch (IOException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Invalid synthetic result spec: " + e.getMessage()
+                );
+            }
+
+            if (spec.getRows() < 0 || spec.getPayloadSize() < 0 || spec.getPageSize() < 0) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Rows, payload size and page size can't be negative."
+                );
+            }
+            if (spec.getErrorRate() < 0 || spec.getErrorRate() > 1) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Error rate must be between 0 and 1.");
+            }
+            if (spec.getLatency() == null) {
+                spec.setLatency(new Latency());
+            }
+
+            return spec;
+        }
+
+        private static Random random(Spec spec) {
+            // Rows may be generated on a different thread than the one the execution started on, after the latency, so a
+            // `ThreadLocalRandom` can't be used here.
+            return spec.getSeed() == null ? new Random() : new Random(spec.getSeed());
+        }
+
+        /**
+         * Waits for a latency drawn from the spec's distribution, without blocking the calling thread, and then fails
+         * with the spec's error rate.
+         */
+        private static Mono<Void> delayAndFail(Spec spec, Random random) {
+            final long latencyMillis = drawLatencyMillis(spec.getLatency(), random);
+            final boolean isFailure = random.nextDouble() < spec.getErrorRate();
+
+            Mono<Void> result = isFailure
+                    ? Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Synthetic failure."))
+                    : Mono.empty();
+
+            if (latencyMillis > 0) {
+                result = Mono.delay(Duration.ofMillis(latencyMillis)).then(result);
+            }
+
+            return result;
+        }
+
+        static long drawLatencyMillis(Latency latency, Random random) {
+            final double mean = latency.getMeanMillis();
+            final double millis;
+
+            switch (latency.getDistribution()) {
+                case UNIFORM:
+                    millis = random.nextDouble() * 2 * mean;
+                    break;
+                case EXPONENTIAL:
+                    millis = -mean * Math.log(1 - random.nextDouble());
+                    break;
+                case LOGNORMAL:
+                    // The location is chosen so that the mean of the distribution is the given mean.
+                    final double sigma = latency.getSigma();
+                    millis = mean <= 0 ? 0 : Math.exp(Math.log(mean) - sigma * sigma / 2 + sigma * random.nextGaussian());
+                    break;
+                case CONSTANT:
+                default:
+                    millis = mean;
+            }
+
+            final long rounded = Math.round(millis);
+            return latency.getMaxMillis() == null ? rounded : Math.min(rounded, latency.getMaxMillis());
+        }
+
+        private static List<Map<String, Object>> generateRows(Spec spec, Random random, int from, int to) {
+            final List<Column> columns = spec.getColumns() == null ? DEFAULT_COLUMNS : spec.getColumns();
+            final List<Map<String, Object>> rowsList = new ArrayList<>(to - from);
+
+            for (int i = from; i < to; ++i) {
+                // Use `LinkedHashMap` here, like the database plugins, so that the column ordering is preserved.
+                final Map<String, Object> row = new LinkedHashMap<>(columns.size());
+                for (Column column : columns) {
+                    row.put(column.getName(), generateValue(column, i, spec.getPayloadSize(), random));
+                }
+                rowsList.add(row);
+            }
+
+            return rowsList;
+        }
+
+        private static Object generateValue(Column column, int rowIndex, int payloadSize, Random random) {
+            switch (column.getType() == null ? ColumnType.STRING : column.getType()) {
+                case INTEGER:
+                    return rowIndex + 1;
+                case DOUBLE:
+                    return random.nextDouble() * 1000;
+                case BOOLEAN:
+                    return random.nextBoolean();
+                case TIMESTAMP:
+                    return DateTimeFormatter.ISO_DATE_TIME.format(BASE_TIMESTAMP.plusMinutes(rowIndex)) + "Z";
+                case STRING:
+                default:
+                    return generateString(column.getName(), rowIndex, payloadSize);
+            }
+        }
+
+        private static String generateString(String prefix, int rowIndex, int length) {
+            final StringBuilder value = new StringBuilder(Math.max(length, 0))
+                    .append(prefix)
+                    .append('-')
+                    .append(rowIndex);
+
+            for (int i = 0; value.length() < length; ++i) {
+                value.append(PAYLOAD_FILLER[i % PAYLOAD_FILLER.length]);
+            }
+            value.setLength(length);
+
+            return value.toString();
+        }
+
+        private static ActionExecutionResult toResult(List<Map<String, Object>> rowsList) {
+            final ActionExecutionResult result = new ActionExecutionResult();
+            result.setBody(objectMapper.valueToTree(rowsList));
+            result.setIsExecutionSuccess(true);
+            return result;
+        }
+
+        private static Column column(String name, ColumnType type) {
+            final Column column = new Column();
+            column.setName(name);
+            column.setType(type);
+            return column;
+        }
+
+        @Override
+        public Mono<Void> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.empty();
+        }
+
+        @Override
+        public void datasourceDestroy(Void connection) {
+            // Synthetic plugin doesn't have a datasource.
+        }
+
+        @Override
+        public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(new DatasourceTestResult());
+        }
+
+    }
+
+}
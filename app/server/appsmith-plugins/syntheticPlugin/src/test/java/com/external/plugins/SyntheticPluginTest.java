@@ -0,0 +1,134 @@
+package com.external.plugins;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticPluginTest {
+
+    SyntheticPlugin.SyntheticPluginExecutor pluginExecutor = new SyntheticPlugin.SyntheticPluginExecutor();
+
+    private Mono<ActionExecutionResult> execute(String body) {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+        return pluginExecutor.execute(null, new DatasourceConfiguration(), actionConfiguration);
+    }
+
+    @Test
+    public void testGeneratesRowsOfGivenColumns() {
+        final String body = "{\"rows\": 3, \"payloadSize\": 12, \"columns\": [" +
+                "{\"name\": \"id\", \"type\": \"INTEGER\"}, " +
+                "{\"name\": \"name\", \"type\": \"STRING\"}, " +
+                "{\"name\": \"createdAt\", \"type\": \"TIMESTAMP\"}" +
+                "]}";
+
+        StepVerifier.create(execute(body))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final JsonNode rows = (JsonNode) result.getBody();
+                    assertEquals(3, rows.size());
+
+                    final JsonNode row = rows.get(2);
+                    assertEquals(3, row.size());
+                    assertEquals(3, row.get("id").asInt());
+                    assertEquals("name-2abcdef", row.get("name").asText());
+                    assertEquals("2020-01-01T00:02:00Z", row.get("createdAt").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDefaultSpec() {
+        StepVerifier.create(execute(null))
+                .assertNext(result -> {
+                    final JsonNode rows = (JsonNode) result.getBody();
+                    assertEquals(10, rows.size());
+                    assertEquals(6, rows.get(0).size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testErrorRate() {
+        StepVerifier.create(execute("{\"errorRate\": 1}"))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+
+        StepVerifier.create(execute("{\"errorRate\": 0}"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testLatencyIsApplied() {
+        StepVerifier.withVirtualTime(() -> execute("{\"latency\": {\"distribution\": \"CONSTANT\", \"meanMillis\": 500}}"))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(499))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void testLatencyDistributions() {
+        final Random random = new Random(42);
+
+        final SyntheticPlugin.Latency latency = new SyntheticPlugin.Latency();
+        latency.setMeanMillis(20);
+        latency.setMaxMillis(100L);
+
+        for (SyntheticPlugin.Distribution distribution : SyntheticPlugin.Distribution.values()) {
+            latency.setDistribution(distribution);
+
+            long total = 0;
+            for (int i = 0; i < 10000; ++i) {
+                final long millis = SyntheticPlugin.SyntheticPluginExecutor.drawLatencyMillis(latency, random);
+                assertTrue(millis >= 0 && millis <= 100);
+                total += millis;
+            }
+
+            final double mean = total / 10000.0;
+            assertTrue(distribution + " has mean " + mean, Math.abs(mean - 20) < 1);
+        }
+    }
+
+    @Test
+    public void testStreamsPages() {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{\"rows\": 25, \"pageSize\": 10}");
+
+        StepVerifier.create(pluginExecutor.executeStream(null, new DatasourceConfiguration(), actionConfiguration))
+                .assertNext(result -> assertEquals(10, ((JsonNode) result.getBody()).size()))
+                .assertNext(result -> assertEquals(10, ((JsonNode) result.getBody()).size()))
+                .assertNext(result -> {
+                    final JsonNode rows = (JsonNode) result.getBody();
+                    assertEquals(5, rows.size());
+                    assertEquals(25, rows.get(4).get("id").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testInvalidSpec() {
+        StepVerifier.create(execute("{\"rowz\": 10}"))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+
+        StepVerifier.create(execute("{\"errorRate\": 2}"))
+                .expectError(AppsmithPluginException.class)
+                .verify();
+    }
+
+}
@@ -140,7 +140,10 @@ public class SecurityConfig {
                         ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, ACTION_URL + "/**"),
                         ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, PAGE_URL + "/**"),
                         ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, APPLICATION_URL + "/**"),
-                        ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, ACTION_URL + "/execute")
+                        ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, ACTION_URL + "/execute"),
+                        ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, ACTION_URL + "/execute/stream"),
+                        // Scraped by Prometheus, which doesn't log in. Only served when metrics are enabled.
+                        ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, Url.METRICS_URL)
                 )
                 .permitAll()
                 .pathMatchers("/public/**").permitAll()
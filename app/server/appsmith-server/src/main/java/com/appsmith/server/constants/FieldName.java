@@ -53,4 +53,5 @@ public class FieldName {
     public static String ANONYMOUS_USER = "anonymousUser";
     public static String USERNAMES = "usernames";
     public static String ACTION = "action";
+    public static String ACTION_ID = "actionId";
 }
@@ -27,4 +27,5 @@ public interface Url {
     String API_TEMPLATE_URL = BASE_URL + VERSION + "/templates";
     String MARKETPLACE_ITEM_URL = BASE_URL + VERSION + "/items";
     String ASSET_URL = BASE_URL + VERSION + "/assets";
+    String METRICS_URL = BASE_URL + VERSION + "/metrics";
 }
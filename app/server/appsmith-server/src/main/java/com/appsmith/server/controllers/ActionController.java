@@ -5,6 +5,8 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.ActionMoveDTO;
+import com.appsmith.server.dtos.ActionResultPageDTO;
+import com.appsmith.server.dtos.ActionResultQueryDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ExecuteActionDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
@@ -15,6 +17,7 @@ import com.appsmith.server.services.LayoutActionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -71,6 +75,18 @@ public class ActionController extends BaseController<ActionService, Action, Stri
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    @PostMapping(value = "/execute/stream", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<ResponseDTO<ActionExecutionResult>> executeActionStream(@RequestBody ExecuteActionDTO executeActionDTO) {
+        return service.executeActionStream(executeActionDTO)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
+    @PostMapping("/results/query")
+    public Mono<ResponseDTO<ActionResultPageDTO>> queryResult(@RequestBody @Valid ActionResultQueryDTO query) {
+        return service.queryResult(query)
+                .map(page -> new ResponseDTO<>(HttpStatus.OK.value(), page, null));
+    }
+
     @PutMapping("/move")
     public Mono<ResponseDTO<Action>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO) {
         log.debug("Going to move action {} from page {} to page {}", actionMoveDTO.getAction().getName(), actionMoveDTO.getAction().getPageId(), actionMoveDTO.getDestinationPageId());
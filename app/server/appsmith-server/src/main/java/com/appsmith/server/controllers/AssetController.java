@@ -1,12 +1,15 @@
 package com.appsmith.server.controllers;
 
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.Asset;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.services.AssetService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.buffer.DefaultDataBuffer;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,31 +19,81 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
+
 @RestController
 @RequestMapping(Url.ASSET_URL)
 @Slf4j
 @RequiredArgsConstructor
 public class AssetController {
 
+    // Assets are never modified, and a new upload creates a new asset with a new ID. So, clients can cache an asset for
+    // as long as they want, without having to check for changes.
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue()
+            + ", immutable";
+
     private final AssetService service;
 
+    /**
+     * Streams the contents of the asset with the given ID. Since the ID identifies the contents, it's also used as the
+     * `ETag`. A single byte range can be asked for, with the `Range` header. Requests for multiple ranges are served the
+     * complete asset.
+     */
     @GetMapping("/{id}")
     public Mono<Void> getById(@PathVariable String id, ServerWebExchange exchange) {
         log.debug("Returning asset with ID '{}'.", id);
 
+        return service.getById(id)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "asset", id)))
+                .flatMap(asset -> writeAsset(asset, exchange));
+    }
+
+    private Mono<Void> writeAsset(Asset asset, ServerWebExchange exchange) {
         final ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(HttpStatus.OK);
-
-        final Mono<DefaultDataBuffer> imageBufferMono = service.getById(id)
-                .map(asset -> {
-                    final String contentType = asset.getContentType();
-                    if (contentType != null) {
-                        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, contentType);
-                    }
-                    return new DefaultDataBufferFactory().wrap(asset.getData());
-                });
-
-        return response.writeWith(imageBufferMono);
+        final HttpHeaders headers = response.getHeaders();
+        headers.setCacheControl(CACHE_CONTROL);
+
+        // This sets the `ETag` header, and the 304 status if the client already has this asset.
+        if (exchange.checkNotModified(asset.getId())) {
+            return response.setComplete();
+        }
+
+        if (asset.getContentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, asset.getContentType());
+        }
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        final long length = asset.getContentLength();
+
+        final List<HttpRange> ranges;
+        try {
+            ranges = exchange.getRequest().getHeaders().getRange();
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, HttpHeaders.RANGE));
+        }
+
+        if (ranges.size() != 1) {
+            response.setStatusCode(HttpStatus.OK);
+            headers.setContentLength(length);
+            return response.writeWith(service.getContent(asset, 0, length - 1));
+        }
+
+        final long start;
+        final long end;
+        try {
+            start = ranges.get(0).getRangeStart(length);
+            end = ranges.get(0).getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        headers.setContentLength(end - start + 1);
+        return response.writeWith(service.getContent(asset, start, end));
     }
 
 }
@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -49,4 +51,12 @@ public class DatasourceController extends BaseController<DatasourceService, Data
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK.value(), structure, null));
     }
 
+    @GetMapping(value = "/{datasourceId}/structure/stream", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<ResponseDTO<DatasourceStructure.Table>> getStructureStream(@PathVariable String datasourceId,
+                                                                           @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache) {
+        log.debug("Going to stream structure for datasource with id: '{}'.", datasourceId);
+        return datasourceStructureSolution.getStructureTables(datasourceId, BooleanUtils.isTrue(ignoreCache))
+                .map(table -> new ResponseDTO<>(HttpStatus.OK.value(), table, null));
+    }
+
 }
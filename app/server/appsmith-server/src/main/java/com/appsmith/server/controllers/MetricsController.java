@@ -0,0 +1,51 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.helpers.ActionExecutionMetrics;
+import com.appsmith.server.helpers.DatasourceExecutionGuard;
+import com.appsmith.server.notifications.EmailDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(Url.METRICS_URL)
+public class MetricsController {
+
+    // Content type of the Prometheus text exposition format.
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    private final ActionExecutionMetrics executionMetrics;
+
+    private final DatasourceExecutionGuard executionGuard;
+
+    private final EmailDispatcher emailDispatcher;
+
+    private final boolean isMetricsEnabled;
+
+    public MetricsController(ActionExecutionMetrics executionMetrics,
+                             DatasourceExecutionGuard executionGuard,
+                             EmailDispatcher emailDispatcher,
+                             @Value("${metrics.enabled:false}") boolean isMetricsEnabled) {
+        this.executionMetrics = executionMetrics;
+        this.executionGuard = executionGuard;
+        this.emailDispatcher = emailDispatcher;
+        this.isMetricsEnabled = isMetricsEnabled;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<String>> scrape() {
+        if (!isMetricsEnabled) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+
+        return Mono.fromSupplier(() -> ResponseEntity.ok()
+                .contentType(PROMETHEUS_TEXT)
+                .body(executionMetrics.scrape() + executionGuard.scrape() + emailDispatcher.scrape()));
+    }
+
+}
@@ -76,6 +76,11 @@ public class Action extends BaseDomain {
 
     Documentation documentation;
 
+    // If set, the action is materialized: it is executed in the background at this interval, and executions are given
+    // the last result of these, instead of executing the action. Only actions without bindings are materialized, since
+    // their result doesn't depend on the params of each execution.
+    Integer materializeIntervalInSeconds;
+
     /**
      * If the Datasource is null, create one and set the autoGenerated flag to true. This is required because spring-data
      * cannot add the createdAt and updatedAt properties for null embedded objects. At this juncture, we couldn't find
@@ -1,22 +1,36 @@
 package com.appsmith.server.domains;
 
 import com.appsmith.external.models.BaseDomain;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.http.MediaType;
+import lombok.Setter;
 
+/**
+ * A file uploaded by a user, like an organization's logo. An asset is never modified, and a new upload creates a new
+ * asset, so its ID identifies its contents. The contents are saved as {@link AssetChunk}s.
+ */
 @Getter
+@Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Asset extends BaseDomain {
 
-    public Asset(MediaType mediaType, byte[] data) {
-        this(mediaType == null ? null : mediaType.toString(), data);
-    }
-
     String contentType;
 
+    // Contents of assets that were saved before contents were split into chunks. This is also set on small assets that
+    // have been loaded in memory completely.
     byte[] data;
 
+    // Size of the contents in bytes.
+    Long length;
+
+    // Size of each chunk, except possibly the last one, in bytes.
+    Integer chunkSize;
+
+    public long getContentLength() {
+        if (data != null) {
+            return data.length;
+        }
+        return length == null ? 0 : length;
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A part of the contents of an {@link Asset}. All chunks of an asset, except possibly the last one, have the same size,
+ * so the chunk holding any offset into the contents can be computed, and read, without reading the other chunks.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class AssetChunk extends BaseDomain {
+
+    String assetId;
+
+    // Position of this chunk in the asset's contents, starting at zero.
+    Integer sequence;
+
+    byte[] data;
+
+}
@@ -2,7 +2,6 @@ package com.appsmith.server.domains;
 
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.DatasourceConfiguration;
-import com.appsmith.external.models.DatasourceStructure;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
@@ -45,11 +44,6 @@ public class Datasource extends BaseDomain {
     @JsonIgnore
     Boolean isAutoGenerated = false;
 
-    // The structure is ignored in JSON as it is not sent as part of the datasources API. We have a separate endpoint
-    // to obtain the structure of the datasource. The value of this field serves as the cache.
-    @JsonIgnore
-    DatasourceStructure structure;
-
     /**
      * This method is here so that the JSON version of this class' instances have a `isValid` field, for backwards
      * compatibility. It may be removed, when sure that no API received is relying on this field.
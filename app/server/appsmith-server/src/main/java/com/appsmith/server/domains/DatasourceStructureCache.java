@@ -0,0 +1,44 @@
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.DatasourceStructure;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * The structure of a datasource, as read by its plugin. This is saved separately from the datasource, so that the
+ * structure, which can be large, is only loaded when it's asked for. A structure is saved against a hash of the
+ * datasource's configuration, so that a structure read with an older configuration is never served.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Document
+public class DatasourceStructureCache extends BaseDomain {
+
+    String datasourceId;
+
+    // Hash of the datasource's configuration, when this structure was read.
+    String configurationHash;
+
+    DatasourceStructure structure;
+
+    // Identifies the structure refresh that is currently writing tables into `structure`, so that tables from an
+    // abandoned refresh don't get mixed with those of a newer one.
+    String refreshId;
+
+    // Set only when the structure has been read completely. A structure without this timestamp is partial, and is not
+    // used as cache.
+    Instant refreshedAt;
+
+    // Fingerprint of the data source's catalog, as computed by the plugin, at the time the structure was read. This is
+    // used to detect if the structure has changed since, and needs to be read again.
+    String fingerprint;
+
+}
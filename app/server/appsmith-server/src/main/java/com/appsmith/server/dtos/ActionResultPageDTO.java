@@ -0,0 +1,23 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ResultFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A page of the stored result of an action, as asked for in an {@link ActionResultQueryDTO}.
+ */
+@Getter
+@Setter
+public class ActionResultPageDTO {
+
+    // The rows of the page, in the layout given by `resultFormat`.
+    JsonNode body;
+
+    ResultFormat resultFormat;
+
+    // Number of rows that match the search and filters, across all the pages.
+    Integer totalRows;
+
+}
@@ -0,0 +1,62 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ResultFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * Filter, sort, projection and page to apply to the stored result of an action, without executing it again. The result
+ * is stored when the action is executed with `storeResult` set. All the fields other than the action's id are optional.
+ */
+@Getter
+@Setter
+public class ActionResultQueryDTO {
+
+    public enum Operator {
+        EQ, NOT_EQ, GT, GTE, LT, LTE, CONTAINS
+    }
+
+    @Getter
+    @Setter
+    public static class Filter {
+
+        String column;
+
+        Operator operator;
+
+        // Numbers and strings holding numbers are compared as numbers. Rows with null in the column only match `EQ`
+        // with a null value, and `NOT_EQ` with any other value.
+        JsonNode value;
+
+    }
+
+    @NotNull
+    String actionId;
+
+    // Keeps only the rows with this text in any of their columns, ignoring case, like the search in table widgets.
+    String searchText;
+
+    // Keeps only the rows matching all the filters.
+    List<Filter> filters;
+
+    // Rows with null in the sort column come last, in both orders.
+    String sortColumn;
+
+    Boolean sortDescending;
+
+    // Columns to include in the rows, in this order. Defaults to all the columns of the result.
+    List<String> columns;
+
+    // Number of rows to skip, after filtering and sorting.
+    Integer offset;
+
+    // Maximum number of rows to return. Defaults to all the rows after the offset.
+    Integer limit;
+
+    ResultFormat resultFormat;
+
+}
@@ -2,6 +2,7 @@ package com.appsmith.server.dtos;
 
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.models.ResultFormat;
 import com.appsmith.server.domains.Action;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,4 +20,18 @@ public class ExecuteActionDTO {
     List<Param> params;
 
     PaginationField paginationField;
+
+    // If true, the result includes the time taken by each stage of the execution.
+    Boolean includeTiming;
+
+    // Layout of the result's body. Defaults to `ROWS`, which is what the plugins return.
+    ResultFormat resultFormat;
+
+    // If true, the result is kept in memory for the current user, so that it can be filtered, sorted and paged with
+    // `/actions/results/query`, without executing the action again.
+    Boolean storeResult;
+
+    // If true, a materialized action is executed instead of being given its materialized result, and the new result
+    // replaces the materialized result.
+    Boolean refreshMaterialized;
 }
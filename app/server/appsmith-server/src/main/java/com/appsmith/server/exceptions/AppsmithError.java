@@ -54,8 +54,10 @@ public enum AppsmithError {
     DATASOURCE_HAS_ACTIONS(409, 4030, "Cannot delete datasource since it has {0} action(s) using it."),
     ORGANIZATION_ID_NOT_GIVEN(400, 4031, "Missing organization id. Please enter one."),
     INVALID_CURL_METHOD(400, 4032, "Invalid method in cURL command: {0}."),
+    PAYLOAD_TOO_LARGE(413, 4033, "The file size exceeds the maximum limit of {0} KB."),
     OAUTH_NOT_AVAILABLE(500, 5006, "Login with {0} is not supported."),
     MARKETPLACE_NOT_CONFIGURED(500, 5007, "Marketplace is not configured."),
+    DATASOURCE_UNAVAILABLE(503, 5030, "Datasource {0} is not taking new action executions right now, since {1}. Please try again later."),
     ;
 
 
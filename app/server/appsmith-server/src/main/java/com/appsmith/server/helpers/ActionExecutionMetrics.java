@@ -0,0 +1,229 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionTiming;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics for action executions, and writes them out in the Prometheus text format. The metrics are
+ * - latency histograms of each stage of execution,
+ * - latency histograms of executions, per plugin and per datasource,
+ * - the number of executions in flight, per plugin, and
+ * - the number of failed executions, per plugin and per datasource.
+ */
+@Component
+public class ActionExecutionMetrics {
+
+    public enum Stage {
+        CONTEXT, SUBSTITUTION, CONNECTION, EXECUTION, CACHE_SAVE
+    }
+
+    // Upper bounds of the histogram buckets, in seconds.
+    private static final double[] BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private static final String EMBEDDED_DATASOURCE = "embedded";
+
+    private final Map<Stage, Histogram> stageHistograms = new EnumMap<>(Stage.class);
+
+    private final Map<String, Histogram> pluginHistograms = new ConcurrentHashMap<>();
+
+    private final Map<String, Histogram> datasourceHistograms = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> pluginInFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> pluginErrors = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> datasourceErrors = new ConcurrentHashMap<>();
+
+    public ActionExecutionMetrics() {
+        for (Stage stage : Stage.values()) {
+            stageHistograms.put(stage, new Histogram());
+        }
+    }
+
+    public ExecutionTimer startTimer() {
+        return new ExecutionTimer();
+    }
+
+    /**
+     * Records the latency of the given execution against the plugin and the datasource, and counts it as in flight
+     * while it runs. The execution is counted as failed if it errors, or if its result is not a success.
+     *
+     * @param pluginName   Name of the plugin executing the action.
+     * @param datasourceId ID of the datasource, or null if the datasource is embedded in the action.
+     * @param execution    The execution to be recorded.
+     * @return The execution, recording the metrics when subscribed to.
+     */
+    public Mono<ActionExecutionResult> recordExecution(String pluginName, String datasourceId, Mono<ActionExecutionResult> execution) {
+        final String datasourceLabel = datasourceId == null ? EMBEDDED_DATASOURCE : datasourceId;
+        final AtomicLong inFlight = pluginInFlight.computeIfAbsent(pluginName, key -> new AtomicLong());
+
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            inFlight.incrementAndGet();
+
+            return execution
+                    .doOnSuccess(result -> {
+                        if (result == null || !Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+                            countError(pluginName, datasourceLabel);
+                        }
+                    })
+                    .doOnError(error -> countError(pluginName, datasourceLabel))
+                    .doFinally(signalType -> {
+                        inFlight.decrementAndGet();
+                        final long elapsedNanos = System.nanoTime() - start;
+                        pluginHistograms.computeIfAbsent(pluginName, key -> new Histogram()).record(elapsedNanos);
+                        datasourceHistograms.computeIfAbsent(datasourceLabel, key -> new Histogram()).record(elapsedNanos);
+                    });
+        });
+    }
+
+    private void countError(String pluginName, String datasourceLabel) {
+        pluginErrors.computeIfAbsent(pluginName, key -> new LongAdder()).increment();
+        datasourceErrors.computeIfAbsent(datasourceLabel, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Writes out all the metrics in the Prometheus text exposition format.
+     */
+    public String scrape() {
+        final StringBuilder out = new StringBuilder();
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_action_stage_seconds", "histogram",
+                "Time taken by each stage of action executions.");
+        stageHistograms.forEach((stage, histogram) ->
+                histogram.write(out, "appsmith_action_stage_seconds", "stage", stage.name().toLowerCase()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_plugin_execution_seconds", "histogram",
+                "Time taken by action executions, per plugin.");
+        pluginHistograms.forEach((plugin, histogram) ->
+                histogram.write(out, "appsmith_plugin_execution_seconds", "plugin", plugin));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_execution_seconds", "histogram",
+                "Time taken by action executions, per datasource.");
+        datasourceHistograms.forEach((datasource, histogram) ->
+                histogram.write(out, "appsmith_datasource_execution_seconds", "datasource", datasource));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_plugin_executions_in_flight", "gauge",
+                "Action executions that have started and not yet finished, per plugin.");
+        pluginInFlight.forEach((plugin, count) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_plugin_executions_in_flight", "plugin", plugin, null, count.get()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_plugin_execution_errors_total", "counter",
+                "Action executions that failed, per plugin.");
+        pluginErrors.forEach((plugin, count) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_plugin_execution_errors_total", "plugin", plugin, null, count.sum()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_execution_errors_total", "counter",
+                "Action executions that failed, per datasource.");
+        datasourceErrors.forEach((datasource, count) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_execution_errors_total", "datasource", datasource, null, count.sum()));
+
+        return out.toString();
+    }
+
+    /**
+     * Measures the time taken by each stage of a single action execution. Each lap adds the time since the previous
+     * lap, or since the timer was started, to the given stage.
+     */
+    public class ExecutionTimer {
+
+        private final long start = System.nanoTime();
+
+        private long lastLap = start;
+
+        private final long[] stageNanos = new long[Stage.values().length];
+
+        // Whether each stage has been lapped, since stages that an execution skips, like the connection for a cached
+        // result, shouldn't be recorded as taking no time.
+        private final boolean[] lapped = new boolean[Stage.values().length];
+
+        public synchronized void lap(Stage stage) {
+            final long now = System.nanoTime();
+            stageNanos[stage.ordinal()] += now - lastLap;
+            lapped[stage.ordinal()] = true;
+            lastLap = now;
+        }
+
+        /**
+         * Records the time taken by each stage that was lapped in the metrics.
+         *
+         * @return The time taken by each stage, to be given in the execution result.
+         */
+        public synchronized ActionExecutionTiming stop() {
+            for (Stage stage : Stage.values()) {
+                if (lapped[stage.ordinal()]) {
+                    stageHistograms.get(stage).record(stageNanos[stage.ordinal()]);
+                }
+            }
+
+            final ActionExecutionTiming timing = new ActionExecutionTiming();
+            timing.setContextMillis(toMillis(Stage.CONTEXT));
+            timing.setSubstitutionMillis(toMillis(Stage.SUBSTITUTION));
+            timing.setConnectionMillis(toMillis(Stage.CONNECTION));
+            timing.setExecutionMillis(toMillis(Stage.EXECUTION));
+            timing.setCacheSaveMillis(toMillis(Stage.CACHE_SAVE));
+            timing.setTotalMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return timing;
+        }
+
+        private long toMillis(Stage stage) {
+            return TimeUnit.NANOSECONDS.toMillis(stageNanos[stage.ordinal()]);
+        }
+
+    }
+
+    /**
+     * A histogram with fixed buckets, that can be recorded into from multiple threads without locking.
+     */
+    private static class Histogram {
+
+        private final LongAdder[] bucketCounts = new LongAdder[BUCKETS.length];
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder sumNanos = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS.length; ++i) {
+                bucketCounts[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            final double seconds = nanos / 1e9;
+            for (int i = 0; i < BUCKETS.length; ++i) {
+                if (seconds <= BUCKETS[i]) {
+                    bucketCounts[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sumNanos.add(nanos);
+        }
+
+        void write(StringBuilder out, String name, String label, String labelValue) {
+            // Prometheus buckets are cumulative, and are counted here individually.
+            long cumulativeCount = 0;
+            for (int i = 0; i < BUCKETS.length; ++i) {
+                cumulativeCount += bucketCounts[i].sum();
+                PrometheusTextWriter.writeSample(
+                        out, name + "_bucket", label, labelValue, Double.toString(BUCKETS[i]), cumulativeCount);
+            }
+            final long total = Math.max(count.sum(), cumulativeCount);
+            PrometheusTextWriter.writeSample(out, name + "_bucket", label, labelValue, "+Inf", total);
+            PrometheusTextWriter.writeSample(out, name + "_sum", label, labelValue, null, sumNanos.sum() / 1e9);
+            PrometheusTextWriter.writeSample(out, name + "_count", label, labelValue, null, total);
+        }
+
+    }
+
+}
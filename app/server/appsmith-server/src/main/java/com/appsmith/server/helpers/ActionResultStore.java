@@ -0,0 +1,366 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ResultFormat;
+import com.appsmith.server.dtos.ActionResultPageDTO;
+import com.appsmith.server.dtos.ActionResultQueryDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ResultFormatHelper.Table;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the last stored result of each action for each user in memory, so that table widgets can search, filter, sort
+ * and page through a large result without executing the action again, or getting all the rows in the browser. Results
+ * are kept as {@link Table}s, which don't repeat the column names in each row. The least recently used results are
+ * evicted once the estimated size of all the results goes over the configured maximum.
+ */
+@Component
+public class ActionResultStore {
+
+    // Results that haven't been queried for this long are likely of pages that aren't open anymore.
+    private static final long EXPIRY_MINUTES = 30;
+
+    // Rough sizes of objects in memory, in bytes, for estimating the size of results.
+    private static final int OBJECT_SIZE = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int STRING_SIZE = 56;
+
+    private final Cache<String, Table> results;
+
+    public ActionResultStore(@Value("${actions.result-store.max-size:67108864}") long maxSize) {
+        results = CacheBuilder.newBuilder()
+                // The maximum weight is split between the segments of the cache, so with more than one segment, results
+                // larger than a fraction of the maximum size would be evicted right away.
+                .concurrencyLevel(1)
+                .maximumWeight(maxSize)
+                .<String, Table>weigher((key, table) -> (int) Math.min(estimateSize(table), Integer.MAX_VALUE))
+                .expireAfterAccess(EXPIRY_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Stores the body of an action's result for a user, replacing the result stored before, if any.
+     *
+     * @return True if the body was stored, false if it is not a table of rows, and so can't be queried.
+     */
+    public boolean put(String userId, String actionId, JsonNode body) {
+        final Table table = ResultFormatHelper.toTable(body);
+        if (table == null) {
+            results.invalidate(key(userId, actionId));
+            return false;
+        }
+
+        results.put(key(userId, actionId), table);
+        return true;
+    }
+
+    /**
+     * @return The stored result of the action for the user, or null if there is none.
+     */
+    public Table get(String userId, String actionId) {
+        return results.getIfPresent(key(userId, actionId));
+    }
+
+    private static String key(String userId, String actionId) {
+        return userId + "/" + actionId;
+    }
+
+    /**
+     * Applies the search, filters, sort, projection and page of the query to a stored result. The stored result is not
+     * modified.
+     *
+     * @param table Stored result of an action.
+     * @param query What to apply to the result.
+     * @return The page of the result.
+     */
+    public static ActionResultPageDTO query(Table table, ActionResultQueryDTO query) throws AppsmithException {
+        final int offset = query.getOffset() == null ? 0 : query.getOffset();
+        final int limit = query.getLimit() == null ? Integer.MAX_VALUE : query.getLimit();
+        if (offset < 0) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "offset");
+        }
+        if (limit < 0) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "limit");
+        }
+
+        final List<String> columns = table.getColumns();
+        final Predicate<JsonNode[]> predicate = toPredicate(columns, query);
+
+        final List<JsonNode[]> rows = new ArrayList<>();
+        for (JsonNode[] row : table.getRows()) {
+            if (predicate.test(row)) {
+                rows.add(row);
+            }
+        }
+
+        if (query.getSortColumn() != null) {
+            final int index = columnIndex(columns, query.getSortColumn());
+            final Comparator<JsonNode> valueComparator = ActionResultStore::compareForSort;
+            final Comparator<JsonNode> orderedComparator = Boolean.TRUE.equals(query.getSortDescending())
+                    ? valueComparator.reversed()
+                    : valueComparator;
+            // The sort is stable, so rows with equal values stay in the order of the result.
+            rows.sort((row1, row2) -> {
+                final boolean isNull1 = isNull(row1[index]);
+                final boolean isNull2 = isNull(row2[index]);
+                if (isNull1 || isNull2) {
+                    return Boolean.compare(isNull1, isNull2);
+                }
+                return orderedComparator.compare(row1[index], row2[index]);
+            });
+        }
+
+        final int from = Math.min(offset, rows.size());
+        final int to = (int) Math.min((long) from + limit, rows.size());
+
+        Table page = new Table(columns, rows.subList(from, to));
+        if (query.getColumns() != null) {
+            page = project(page, query.getColumns());
+        }
+
+        final ActionResultPageDTO pageDTO = new ActionResultPageDTO();
+        if (query.getResultFormat() == ResultFormat.COMPACT) {
+            pageDTO.setBody(ResultFormatHelper.toCompact(page));
+            pageDTO.setResultFormat(ResultFormat.COMPACT);
+        } else {
+            pageDTO.setBody(ResultFormatHelper.toRows(page));
+            pageDTO.setResultFormat(ResultFormat.ROWS);
+        }
+        pageDTO.setTotalRows(rows.size());
+        return pageDTO;
+    }
+
+    private static Predicate<JsonNode[]> toPredicate(List<String> columns, ActionResultQueryDTO query)
+            throws AppsmithException {
+        Predicate<JsonNode[]> predicate = row -> true;
+
+        if (query.getSearchText() != null && !query.getSearchText().isEmpty()) {
+            final String searchText = query.getSearchText().toLowerCase(Locale.ROOT);
+            predicate = row -> {
+                for (JsonNode value : row) {
+                    if (!isNull(value) && toText(value).toLowerCase(Locale.ROOT).contains(searchText)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        if (query.getFilters() != null) {
+            for (ActionResultQueryDTO.Filter filter : query.getFilters()) {
+                predicate = predicate.and(toPredicate(columns, filter));
+            }
+        }
+
+        return predicate;
+    }
+
+    private static Predicate<JsonNode[]> toPredicate(List<String> columns, ActionResultQueryDTO.Filter filter)
+            throws AppsmithException {
+        if (filter.getOperator() == null) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "operator");
+        }
+
+        final int index = columnIndex(columns, filter.getColumn());
+        final JsonNode filterValue = filter.getValue();
+
+        if (isNull(filterValue)) {
+            switch (filter.getOperator()) {
+                case EQ:
+                    return row -> isNull(row[index]);
+                case NOT_EQ:
+                    return row -> !isNull(row[index]);
+                default:
+                    return row -> false;
+            }
+        }
+
+        switch (filter.getOperator()) {
+            case EQ:
+                return row -> !isNull(row[index]) && compareValues(row[index], filterValue) == 0;
+            case NOT_EQ:
+                return row -> isNull(row[index]) || compareValues(row[index], filterValue) != 0;
+            case GT:
+                return row -> !isNull(row[index]) && compareValues(row[index], filterValue) > 0;
+            case GTE:
+                return row -> !isNull(row[index]) && compareValues(row[index], filterValue) >= 0;
+            case LT:
+                return row -> !isNull(row[index]) && compareValues(row[index], filterValue) < 0;
+            case LTE:
+                return row -> !isNull(row[index]) && compareValues(row[index], filterValue) <= 0;
+            case CONTAINS:
+            default:
+                final String text = toText(filterValue).toLowerCase(Locale.ROOT);
+                return row -> !isNull(row[index]) && toText(row[index]).toLowerCase(Locale.ROOT).contains(text);
+        }
+    }
+
+    private static Table project(Table table, List<String> projectedColumns) throws AppsmithException {
+        final int[] indices = new int[projectedColumns.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = columnIndex(table.getColumns(), projectedColumns.get(i));
+        }
+
+        final List<JsonNode[]> rows = new ArrayList<>(table.getRows().size());
+        for (JsonNode[] row : table.getRows()) {
+            final JsonNode[] projectedRow = new JsonNode[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                projectedRow[i] = row[indices[i]];
+            }
+            rows.add(projectedRow);
+        }
+
+        return new Table(projectedColumns, rows);
+    }
+
+    private static int columnIndex(List<String> columns, String column) throws AppsmithException {
+        final int index = column == null ? -1 : columns.indexOf(column);
+        if (index < 0) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "column " + column);
+        }
+        return index;
+    }
+
+    private static boolean isNull(JsonNode value) {
+        return value == null || value.isNull();
+    }
+
+    private static String toText(JsonNode value) {
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+
+    /**
+     * Compares two values that are not null. Numbers are compared as numbers, also with strings that hold numbers, and
+     * booleans as booleans. Everything else is compared by its text.
+     */
+    static int compareValues(JsonNode value1, JsonNode value2) {
+        if (value1.isNumber() && value2.isNumber()) {
+            if (value1.isIntegralNumber() && value2.isIntegralNumber()
+                    && value1.canConvertToLong() && value2.canConvertToLong()) {
+                return Long.compare(value1.longValue(), value2.longValue());
+            }
+            return Double.compare(value1.doubleValue(), value2.doubleValue());
+        }
+
+        if (value1.isNumber() && value2.isTextual() || value1.isTextual() && value2.isNumber()) {
+            final Double number1 = toNumber(value1);
+            final Double number2 = toNumber(value2);
+            if (number1 != null && number2 != null) {
+                return Double.compare(number1, number2);
+            }
+        }
+
+        if (value1.isBoolean() && value2.isBoolean()) {
+            return Boolean.compare(value1.booleanValue(), value2.booleanValue());
+        }
+
+        return toText(value1).compareTo(toText(value2));
+    }
+
+    /**
+     * Compares two values that are not null, for sorting. Unlike {@link #compareValues}, values of different types are
+     * never compared by their contents, so that this is a consistent order even on columns of mixed types. Numbers come
+     * first, then booleans, then strings, and then objects and arrays.
+     */
+    static int compareForSort(JsonNode value1, JsonNode value2) {
+        final int rank1 = sortRank(value1);
+        final int rank2 = sortRank(value2);
+        if (rank1 != rank2) {
+            return Integer.compare(rank1, rank2);
+        }
+
+        switch (rank1) {
+            case 0:
+            case 1:
+                return compareValues(value1, value2);
+            default:
+                return toText(value1).compareTo(toText(value2));
+        }
+    }
+
+    private static int sortRank(JsonNode value) {
+        if (value.isNumber()) {
+            return 0;
+        } else if (value.isBoolean()) {
+            return 1;
+        } else if (value.isTextual()) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private static Double toNumber(JsonNode value) {
+        if (value.isNumber()) {
+            return value.doubleValue();
+        }
+
+        try {
+            return Double.parseDouble(value.textValue().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Estimates the memory used by a stored result, in bytes. This only needs to be accurate enough to keep the total
+     * size of the stored results near the configured maximum.
+     */
+    static long estimateSize(Table table) {
+        long size = OBJECT_SIZE;
+        for (String column : table.getColumns()) {
+            size += REFERENCE_SIZE + STRING_SIZE + column.length();
+        }
+        for (JsonNode[] row : table.getRows()) {
+            size += OBJECT_SIZE + REFERENCE_SIZE * (1 + row.length);
+            for (JsonNode value : row) {
+                size += estimateSize(value);
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSize(JsonNode value) {
+        if (value == null || value.isNull() || value.isBoolean()) {
+            // These are singletons.
+            return 0;
+        }
+
+        if (value.isTextual()) {
+            return OBJECT_SIZE + STRING_SIZE + value.textValue().length();
+        }
+
+        if (value.isObject()) {
+            long size = OBJECT_SIZE * 4;
+            final Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += OBJECT_SIZE * 2 + STRING_SIZE + field.getKey().length() + estimateSize(field.getValue());
+            }
+            return size;
+        }
+
+        if (value.isArray()) {
+            long size = OBJECT_SIZE * 2;
+            for (JsonNode element : value) {
+                size += REFERENCE_SIZE + estimateSize(element);
+            }
+            return size;
+        }
+
+        return OBJECT_SIZE * 2;
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Keeps a slow or failing datasource from tying up the server, by limiting the executions that run against each
+ * datasource. For each datasource, there is
+ * - a circuit breaker, that rejects all executions for a while once too many of the recent ones have failed, and then
+ * lets a single trial execution through, to find out if the datasource has recovered, and
+ * - a concurrency limit, that rejects executions beyond it right away, instead of letting them wait on the datasource.
+ * The limit adapts to the datasource: it grows by about one for each round of executions that succeed, and is halved
+ * when an execution fails. Executions that were already running when the limit was halved don't halve it again when
+ * they fail, so that a burst of timeouts halves it once rather than once per execution.
+ * <p>
+ * Only failures that show the datasource is unavailable, like timeouts, count here. Other errors, like a syntax error in
+ * a query, are answers from a working datasource.
+ */
+@Slf4j
+@Component
+public class DatasourceExecutionGuard {
+
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, CANCELLED
+    }
+
+    // Number of the latest executions of a datasource that the failure rate is computed over.
+    private static final int WINDOW_SIZE = 20;
+
+    // The circuit isn't opened before this many executions are seen, so that a couple of failures don't open it.
+    private static final int MIN_EXECUTIONS = 10;
+
+    private static final double INITIAL_LIMIT = 20;
+
+    private static final double MIN_LIMIT = 1;
+
+    // The limit is multiplied by this on a failure, at most once per round of executions.
+    private static final double LIMIT_BACKOFF = 0.5;
+
+    private final double failureRateThreshold;
+
+    private final long openDurationMillis;
+
+    private final double maxLimit;
+
+    private final Map<String, DatasourceGuard> guards = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DatasourceExecutionGuard(@Value("${actions.datasource-guard.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                    @Value("${actions.datasource-guard.open-duration-ms:30000}") long openDurationMillis,
+                                    @Value("${actions.datasource-guard.max-concurrency:100}") int maxConcurrency) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.maxLimit = Math.max(MIN_LIMIT, maxConcurrency);
+    }
+
+    /**
+     * Runs the execution against the datasource, if the datasource's circuit and concurrency limit allow it. Otherwise,
+     * the execution is not subscribed to, and an error is given right away. Executions on embedded datasources are not
+     * guarded, since they are not shared.
+     *
+     * @param datasourceId ID of the datasource, or null if it's embedded in the action.
+     * @param execution    The execution against the datasource.
+     * @param isFailure    Tells if an error of the execution shows that the datasource is unavailable.
+     * @return The execution, or an `AppsmithException` if it is rejected.
+     */
+    public <T> Mono<T> guard(String datasourceId, Mono<T> execution, Predicate<Throwable> isFailure) {
+        if (datasourceId == null) {
+            return execution;
+        }
+
+        return Mono.defer(() -> {
+            final Permit permit = new Permit(guards.computeIfAbsent(datasourceId, DatasourceGuard::new));
+            final String rejection = permit.acquire();
+            if (rejection != null) {
+                return Mono.error(new AppsmithException(AppsmithError.DATASOURCE_UNAVAILABLE, datasourceId, rejection));
+            }
+
+            return execution
+                    .doOnSuccess(result -> permit.release(Outcome.SUCCESS))
+                    .doOnError(error -> permit.release(isFailure.test(error) ? Outcome.FAILURE : Outcome.SUCCESS))
+                    .doOnCancel(() -> permit.release(Outcome.CANCELLED));
+        });
+    }
+
+    /**
+     * Same as the `Mono` variant of `guard`, for executions that emit their results in pages.
+     */
+    public <T> Flux<T> guard(String datasourceId, Flux<T> execution, Predicate<Throwable> isFailure) {
+        if (datasourceId == null) {
+            return execution;
+        }
+
+        return Flux.defer(() -> {
+            final Permit permit = new Permit(guards.computeIfAbsent(datasourceId, DatasourceGuard::new));
+            final String rejection = permit.acquire();
+            if (rejection != null) {
+                return Flux.error(new AppsmithException(AppsmithError.DATASOURCE_UNAVAILABLE, datasourceId, rejection));
+            }
+
+            return execution
+                    .doOnComplete(() -> permit.release(Outcome.SUCCESS))
+                    .doOnError(error -> permit.release(isFailure.test(error) ? Outcome.FAILURE : Outcome.SUCCESS))
+                    .doOnCancel(() -> permit.release(Outcome.CANCELLED));
+        });
+    }
+
+    public CircuitState getCircuitState(String datasourceId) {
+        final DatasourceGuard guard = guards.get(datasourceId);
+        return guard == null ? CircuitState.CLOSED : guard.getState();
+    }
+
+    public int getConcurrencyLimit(String datasourceId) {
+        final DatasourceGuard guard = guards.get(datasourceId);
+        return (int) (guard == null ? INITIAL_LIMIT : guard.getLimit());
+    }
+
+    /**
+     * Writes out the state of the guards of all the datasources in the Prometheus text exposition format.
+     */
+    public String scrape() {
+        final StringBuilder out = new StringBuilder();
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_circuit_state", "gauge",
+                "State of the circuit of each datasource: 0 when closed, 1 when open and 2 when half open.");
+        guards.forEach((datasource, guard) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_circuit_state", "datasource", datasource, null, guard.getState().ordinal()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_concurrency_limit", "gauge",
+                "Executions allowed to run at the same time against each datasource.");
+        guards.forEach((datasource, guard) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_concurrency_limit", "datasource", datasource, null, (int) guard.getLimit()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_executions_in_flight", "gauge",
+                "Executions running against each datasource.");
+        guards.forEach((datasource, guard) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_executions_in_flight", "datasource", datasource, null, guard.getInFlight()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_circuit_rejections_total", "counter",
+                "Executions rejected because the circuit of the datasource was open.");
+        guards.forEach((datasource, guard) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_circuit_rejections_total", "datasource", datasource, null, guard.circuitRejections.sum()));
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_datasource_limit_rejections_total", "counter",
+                "Executions rejected because the concurrency limit of the datasource was reached.");
+        guards.forEach((datasource, guard) -> PrometheusTextWriter.writeSample(
+                out, "appsmith_datasource_limit_rejections_total", "datasource", datasource, null, guard.limitRejections.sum()));
+
+        return out.toString();
+    }
+
+    /**
+     * An execution allowed to run against a datasource, once acquired. It is released once, when the execution ends in
+     * any way.
+     */
+    private static class Permit {
+
+        private final DatasourceGuard guard;
+
+        // Number of the executions acquired on the datasource before this one.
+        private long sequence;
+
+        private final AtomicBoolean isReleased = new AtomicBoolean(false);
+
+        Permit(DatasourceGuard guard) {
+            this.guard = guard;
+        }
+
+        /**
+         * @return Null if the execution can run, otherwise, the reason it's rejected.
+         */
+        String acquire() {
+            return guard.tryAcquire(this, System.currentTimeMillis());
+        }
+
+        void release(Outcome outcome) {
+            if (isReleased.compareAndSet(false, true)) {
+                guard.release(outcome, sequence, System.currentTimeMillis());
+            }
+        }
+
+    }
+
+    /**
+     * The circuit and concurrency limit of a single datasource. Executions against one datasource are few enough that
+     * locking on each start and end of an execution doesn't matter.
+     */
+    private class DatasourceGuard {
+
+        private final String datasourceId;
+
+        private CircuitState state = CircuitState.CLOSED;
+
+        private long openedAt;
+
+        // Outcomes of the latest executions, as a ring buffer, with true for failures.
+        private final boolean[] window = new boolean[WINDOW_SIZE];
+
+        private int windowCount = 0;
+
+        private int windowNext = 0;
+
+        private int windowFailures = 0;
+
+        private double limit = Math.min(INITIAL_LIMIT, maxLimit);
+
+        private int inFlight = 0;
+
+        // Number of executions acquired so far, and how many had been acquired when the limit was last decreased.
+        private long acquired = 0;
+
+        private long acquiredAtDecrease = 0;
+
+        private final LongAdder circuitRejections = new LongAdder();
+
+        private final LongAdder limitRejections = new LongAdder();
+
+        DatasourceGuard(String datasourceId) {
+            this.datasourceId = datasourceId;
+        }
+
+        /**
+         * @return Null if the execution can run, otherwise, the reason it's rejected.
+         */
+        synchronized String tryAcquire(Permit permit, long now) {
+            if (state == CircuitState.OPEN) {
+                if (now - openedAt < openDurationMillis) {
+                    circuitRejections.increment();
+                    return "too many of its recent executions failed";
+                }
+                state = CircuitState.HALF_OPEN;
+            }
+
+            if (state == CircuitState.HALF_OPEN && inFlight > 0) {
+                circuitRejections.increment();
+                return "it is recovering from failures";
+            }
+
+            if (inFlight >= (int) limit) {
+                limitRejections.increment();
+                return "too many executions are running against it";
+            }
+
+            ++inFlight;
+            permit.sequence = acquired++;
+            return null;
+        }
+
+        synchronized void release(Outcome outcome, long sequence, long now) {
+            final int inFlightBefore = inFlight--;
+            if (outcome == Outcome.CANCELLED) {
+                return;
+            }
+
+            final boolean isFailure = outcome == Outcome.FAILURE;
+
+            // Additive increase, only when the limit is being used, so that it doesn't grow while the datasource is
+            // idle. Multiplicative decrease on failures of executions started after the last decrease, since the ones
+            // running alongside the failure that caused it are likely to fail too.
+            if (isFailure) {
+                if (sequence >= acquiredAtDecrease) {
+                    limit = Math.max(MIN_LIMIT, limit * LIMIT_BACKOFF);
+                    acquiredAtDecrease = acquired;
+                }
+            } else if (inFlightBefore * 2 >= (int) limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+
+            if (state == CircuitState.HALF_OPEN) {
+                if (isFailure) {
+                    open(now);
+                } else {
+                    log.info("Closing the circuit of datasource {}, since it has recovered.", datasourceId);
+                    state = CircuitState.CLOSED;
+                    resetWindow();
+                }
+                return;
+            }
+
+            if (windowCount == WINDOW_SIZE) {
+                windowFailures -= window[windowNext] ? 1 : 0;
+            } else {
+                ++windowCount;
+            }
+            window[windowNext] = isFailure;
+            windowFailures += isFailure ? 1 : 0;
+            windowNext = (windowNext + 1) % WINDOW_SIZE;
+
+            if (state == CircuitState.CLOSED
+                    && windowCount >= MIN_EXECUTIONS
+                    && windowFailures >= failureRateThreshold * windowCount) {
+                log.warn("Opening the circuit of datasource {}, since {} of its latest {} executions failed.",
+                        datasourceId, windowFailures, windowCount);
+                open(now);
+            }
+        }
+
+        private void open(long now) {
+            state = CircuitState.OPEN;
+            openedAt = now;
+            resetWindow();
+        }
+
+        private void resetWindow() {
+            windowCount = 0;
+            windowNext = 0;
+            windowFailures = 0;
+        }
+
+        synchronized CircuitState getState() {
+            return state;
+        }
+
+        synchronized double getLimit() {
+            return limit;
+        }
+
+        synchronized int getInFlight() {
+            return inFlight;
+        }
+
+    }
+
+}
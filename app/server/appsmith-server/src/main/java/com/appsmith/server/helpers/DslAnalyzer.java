@@ -0,0 +1,159 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.constants.FieldName;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DslAnalyzer {
+
+    /**
+     * Everything in a DSL that is needed when saving a layout, as found by {@link #analyze(Map)}.
+     */
+    @Getter
+    public static class Analysis {
+
+        // Names of the widgets in the DSL, found by walking the `children` of widgets from the root.
+        private final Set<String> widgetNames = new HashSet<>();
+
+        // Mustache keys found in any string value of the DSL, with the surrounding braces stripped and then trimmed.
+        private final Set<String> mustacheKeys = new HashSet<>();
+
+        // Top level identifiers referenced in the mustache keys. e.g. for `{{Input1.text}}`, this has `Input1`.
+        private final Set<String> bindingNames = new HashSet<>();
+
+    }
+
+    /**
+     * Walks the given DSL once, and collects the widget names, the mustache keys and the identifiers used in them. The
+     * walk uses an explicit stack instead of recursion, so large DSLs don't overflow the call stack, and the DSL's maps
+     * and lists are visited in-place, without being copied.
+     *
+     * @param dsl The DSL of a layout.
+     * @return The widget names, mustache keys and binding names in the DSL.
+     */
+    public static Analysis analyze(Map<String, Object> dsl) {
+        final Analysis analysis = new Analysis();
+        if (dsl == null) {
+            return analysis;
+        }
+
+        // Values to visit, each paired with whether it is a widget (the root, or a child of a widget).
+        final Deque<Object> values = new ArrayDeque<>();
+        final Deque<Boolean> isWidgetFlags = new ArrayDeque<>();
+        values.push(dsl);
+        isWidgetFlags.push(true);
+
+        while (!values.isEmpty()) {
+            final Object value = values.pop();
+            final boolean isWidget = isWidgetFlags.pop();
+
+            if (value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                final Object widgetName = isWidget ? map.get(FieldName.WIDGET_NAME) : null;
+                if (widgetName != null) {
+                    analysis.widgetNames.add(widgetName.toString());
+                }
+
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    final Object child = entry.getValue();
+                    if (child == null) {
+                        continue;
+                    }
+
+                    // Only the children of a widget can be widgets themselves.
+                    final boolean areChildrenWidgets = widgetName != null
+                            && FieldName.CHILDREN.equals(entry.getKey())
+                            && child instanceof List;
+                    if (areChildrenWidgets) {
+                        for (Object widget : (List<?>) child) {
+                            if (widget != null) {
+                                values.push(widget);
+                                isWidgetFlags.push(true);
+                            }
+                        }
+                    } else {
+                        values.push(child);
+                        isWidgetFlags.push(false);
+                    }
+                }
+
+            } else if (value instanceof Collection) {
+                for (Object item : (Collection<?>) value) {
+                    if (item != null) {
+                        values.push(item);
+                        isWidgetFlags.push(false);
+                    }
+                }
+
+            } else if (value instanceof String) {
+                addMustacheKeys((String) value, analysis);
+
+            }
+        }
+
+        return analysis;
+    }
+
+    private static void addMustacheKeys(String template, Analysis analysis) {
+        // Most strings in a DSL are plain values, and can be skipped without tokenizing them.
+        if (template.indexOf("{{") < 0) {
+            return;
+        }
+
+        for (String token : MustacheHelper.tokenize(template)) {
+            if (token.startsWith("{{") && token.endsWith("}}")) {
+                final String key = token.substring(2, token.length() - 2).trim();
+                if (analysis.mustacheKeys.add(key)) {
+                    extractBindingNames(key, analysis.bindingNames);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the top level identifiers referenced in the given mustache key to the given set. Identifiers are runs of
+     * letters, digits, underscores and dots that don't start with a digit or a dot, and only the part before the first
+     * dot is taken. e.g. for `JSON.stringify(fetchUsers.data)`, this adds `JSON` and `fetchUsers`.
+     *
+     * @param mustacheKey  Contents of a mustache interpolation.
+     * @param bindingNames Set to add the identifiers to.
+     */
+    public static void extractBindingNames(String mustacheKey, Set<String> bindingNames) {
+        final int length = mustacheKey.length();
+        int i = 0;
+
+        while (i < length) {
+            if (!isIdentifierStart(mustacheKey.charAt(i))) {
+                ++i;
+                continue;
+            }
+
+            final int start = i;
+            int firstDot = -1;
+            while (i < length && isIdentifierPart(mustacheKey.charAt(i))) {
+                if (firstDot < 0 && mustacheKey.charAt(i) == '.') {
+                    firstDot = i;
+                }
+                ++i;
+            }
+
+            bindingNames.add(mustacheKey.substring(start, firstDot < 0 ? i : firstDot));
+        }
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9') || c == '.';
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps the results of materialized actions, so that they're shared by all the executions of the action, on all the
+ * server instances. Results are kept in memory on each instance, and in Redis, where the instances that didn't compute
+ * a result find it. Redis is also used to make sure only one instance refreshes a result at a time.
+ * <p>
+ * Results are kept along with the version of the action they were computed for, which is the time the action was last
+ * updated, and only given for that version. This way, no instance gives the result of an earlier configuration of an
+ * action, even before the result is evicted.
+ */
+@Slf4j
+@Component
+public class MaterializedResultCache {
+
+    private static final String RESULT_KEY_PREFIX = "materialized-result:";
+
+    private static final String REFRESH_LOCK_KEY_PREFIX = "materialized-result-refresh:";
+
+    // Results are kept in Redis for this many intervals of their action, so that they're still given, as stale results,
+    // after a few failed refreshes.
+    private static final int RESULT_TTL_INTERVALS = 10;
+
+    private static final int LOCAL_MAX_RESULTS = 256;
+
+    /**
+     * The parts of a result of an action that are kept. Only successful results are kept.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class MaterializedResult {
+
+        String statusCode;
+
+        JsonNode headers;
+
+        JsonNode body;
+
+        // As an ISO-8601 instant, so that it reads the same in Redis and in the results.
+        String materializedAt;
+
+        String actionVersion;
+
+    }
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, MaterializedResult> localResults = CacheBuilder.newBuilder()
+            .maximumSize(LOCAL_MAX_RESULTS)
+            .build();
+
+    public MaterializedResultCache(ReactiveRedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Gets the latest result of the action. The result kept in memory is given if it's younger than the interval,
+     * otherwise, Redis is checked for a result computed by another instance.
+     *
+     * @param actionId      Id of the materialized action.
+     * @param actionVersion Version of the action, as given by {@link #getActionVersion(Instant)}.
+     * @param interval      Materialize interval of the action.
+     * @return The result, or empty if there isn't one for this version of the action.
+     */
+    public Mono<MaterializedResult> get(String actionId, String actionVersion, Duration interval) {
+        final MaterializedResult cachedResult = localResults.getIfPresent(actionId);
+        final MaterializedResult localResult = cachedResult != null && actionVersion.equals(cachedResult.getActionVersion())
+                ? cachedResult
+                : null;
+        if (localResult != null && !isStale(localResult, interval)) {
+            return Mono.just(localResult);
+        }
+
+        return redisTemplate.opsForValue().get(RESULT_KEY_PREFIX + actionId)
+                .flatMap(json -> Mono.fromCallable(() -> objectMapper.readValue(json, MaterializedResult.class)))
+                .filter(result -> actionVersion.equals(result.getActionVersion()))
+                .filter(result -> localResult == null
+                        || Instant.parse(result.getMaterializedAt()).isAfter(Instant.parse(localResult.getMaterializedAt())))
+                .doOnNext(result -> localResults.put(actionId, result))
+                .onErrorResume(error -> {
+                    log.warn("Error reading materialized result of action {} from Redis.", actionId, error);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.justOrEmpty(localResult));
+    }
+
+    /**
+     * Keeps the result as the latest result of the given version of the action, if it is successful.
+     *
+     * @return The kept result, or empty if the result is not kept.
+     */
+    public Mono<MaterializedResult> put(String actionId, String actionVersion, Duration interval, ActionExecutionResult result) {
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.empty();
+        }
+
+        final MaterializedResult materializedResult = new MaterializedResult();
+        materializedResult.setStatusCode(result.getStatusCode());
+        materializedResult.setHeaders(result.getHeaders());
+        // Bodies are only read after this, never changed in place, so a JSON body is shared instead of copied.
+        materializedResult.setBody(result.getBody() instanceof JsonNode
+                ? (JsonNode) result.getBody()
+                : objectMapper.valueToTree(result.getBody()));
+        materializedResult.setMaterializedAt(Instant.now().toString());
+        materializedResult.setActionVersion(actionVersion);
+        localResults.put(actionId, materializedResult);
+
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(materializedResult))
+                .flatMap(json -> redisTemplate.opsForValue()
+                        .set(RESULT_KEY_PREFIX + actionId, json, interval.multipliedBy(RESULT_TTL_INTERVALS)))
+                .onErrorResume(error -> {
+                    log.warn("Error saving materialized result of action {} to Redis.", actionId, error);
+                    return Mono.empty();
+                })
+                .thenReturn(materializedResult);
+    }
+
+    /**
+     * Claims the refresh of the action's result for this instance, for the length of the interval. This keeps the
+     * instances from refreshing the same result at the same time, and the result from being refreshed more than once in
+     * an interval. If Redis can't be reached, the refresh is allowed.
+     *
+     * @return True if this instance should refresh the result.
+     */
+    public Mono<Boolean> claimRefresh(String actionId, Duration interval) {
+        return redisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_LOCK_KEY_PREFIX + actionId, Instant.now().toString(), interval)
+                .onErrorResume(error -> {
+                    log.warn("Error claiming the refresh of materialized result of action {}.", actionId, error);
+                    return Mono.just(true);
+                })
+                .defaultIfEmpty(true);
+    }
+
+    /**
+     * Removes the result of the action, and its claimed refresh, so that the action is executed afresh the next time.
+     * Used when an action is updated or deleted. Results kept in memory by other instances are not removed, but aren't
+     * given anymore either, since they are for an earlier version of the action.
+     */
+    public Mono<Void> evict(String actionId) {
+        localResults.invalidate(actionId);
+        return redisTemplate.delete(Flux.just(RESULT_KEY_PREFIX + actionId, REFRESH_LOCK_KEY_PREFIX + actionId))
+                .onErrorResume(error -> {
+                    log.warn("Error evicting materialized result of action {} from Redis.", actionId, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Gives the version of an action, from the time it was last updated.
+     */
+    public static String getActionVersion(Instant actionUpdatedAt) {
+        return String.valueOf(actionUpdatedAt);
+    }
+
+    public static boolean isStale(MaterializedResult result, Duration interval) {
+        return Instant.parse(result.getMaterializedAt()).plus(interval).isBefore(Instant.now());
+    }
+
+    /**
+     * Makes a new result of the action from a kept result, since the kept result is shared by many executions.
+     */
+    public static ActionExecutionResult toActionExecutionResult(MaterializedResult materializedResult, Duration interval) {
+        final ActionExecutionResult result = new ActionExecutionResult();
+        result.setStatusCode(materializedResult.getStatusCode());
+        result.setHeaders(materializedResult.getHeaders());
+        result.setBody(materializedResult.getBody());
+        result.setIsExecutionSuccess(true);
+        result.setMaterializedAt(materializedResult.getMaterializedAt());
+        result.setIsStale(isStale(materializedResult, interval));
+        return result;
+    }
+
+}
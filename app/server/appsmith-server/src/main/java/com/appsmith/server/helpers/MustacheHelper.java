@@ -3,6 +3,8 @@ package com.appsmith.server.helpers;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.SqlSyntax;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
 import org.springframework.beans.BeanWrapper;
@@ -156,6 +158,204 @@ public class MustacheHelper {
         return keys;
     }
 
+    /**
+     * Replaces the Mustache interpolations in the given template with `?` placeholders, so that it can be used as the
+     * SQL of a prepared statement. The template is scanned with the given syntax of the plugin's dialect:
+     * - A string literal that has interpolations in it, like `'%{{ Input1.text }}%'`, is replaced as a whole by a single
+     * placeholder, whose value is the literal's text with the interpolations rendered, since a placeholder inside a
+     * literal would just be a question mark in a string.
+     * - Interpolations inside quoted identifiers and dollar quoted bodies are substituted as text, since parameters
+     * can't be bound there.
+     * - Interpolations inside comments are left as they are.
+     *
+     * @param template The Mustache input template string.
+     * @param context  Values of the replacement keys.
+     * @param params   List to which the values of the placeholders are added, one for each placeholder, in order.
+     * @param syntax   Syntax of the plugin's SQL dialect.
+     * @return The template with interpolations replaced by `?` placeholders.
+     */
+    public static String renderPlaceholders(String template, Map<String, String> context, List<Param> params, SqlSyntax syntax) {
+        final List<String> tokens = tokenize(template);
+        final StringBuilder rendered = new StringBuilder(template == null ? 0 : template.length());
+
+        // Quote character of the string literal the scan is in, if any, with the literal's text as in the template, its
+        // text with the interpolations rendered, and its interpolations.
+        char stringQuote = 0;
+        final StringBuilder literalTemplate = new StringBuilder();
+        final StringBuilder literalValue = new StringBuilder();
+        final List<Param> literalParams = new ArrayList<>();
+        // Set to the text that ends the identifier, dollar quoted body or comment the scan is in, if any.
+        String verbatimEnd = null;
+        boolean isComment = false;
+
+        for (final String token : tokens) {
+            if (token.startsWith("{{") && token.endsWith("}}")) {
+                final String key = token.substring(2, token.length() - 2).trim();
+                // Missing keys are rendered as empty strings by Mustache, and the same is done here.
+                final String value = context.getOrDefault(key, "");
+
+                if (verbatimEnd != null) {
+                    rendered.append(isComment ? token : value);
+                } else if (stringQuote != 0) {
+                    literalTemplate.append('?');
+                    literalValue.append(value);
+                    literalParams.add(new Param(key, value));
+                } else {
+                    rendered.append('?');
+                    params.add(new Param(key, value));
+                }
+                continue;
+            }
+
+            for (int i = 0; i < token.length(); ++i) {
+                final char c = token.charAt(i);
+
+                if (verbatimEnd != null) {
+                    // A doubled identifier quote ends the identifier and starts it again right away, which keeps the
+                    // scan in it.
+                    if (token.startsWith(verbatimEnd, i)) {
+                        rendered.append(verbatimEnd);
+                        i += verbatimEnd.length() - 1;
+                        verbatimEnd = null;
+                    } else {
+                        rendered.append(c);
+                    }
+
+                } else if (stringQuote != 0) {
+                    if (c == '\\' && syntax.isBackslashEscapes() && i + 1 < token.length()) {
+                        final char escaped = token.charAt(++i);
+                        literalTemplate.append(c).append(escaped);
+                        literalValue.append(unescapeBackslash(escaped));
+                    } else if (c == stringQuote && i + 1 < token.length() && token.charAt(i + 1) == stringQuote) {
+                        // A doubled quote is a quote character in the literal.
+                        literalTemplate.append(c).append(c);
+                        literalValue.append(c);
+                        ++i;
+                    } else if (c == stringQuote) {
+                        if (literalParams.isEmpty()) {
+                            rendered.append(stringQuote).append(literalTemplate).append(stringQuote);
+                        } else {
+                            final List<String> keys = new ArrayList<>();
+                            literalParams.forEach(param -> keys.add(param.getKey()));
+                            rendered.append('?');
+                            params.add(new Param(String.join(", ", keys), literalValue.toString()));
+                        }
+                        stringQuote = 0;
+                    } else {
+                        literalTemplate.append(c);
+                        literalValue.append(c);
+                    }
+
+                } else if (syntax.getStringQuotes().contains(c)) {
+                    stringQuote = c;
+                    literalTemplate.setLength(0);
+                    literalValue.setLength(0);
+                    literalParams.clear();
+
+                } else {
+                    final String verbatimStart = findVerbatimStart(token, i, rendered, syntax);
+                    if (verbatimStart == null) {
+                        rendered.append(c);
+                        continue;
+                    }
+
+                    rendered.append(verbatimStart);
+                    i += verbatimStart.length() - 1;
+                    isComment = !syntax.getIdentifierQuotes().contains(c) && c != '$';
+                    if (isComment) {
+                        verbatimEnd = c == '/' ? "*/" : "\n";
+                    } else {
+                        // Identifiers end with the quote they start with, and dollar quoted bodies with their tag.
+                        verbatimEnd = verbatimStart;
+                    }
+                }
+            }
+        }
+
+        if (stringQuote != 0) {
+            // The literal isn't closed, so the query is invalid anyway. It is given back as written, with a placeholder
+            // for each interpolation in it, so that the database reports the error.
+            rendered.append(stringQuote).append(literalTemplate);
+            params.addAll(literalParams);
+        }
+
+        return rendered.toString();
+    }
+
+    /**
+     * Finds the text that starts a quoted identifier, a dollar quoted body or a comment at the given index of the token,
+     * if any, as per the syntax.
+     */
+    private static String findVerbatimStart(String token, int index, CharSequence rendered, SqlSyntax syntax) {
+        final char c = token.charAt(index);
+
+        if (syntax.getIdentifierQuotes().contains(c)) {
+            return String.valueOf(c);
+        }
+
+        if (token.startsWith("/*", index)) {
+            return "/*";
+        }
+
+        if (c == '#' && syntax.isHashComments()) {
+            return "#";
+        }
+
+        if (token.startsWith("--", index)) {
+            final boolean isFollowedByWhitespace = index + 2 >= token.length()
+                    || Character.isWhitespace(token.charAt(index + 2));
+            return !syntax.isDashCommentNeedsWhitespace() || isFollowedByWhitespace ? "--" : null;
+        }
+
+        if (c == '$' && syntax.isDollarQuoting()) {
+            // A dollar tag can't follow an identifier character, since `$` can be a part of identifiers, and its name
+            // can't start with a digit, so that it isn't confused with positional parameters like `$1`.
+            final char previous = index > 0
+                    ? token.charAt(index - 1)
+                    : (rendered.length() > 0 ? rendered.charAt(rendered.length() - 1) : ' ');
+            if (Character.isLetterOrDigit(previous) || previous == '_' || previous == '$') {
+                return null;
+            }
+
+            int end = index + 1;
+            while (end < token.length() && (Character.isLetterOrDigit(token.charAt(end)) || token.charAt(end) == '_')) {
+                if (end == index + 1 && Character.isDigit(token.charAt(end))) {
+                    return null;
+                }
+                ++end;
+            }
+            return end < token.length() && token.charAt(end) == '$' ? token.substring(index, end + 1) : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Gives the character that a backslash escape in a MySQL string literal stands for. The `\%` and `\_` escapes are
+     * kept as they are, since they escape wildcards in `LIKE` patterns.
+     */
+    private static String unescapeBackslash(char escaped) {
+        switch (escaped) {
+            case '0':
+                return "\0";
+            case 'b':
+                return "\b";
+            case 'n':
+                return "\n";
+            case 'r':
+                return "\r";
+            case 't':
+                return "\t";
+            case 'Z':
+                return "\032";
+            case '%':
+            case '_':
+                return "\\" + escaped;
+            default:
+                return String.valueOf(escaped);
+        }
+    }
+
     public static Set<String> extractMustacheKeysFromFields(Object object) {
         final Set<String> keys = new HashSet<>();
 
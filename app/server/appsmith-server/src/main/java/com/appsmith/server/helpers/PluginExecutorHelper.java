@@ -4,31 +4,146 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.PluginRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.pf4j.PluginManager;
+import org.pf4j.PluginWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Finds the executors of plugins. Looking up the extensions of a plugin in the plugin manager resolves and instantiates
+ * them on every call, so the executors are instead kept in a registry, which is read without any locking. The registry
+ * is built when the plugins are started, and is replaced as a whole when a plugin is installed.
+ */
 @Component
+@Slf4j
 public class PluginExecutorHelper {
 
     private final PluginManager pluginManager;
 
+    private final PluginRepository pluginRepository;
+
+    private final AtomicReference<Registry> registry = new AtomicReference<>(new Registry(Map.of(), Map.of()));
+
     @Autowired
-    public PluginExecutorHelper(PluginManager pluginManager) {
+    public PluginExecutorHelper(PluginManager pluginManager, PluginRepository pluginRepository) {
         this.pluginManager = pluginManager;
+        this.pluginRepository = pluginRepository;
+    }
+
+    /**
+     * Registers the executors of all the plugins that have been started by the plugin manager. The executors are
+     * registered against the plugins' package names here, and against plugin ids as they are looked up.
+     */
+    @PostConstruct
+    public void registerStartedPlugins() {
+        final Map<String, PluginExecutor> executorsByPackageName = new HashMap<>();
+        for (PluginWrapper pluginWrapper : pluginManager.getStartedPlugins()) {
+            final String packageName = pluginWrapper.getPluginId();
+            final List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, packageName);
+            if (!executorList.isEmpty()) {
+                executorsByPackageName.put(packageName, executorList.get(0));
+            }
+        }
+
+        log.debug("Registered executors for plugins {}", executorsByPackageName.keySet());
+        registry.set(new Registry(executorsByPackageName, Map.of()));
+    }
+
+    /**
+     * Registers the executor of the given plugin, replacing any executor registered for it before. Meant to be called
+     * after a plugin is installed and started.
+     */
+    public void registerPlugin(Plugin plugin) {
+        final List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, plugin.getPackageName());
+        if (executorList.isEmpty()) {
+            log.warn("No executor found for plugin {} while registering it.", plugin.getPackageName());
+            return;
+        }
+
+        register(plugin, executorList.get(0));
     }
 
     public Mono<PluginExecutor> getPluginExecutor(Mono<Plugin> pluginMono) {
         return pluginMono.flatMap(plugin -> {
+                    final Registry currentRegistry = registry.get();
+                    final PluginExecutor pluginExecutor = currentRegistry.executorsByPackageName.get(plugin.getPackageName());
+                    if (pluginExecutor != null) {
+                        if (plugin.getId() != null && !currentRegistry.executorsByPluginId.containsKey(plugin.getId())) {
+                            register(plugin, pluginExecutor);
+                        }
+                        return Mono.just(pluginExecutor);
+                    }
+
+                    // The plugin may have been started without going through this registry.
                     List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, plugin.getPackageName());
                     if (executorList.isEmpty()) {
                         return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", plugin.getPackageName()));
                     }
+                    register(plugin, executorList.get(0));
                     return Mono.just(executorList.get(0));
                 }
         );
     }
+
+    /**
+     * Gets the executor of the plugin with the given id. Once a plugin's executor has been found, later calls for the
+     * same plugin id don't query the database for the plugin.
+     *
+     * @param pluginId Id of the plugin, as saved in the database.
+     * @return Publishes the plugin's executor, or an error if there is no such plugin or it has no executor.
+     */
+    public Mono<PluginExecutor> getPluginExecutorByPluginId(String pluginId) {
+        if (pluginId == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "pluginId"));
+        }
+
+        final PluginExecutor pluginExecutor = registry.get().executorsByPluginId.get(pluginId);
+        if (pluginExecutor != null) {
+            return Mono.just(pluginExecutor);
+        }
+
+        return getPluginExecutor(pluginRepository.findById(pluginId)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", pluginId))));
+    }
+
+    private void register(Plugin plugin, PluginExecutor pluginExecutor) {
+        registry.updateAndGet(current -> {
+            final Map<String, PluginExecutor> executorsByPackageName = new HashMap<>(current.executorsByPackageName);
+            executorsByPackageName.put(plugin.getPackageName(), pluginExecutor);
+
+            final Map<String, PluginExecutor> executorsByPluginId = new HashMap<>(current.executorsByPluginId);
+            if (plugin.getId() != null) {
+                executorsByPluginId.put(plugin.getId(), pluginExecutor);
+            }
+
+            return new Registry(executorsByPackageName, executorsByPluginId);
+        });
+    }
+
+    /**
+     * An immutable snapshot of the registered executors. Changes to the registry create a new snapshot, so reads never
+     * see a partially updated registry.
+     */
+    private static class Registry {
+
+        private final Map<String, PluginExecutor> executorsByPackageName;
+
+        private final Map<String, PluginExecutor> executorsByPluginId;
+
+        Registry(Map<String, PluginExecutor> executorsByPackageName, Map<String, PluginExecutor> executorsByPluginId) {
+            this.executorsByPackageName = Map.copyOf(executorsByPackageName);
+            this.executorsByPluginId = Map.copyOf(executorsByPluginId);
+        }
+
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.appsmith.server.helpers;
+
+/**
+ * Writes metrics in the Prometheus text exposition format, for the components that give out their metrics to be
+ * scraped, like {@link ActionExecutionMetrics}.
+ */
+public class PrometheusTextWriter {
+
+    public static void writeHeader(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes a sample of the metric without any labels.
+     */
+    public static void writeSample(StringBuilder out, String name, Number value) {
+        writeSample(out, name, null, null, null, value);
+    }
+
+    /**
+     * Writes a sample of the metric, with the given label, and the bucket bound for histograms. A null label writes the
+     * sample without any labels.
+     */
+    public static void writeSample(StringBuilder out, String name, String label, String labelValue, String le, Number value) {
+        out.append(name);
+        if (label != null) {
+            out.append('{').append(label).append("=\"").append(escapeLabelValue(labelValue)).append('"');
+            if (le != null) {
+                out.append(",le=\"").append(le).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+}
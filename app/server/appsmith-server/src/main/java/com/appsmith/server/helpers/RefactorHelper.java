@@ -0,0 +1,204 @@
+package com.appsmith.server.helpers;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.server.helpers.BeanCopyUtils.isDomainModel;
+
+/**
+ * Renames references to a widget or an action, by walking the DSL and action configurations structurally, and rewriting
+ * only the strings that use the old name.
+ */
+public class RefactorHelper {
+
+    /**
+     * Replaces the references to `oldName` in the mustache interpolations of the given template. A reference is an
+     * occurrence of the name that is not part of a longer identifier, and is not a property of another object. e.g. for
+     * the old name `Text1`, `{{Text1.text + appsmith.Text1}}` becomes `{{Text2.text + appsmith.Text1}}`.
+     *
+     * @param template String that may contain mustache interpolations.
+     * @param oldName  Name to be replaced.
+     * @param newName  Name to replace with.
+     * @return The template with references replaced, or the same template instance if there are none.
+     */
+    public static String refactorTemplate(String template, String oldName, String newName) {
+        if (template == null || !template.contains("{{") || !template.contains(oldName)) {
+            return template;
+        }
+
+        final StringBuilder refactored = new StringBuilder(template.length());
+        boolean isChanged = false;
+
+        for (String token : MustacheHelper.tokenize(template)) {
+            if (token.startsWith("{{") && token.endsWith("}}")) {
+                final String refactoredToken = replaceReferences(token, oldName, newName);
+                isChanged = isChanged || refactoredToken != token;
+                refactored.append(refactoredToken);
+            } else {
+                refactored.append(token);
+            }
+        }
+
+        return isChanged ? refactored.toString() : template;
+    }
+
+    private static String replaceReferences(String expression, String oldName, String newName) {
+        StringBuilder replaced = null;
+        int copiedUpTo = 0;
+        int index = expression.indexOf(oldName);
+
+        while (index >= 0) {
+            final int end = index + oldName.length();
+            final boolean isReference = (index == 0 || !isIdentifierPart(expression.charAt(index - 1)) && expression.charAt(index - 1) != '.')
+                    && (end == expression.length() || !isIdentifierPart(expression.charAt(end)));
+
+            if (isReference) {
+                if (replaced == null) {
+                    replaced = new StringBuilder(expression.length());
+                }
+                replaced.append(expression, copiedUpTo, index).append(newName);
+                copiedUpTo = end;
+            }
+
+            index = expression.indexOf(oldName, end);
+        }
+
+        if (replaced == null) {
+            return expression;
+        }
+
+        return replaced.append(expression, copiedUpTo, expression.length()).toString();
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Renames the references to `oldName` in the given DSL, in-place. String values that are exactly the old name (like
+     * the `widgetName` of the widget being renamed) and map keys that are exactly the old name are replaced, and so are
+     * references in mustache interpolations. All other strings are left as they are.
+     *
+     * @return true if anything in the DSL was changed.
+     */
+    public static boolean refactorDsl(Map<String, Object> dsl, String oldName, String newName) {
+        boolean isChanged = false;
+
+        final Deque<Object> values = new ArrayDeque<>();
+        values.push(dsl);
+
+        while (!values.isEmpty()) {
+            final Object value = values.pop();
+
+            if (value instanceof Map) {
+                final Map<Object, Object> map = (Map<Object, Object>) value;
+
+                if (map.containsKey(oldName) && !map.containsKey(newName)) {
+                    map.put(newName, map.remove(oldName));
+                    isChanged = true;
+                }
+
+                for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                    if (entry.getValue() instanceof String) {
+                        final String refactored = refactorLeaf((String) entry.getValue(), oldName, newName);
+                        if (refactored != entry.getValue()) {
+                            entry.setValue(refactored);
+                            isChanged = true;
+                        }
+                    } else if (entry.getValue() != null) {
+                        values.push(entry.getValue());
+                    }
+                }
+
+            } else if (value instanceof List) {
+                final List<Object> list = (List<Object>) value;
+                for (int i = 0; i < list.size(); ++i) {
+                    final Object item = list.get(i);
+                    if (item instanceof String) {
+                        final String refactored = refactorLeaf((String) item, oldName, newName);
+                        if (refactored != item) {
+                            list.set(i, refactored);
+                            isChanged = true;
+                        }
+                    } else if (item != null) {
+                        values.push(item);
+                    }
+                }
+
+            }
+        }
+
+        return isChanged;
+    }
+
+    private static String refactorLeaf(String value, String oldName, String newName) {
+        return oldName.equals(value) ? newName : refactorTemplate(value, oldName, newName);
+    }
+
+    /**
+     * Renames the references to `oldName` in the mustache interpolations in the string fields of the given object, and
+     * of the Appsmith models nested in it, in-place. This is meant for action configurations.
+     *
+     * @return true if any field was changed.
+     */
+    public static boolean refactorFieldValues(Object object, String oldName, String newName) {
+        boolean isChanged = false;
+
+        final Deque<Object> objects = new ArrayDeque<>();
+        objects.push(object);
+
+        while (!objects.isEmpty()) {
+            final BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(objects.pop());
+
+            for (PropertyDescriptor propertyDescriptor : beanWrapper.getPropertyDescriptors()) {
+                // For properties like `class` that don't have a set method, just ignore them.
+                if (propertyDescriptor.getWriteMethod() == null) {
+                    continue;
+                }
+
+                final String name = propertyDescriptor.getName();
+                final Object value = beanWrapper.getPropertyValue(name);
+
+                if (value == null) {
+                    continue;
+                }
+
+                if (value instanceof String) {
+                    final String refactored = refactorTemplate((String) value, oldName, newName);
+                    if (refactored != value) {
+                        beanWrapper.setPropertyValue(name, refactored);
+                        isChanged = true;
+                    }
+
+                } else if (isDomainModel(value.getClass())) {
+                    objects.push(value);
+
+                } else if (value instanceof List) {
+                    for (Object item : new ArrayList<>((List<?>) value)) {
+                        if (item != null && isDomainModel(item.getClass())) {
+                            objects.push(item);
+                        }
+                    }
+
+                } else if (value instanceof Map) {
+                    for (Object item : ((Map<?, ?>) value).values()) {
+                        if (item != null && isDomainModel(item.getClass())) {
+                            objects.push(item);
+                        }
+                    }
+
+                }
+            }
+        }
+
+        return isChanged;
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ResultFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the bodies of action execution results, as returned by the plugins, to the layouts described in
+ * {@link ResultFormat}. This is done here instead of in each plugin, so that every plugin that returns a table of rows,
+ * like the SQL and Mongo plugins, can give its results in any of the layouts.
+ */
+public class ResultFormatHelper {
+
+    // A string column is dictionary encoded only if each of its distinct values appears at least this many times, on
+    // average. Otherwise, the dictionary would save too little to be worth decoding.
+    private static final int MIN_REPEATS_FOR_DICTIONARY = 2;
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    /**
+     * A table of rows, with the names of the columns given once, and the values of each row in the order of the
+     * columns. Rows that don't have a column have null for it, instead of a JSON null.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Table {
+
+        private final List<String> columns;
+
+        private final List<JsonNode[]> rows;
+
+    }
+
+    /**
+     * Sets the result's body in the given format, if it can be, and sets the format the body ends up in on the result.
+     * Nothing is changed if no format is given.
+     *
+     * @param result Result of an action's execution, with the body as returned by the plugin.
+     * @param format Format asked for in the execution request, or null.
+     * @return The same result.
+     */
+    public static ActionExecutionResult applyFormat(ActionExecutionResult result, ResultFormat format) {
+        if (format == null) {
+            return result;
+        }
+
+        if (format == ResultFormat.COMPACT && result.getBody() instanceof JsonNode) {
+            final JsonNode compactBody = toCompact((JsonNode) result.getBody());
+            if (compactBody != null) {
+                result.setBody(compactBody);
+                result.setResultFormat(ResultFormat.COMPACT);
+                return result;
+            }
+        }
+
+        result.setResultFormat(ResultFormat.ROWS);
+        return result;
+    }
+
+    /**
+     * Converts a table of rows, given as an array of objects, to a {@link Table}. The columns are all the keys found in
+     * the rows, in the order they are first seen. The values are not copied, and are shared with the given body.
+     *
+     * @param body Body of a result, as returned by the plugin.
+     * @return The table, or null if the body is not an array of objects.
+     */
+    public static Table toTable(JsonNode body) {
+        if (body == null || !body.isArray()) {
+            return null;
+        }
+
+        final Map<String, Integer> columnIndices = new LinkedHashMap<>();
+        for (JsonNode row : body) {
+            if (!row.isObject()) {
+                return null;
+            }
+
+            final Iterator<String> fieldNames = row.fieldNames();
+            while (fieldNames.hasNext()) {
+                columnIndices.putIfAbsent(fieldNames.next(), columnIndices.size());
+            }
+        }
+
+        final int columnCount = columnIndices.size();
+        final List<JsonNode[]> rows = new ArrayList<>(body.size());
+        for (JsonNode row : body) {
+            final JsonNode[] values = new JsonNode[columnCount];
+            final Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                values[columnIndices.get(field.getKey())] = field.getValue();
+            }
+            rows.add(values);
+        }
+
+        return new Table(new ArrayList<>(columnIndices.keySet()), rows);
+    }
+
+    /**
+     * Converts a table of rows, given as an array of objects, to the `COMPACT` layout. Rows that don't have a column
+     * get a null for it, as they would show in a table widget. The values are not copied, and are shared with the
+     * given body.
+     *
+     * @param body Body of a result, as returned by the plugin.
+     * @return The body in the `COMPACT` layout, or null if the body is not an array of objects.
+     */
+    public static JsonNode toCompact(JsonNode body) {
+        final Table table = toTable(body);
+        return table == null ? null : toCompact(table);
+    }
+
+    /**
+     * Lays out a table in the `COMPACT` layout.
+     */
+    public static JsonNode toCompact(Table table) {
+        final List<String> columns = table.getColumns();
+        final List<JsonNode[]> rows = table.getRows();
+
+        final ArrayNode columnsNode = nodeFactory.arrayNode(columns.size());
+        final List<Map<String, Integer>> dictionaries = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            final ObjectNode columnNode = columnsNode.addObject().put("name", columns.get(i));
+            final Map<String, Integer> dictionary = findDictionary(rows, i);
+            if (dictionary != null) {
+                final ArrayNode dictionaryNode = columnNode.putArray("dictionary");
+                dictionary.keySet().forEach(dictionaryNode::add);
+            }
+            dictionaries.add(dictionary);
+        }
+
+        final ArrayNode rowsNode = nodeFactory.arrayNode(rows.size());
+        for (JsonNode[] row : rows) {
+            final ArrayNode values = nodeFactory.arrayNode(row.length);
+            for (int i = 0; i < row.length; i++) {
+                final JsonNode value = row[i];
+                if (value == null || value.isNull()) {
+                    values.add(NullNode.getInstance());
+                } else if (dictionaries.get(i) != null) {
+                    values.add(dictionaries.get(i).get(value.textValue()));
+                } else {
+                    values.add(value);
+                }
+            }
+            rowsNode.add(values);
+        }
+
+        final ObjectNode compactBody = nodeFactory.objectNode();
+        compactBody.set("columns", columnsNode);
+        compactBody.set("rows", rowsNode);
+        return compactBody;
+    }
+
+    /**
+     * Lays out a table in the `ROWS` layout, as an array of objects. Columns that a row doesn't have are left out of
+     * its object.
+     */
+    public static ArrayNode toRows(Table table) {
+        final List<String> columns = table.getColumns();
+        final ArrayNode rowsNode = nodeFactory.arrayNode(table.getRows().size());
+        for (JsonNode[] row : table.getRows()) {
+            final ObjectNode rowNode = rowsNode.addObject();
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] != null) {
+                    rowNode.set(columns.get(i), row[i]);
+                }
+            }
+        }
+        return rowsNode;
+    }
+
+    /**
+     * Finds the distinct values of a column, with their indices in the order they are first seen, if the column only
+     * has strings, and they repeat enough for a dictionary to be worthwhile.
+     *
+     * @return The dictionary of the column, or null if the column shouldn't be dictionary encoded.
+     */
+    private static Map<String, Integer> findDictionary(List<JsonNode[]> rows, int columnIndex) {
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int valueCount = 0;
+
+        for (JsonNode[] row : rows) {
+            final JsonNode value = row[columnIndex];
+            if (value == null || value.isNull()) {
+                continue;
+            }
+
+            if (!value.isTextual()) {
+                return null;
+            }
+
+            ++valueCount;
+            dictionary.putIfAbsent(value.textValue(), dictionary.size());
+
+            // Give up once there are too many distinct values for a dictionary, to save memory on columns of unique
+            // values.
+            if (dictionary.size() * MIN_REPEATS_FOR_DICTIONARY > rows.size()) {
+                return null;
+            }
+        }
+
+        return dictionary.isEmpty() || dictionary.size() * MIN_REPEATS_FOR_DICTIONARY > valueCount ? null : dictionary;
+    }
+
+}
@@ -7,9 +7,11 @@ import com.appsmith.server.acl.AppsmithRole;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.AssetChunk;
 import com.appsmith.server.domains.Collection;
 import com.appsmith.server.domains.Config;
 import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.DatasourceStructureCache;
 import com.appsmith.server.domains.Group;
 import com.appsmith.server.domains.InviteUser;
 import com.appsmith.server.domains.Layout;
@@ -46,6 +48,7 @@ import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StreamUtils;
 
@@ -936,4 +939,27 @@ public class DatabaseChangelog {
         );
     }
 
+    @ChangeSet(order = "027", id = "move-datasource-structure-to-own-collection", author = "")
+    public void moveDatasourceStructureToOwnCollection(MongoTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, DatasourceStructureCache.class,
+                makeIndex("datasourceId", "configurationHash").unique().named("datasource_structure_cache_compound_index"),
+                makeIndex("refreshId")
+        );
+
+        // Structures embedded in datasources are dropped, instead of being moved, since they were saved without a hash
+        // of the configuration they were read with. They'll be read again, when asked for.
+        mongoTemplate.updateMulti(
+                query(where("structure").exists(true)),
+                new Update().unset("structure"),
+                Datasource.class
+        );
+    }
+
+    @ChangeSet(order = "028", id = "add-asset-chunk-index", author = "")
+    public void addAssetChunkIndex(MongoTemplate mongoTemplate) {
+        ensureIndexes(mongoTemplate, AssetChunk.class,
+                makeIndex("assetId", "sequence").unique().named("asset_chunk_compound_index")
+        );
+    }
+
 }
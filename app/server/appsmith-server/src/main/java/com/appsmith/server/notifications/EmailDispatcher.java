@@ -0,0 +1,298 @@
+package com.appsmith.server.notifications;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.appsmith.server.helpers.PrometheusTextWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends emails in the background, from a bounded queue, with a fixed number of worker threads. Each worker takes the
+ * emails waiting in the queue, up to a batch, and sends them over a single connection to the mail server. Emails that
+ * fail to send are retried with an exponential backoff. On shutdown, the emails waiting in the queue or for a retry are
+ * sent, for a bounded time, and the ones that are still not sent then are counted as dropped.
+ */
+@Component
+@Slf4j
+public class EmailDispatcher {
+
+    // Maximum number of emails waiting to be sent. Emails dispatched when this is full are dropped.
+    private static final int QUEUE_CAPACITY = 5000;
+
+    private static final int WORKER_COUNT = 2;
+
+    // Maximum number of emails sent over a single connection to the mail server.
+    private static final int BATCH_SIZE = 20;
+
+    private static final int MAX_ATTEMPTS = 4;
+
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(2);
+
+    // How long the workers wait for an email before checking if the dispatcher is shutting down.
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    // How long shutdown waits for the remaining emails to be sent.
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(15);
+
+    private final JavaMailSender javaMailSender;
+
+    private final BlockingQueue<PendingEmail> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final ExecutorService workers;
+
+    private final ScheduledExecutorService retryScheduler;
+
+    // Emails waiting for their retry, so that they can be sent right away on shutdown.
+    private final Set<PendingEmail> pendingRetries = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean isClosing = false;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public EmailDispatcher(JavaMailSender javaMailSender) {
+        this.javaMailSender = javaMailSender;
+
+        workers = Executors.newFixedThreadPool(
+                WORKER_COUNT,
+                new ThreadFactoryBuilder().setNameFormat("email-dispatch-%d").setDaemon(true).build()
+        );
+        for (int i = 0; i < WORKER_COUNT; ++i) {
+            workers.execute(this::runWorker);
+        }
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("email-retry-%d").setDaemon(true).build()
+        );
+    }
+
+    /**
+     * Adds the given message to the queue of emails to be sent. This doesn't block, and doesn't wait for the email to be
+     * sent.
+     *
+     * @param message Message to be sent.
+     * @return false if the queue is full and the message has been dropped, true otherwise.
+     */
+    public boolean dispatch(MimeMessage message) {
+        return enqueue(new PendingEmail(message, 1));
+    }
+
+    private boolean enqueue(PendingEmail email) {
+        if (queue.offer(email)) {
+            return true;
+        }
+
+        droppedCount.incrementAndGet();
+        log.error("Email queue is full. Dropping email. Dropped so far: {}.", droppedCount.get());
+        return false;
+    }
+
+    private void runWorker() {
+        final List<PendingEmail> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            final PendingEmail email;
+            try {
+                email = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (email == null) {
+                if (isClosing) {
+                    // The queue has been drained.
+                    break;
+                }
+                continue;
+            }
+
+            batch.add(email);
+
+            queue.drainTo(batch, BATCH_SIZE - 1);
+
+            try {
+                sendBatch(batch);
+            } catch (RuntimeException e) {
+                // Don't let an unexpected error stop the worker.
+                log.error("Unexpected error sending emails.", e);
+            }
+
+            batch.clear();
+        }
+    }
+
+    private void sendBatch(List<PendingEmail> batch) {
+        final Map<MimeMessage, PendingEmail> emailsByMessage = new HashMap<>();
+        for (PendingEmail email : batch) {
+            emailsByMessage.put(email.message, email);
+        }
+
+        try {
+            // The mail sender connects to the server once, for all the messages given together.
+            javaMailSender.send(emailsByMessage.keySet().toArray(new MimeMessage[0]));
+            sentCount.addAndGet(batch.size());
+
+        } catch (MailSendException e) {
+            // Some messages may have been sent. Only the ones that failed are retried.
+            final Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                // The connection itself failed, so none of the messages have been sent.
+                batch.forEach(email -> retryOrFail(email, e));
+            } else {
+                sentCount.addAndGet(batch.size() - failedMessages.size());
+                failedMessages.forEach((message, error) -> {
+                    final PendingEmail email = emailsByMessage.get(message);
+                    if (email != null) {
+                        retryOrFail(email, error);
+                    }
+                });
+            }
+
+        } catch (MailException e) {
+            batch.forEach(email -> retryOrFail(email, e));
+
+        }
+    }
+
+    private void retryOrFail(PendingEmail email, Exception error) {
+        if (email.attempt >= MAX_ATTEMPTS || isClosing) {
+            failedCount.incrementAndGet();
+            log.error("Unable to send email after {} attempts. Cause: ", email.attempt, error);
+            return;
+        }
+
+        final long delayMillis = RETRY_BASE_DELAY.toMillis() << (email.attempt - 1);
+        log.warn("Unable to send email on attempt {}. Retrying in {} ms. Cause: {}", email.attempt, delayMillis, error.getMessage());
+        retriedCount.incrementAndGet();
+        final PendingEmail retry = new PendingEmail(email.message, email.attempt + 1);
+        pendingRetries.add(retry);
+        retryScheduler.schedule(
+                () -> {
+                    if (pendingRetries.remove(retry)) {
+                        enqueue(retry);
+                    }
+                },
+                delayMillis,
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public long getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes out the email counters in the Prometheus text exposition format.
+     */
+    public String scrape() {
+        final StringBuilder out = new StringBuilder();
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_emails_queued", "gauge",
+                "Emails waiting in the queue to be sent.");
+        PrometheusTextWriter.writeSample(out, "appsmith_emails_queued", getQueuedCount());
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_emails_sent_total", "counter",
+                "Emails sent to the mail server.");
+        PrometheusTextWriter.writeSample(out, "appsmith_emails_sent_total", getSentCount());
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_emails_retried_total", "counter",
+                "Attempts at sending emails that failed and were retried.");
+        PrometheusTextWriter.writeSample(out, "appsmith_emails_retried_total", getRetriedCount());
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_emails_failed_total", "counter",
+                "Emails that couldn't be sent after all their attempts.");
+        PrometheusTextWriter.writeSample(out, "appsmith_emails_failed_total", getFailedCount());
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_emails_dropped_total", "counter",
+                "Emails dropped because the queue was full, or because they weren't sent before shutdown.");
+        PrometheusTextWriter.writeSample(out, "appsmith_emails_dropped_total", getDroppedCount());
+
+        return out.toString();
+    }
+
+    /**
+     * Stops the dispatcher, after sending the emails in the queue, and the ones waiting for a retry, which get one last
+     * attempt. Emails that are not sent within the shutdown timeout are dropped.
+     */
+    @PreDestroy
+    public void close() {
+        log.info("Shutting down email dispatch with {} emails in the queue and {} waiting for a retry.",
+                queue.size(), pendingRetries.size());
+
+        isClosing = true;
+        retryScheduler.shutdownNow();
+        for (PendingEmail retry : pendingRetries) {
+            if (pendingRetries.remove(retry)) {
+                enqueue(retry);
+            }
+        }
+
+        workers.shutdown();
+        try {
+            if (workers.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        workers.shutdownNow();
+        final int unsentCount = queue.size();
+        queue.clear();
+        droppedCount.addAndGet(unsentCount);
+        log.error("Email dispatch shut down before sending all emails. Dropped {} emails.", unsentCount);
+    }
+
+    private static class PendingEmail {
+
+        private final MimeMessage message;
+
+        // The attempt at sending this message that is pending, starting at 1.
+        private final int attempt;
+
+        PendingEmail(MimeMessage message, int attempt) {
+            this.message = message;
+            this.attempt = attempt;
+        }
+
+    }
+
+}
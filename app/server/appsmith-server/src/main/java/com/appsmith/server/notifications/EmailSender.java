@@ -6,13 +6,11 @@ import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.validator.routines.EmailValidator;
-import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.InternetAddress;
@@ -30,13 +28,19 @@ public class EmailSender {
 
     private final EmailConfig emailConfig;
 
+    private final EmailDispatcher emailDispatcher;
+
+    // The factory caches compiled templates, so each template is only read and parsed once.
+    private final MustacheFactory mustacheFactory = new DefaultMustacheFactory();
+
     private final InternetAddress MAIL_FROM;
 
     private final InternetAddress REPLY_TO;
 
-    public EmailSender(JavaMailSender javaMailSender, EmailConfig emailConfig) {
+    public EmailSender(JavaMailSender javaMailSender, EmailConfig emailConfig, EmailDispatcher emailDispatcher) {
         this.javaMailSender = javaMailSender;
         this.emailConfig = emailConfig;
+        this.emailDispatcher = emailDispatcher;
 
         MAIL_FROM = makeFromAddress();
         REPLY_TO = makeReplyTo();
@@ -55,26 +59,19 @@ public class EmailSender {
                         throw Exceptions.propagate(e);
                     }
                 })
-                // Sending email is a high cost I/O operation. Schedule the same on non-netty threads
-                // to implement a fire-and-forget strategy.
-                // CAUTION : We may run into scenarios where too many tasks have been created and queued and the master tasks have already exited with success.
-                .doOnNext(emailBody ->
-                        Mono.fromRunnable(() -> sendMailSync(to, subject, emailBody))
-                        // Scheduling using boundedElastic because the number of active tasks are capped
-                        // and hence not allowing the background threads to grow indefinitely
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .subscribe()
-                );
+                // Sending email is a high cost I/O operation. The message is only queued here, and is sent in the
+                // background by the dispatcher, which also takes care of retries.
+                .doOnNext(emailBody -> queueMail(to, subject, emailBody));
     }
 
     /**
-     * [Synchronous]This function sends an HTML email to the user from the default email address
+     * This function builds an HTML email to the user from the default email address, and queues it to be sent.
      *
      * @param to      Single valid string email address to send to. Multiple addresses doesn't work.
      * @param subject Subject string.
      * @param text    HTML Body of the message. This method assumes UTF-8.
      */
-    private void sendMailSync(String to, String subject, String text) {
+    private void queueMail(String to, String subject, String text) {
         log.debug("Got request to send email to: {} with subject: {}", to, subject);
         // Don't send an email for local, dev or test environments
         if (!emailConfig.isEmailEnabled()) {
@@ -101,12 +98,12 @@ public class EmailSender {
             }
             helper.setSubject(subject);
             helper.setText(text, true);
-            javaMailSender.send(mimeMessage);
         } catch (MessagingException e) {
             log.error("Unable to create the mime message while sending an email to {} with subject: {}. Cause: ", to, subject, e);
-        } catch (MailException e) {
-            log.error("Unable to send email. Cause: ", e);
+            return;
         }
+
+        emailDispatcher.dispatch(mimeMessage);
     }
 
     /**
@@ -119,9 +116,8 @@ public class EmailSender {
      * @throws IOException bubbled from Mustache renderer.
      */
     private String replaceEmailTemplate(String template, Map<String, String> params) throws IOException {
-        MustacheFactory mf = new DefaultMustacheFactory();
         StringWriter stringWriter = new StringWriter();
-        Mustache mustache = mf.compile(template);
+        Mustache mustache = mustacheFactory.compile(template);
         mustache.execute(stringWriter, params).flush();
         return stringWriter.toString();
     }
@@ -2,11 +2,13 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.User;
+import com.mongodb.bulk.BulkWriteResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AppsmithRepository<T> {
@@ -20,4 +22,6 @@ public interface AppsmithRepository<T> {
     Flux<T> queryAll(List<Criteria> criterias, AclPermission permission, Sort sort);
 
     T setUserPermissionsInObject(T obj, User user);
+
+    Mono<BulkWriteResult> updatePolicies(Collection<T> objects);
 }
@@ -0,0 +1,8 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.AssetChunk;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AssetChunkRepository extends BaseRepository<AssetChunk, String>, CustomAssetChunkRepository {
+}
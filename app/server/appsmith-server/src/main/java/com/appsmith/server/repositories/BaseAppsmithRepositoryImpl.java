@@ -10,8 +10,13 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.querydsl.core.types.Path;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Sort;
@@ -24,6 +29,8 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -139,6 +146,14 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
     }
 
     protected Mono<T> queryOne(List<Criteria> criterias, AclPermission aclPermission) {
+        return queryOne(criterias, null, aclPermission);
+    }
+
+    /**
+     * Same as `queryOne`, but only reads the given fields of the matching document, along with its policies, which are
+     * needed to set the user's permissions on it. Meant for checks that need a small part of a large document.
+     */
+    protected Mono<T> queryOne(List<Criteria> criterias, List<String> includeFields, AclPermission aclPermission) {
         return ReactiveSecurityContextHolder.getContext()
                 .map(ctx -> ctx.getAuthentication())
                 .flatMap(auth -> {
@@ -151,6 +166,10 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                     } else {
                         query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission)));
                     }
+                    if (includeFields != null) {
+                        includeFields.forEach(field -> query.fields().include(field));
+                        query.fields().include(fieldName(QBaseDomain.baseDomain.policies));
+                    }
 
                     return mongoOperations.query(this.genericDomain)
                             .matching(query)
@@ -159,6 +178,52 @@ public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> {
                 });
     }
 
+    /**
+     * Checks if any document matches the given criterias, without reading the matching document. Meant for checks that
+     * can be answered by an index, like uniqueness of names.
+     */
+    protected Mono<Boolean> queryExists(List<Criteria> criterias, AclPermission aclPermission) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(ctx -> ctx.getAuthentication())
+                .flatMap(auth -> {
+                    User user = (User) auth.getPrincipal();
+                    Query query = new Query();
+                    criterias.stream()
+                            .forEach(criteria -> query.addCriteria(criteria));
+                    if (aclPermission == null) {
+                        query.addCriteria(new Criteria().andOperator(notDeleted()));
+                    } else {
+                        query.addCriteria(new Criteria().andOperator(notDeleted(), userAcl(user, aclPermission)));
+                    }
+
+                    return mongoOperations.exists(query, this.genericDomain);
+                });
+    }
+
+    /**
+     * Saves only the policies of the given objects, with a single bulk write. Meant for cascading permission changes to
+     * many objects at once, where saving each object in full would be a round trip per object.
+     */
+    public Mono<BulkWriteResult> updatePolicies(Collection<T> objects) {
+        if (objects.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<WriteModel<Document>> updates = new ArrayList<>(objects.size());
+        for (T object : objects) {
+            final Object id = ObjectId.isValid(object.getId()) ? new ObjectId(object.getId()) : object.getId();
+            final Object policies = mongoConverter.convertToMongoType(object.getPolicies());
+            updates.add(new UpdateOneModel<>(
+                    new Document("_id", id),
+                    new Document("$set", new Document(fieldName(QBaseDomain.baseDomain.policies), policies))
+            ));
+        }
+
+        return Mono.from(mongoOperations
+                .getCollection(mongoOperations.getCollectionName(this.genericDomain))
+                .bulkWrite(updates));
+    }
+
     public Flux<T> queryAll(List<Criteria> criterias, AclPermission aclPermission) {
         return queryAll(criterias, aclPermission, null);
     }
@@ -2,10 +2,13 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Action;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -13,12 +16,24 @@ public interface CustomActionRepository extends AppsmithRepository<Action> {
 
     Mono<Action> findByNameAndPageId(String name, String pageId, AclPermission aclPermission);
 
+    Mono<Boolean> existsByNameAndPageId(String name, String pageId, AclPermission aclPermission);
+
     Flux<Action> findByPageId(String pageId, AclPermission aclPermission);
 
+    Flux<Action> findByPageIdIn(Collection<String> pageIds, AclPermission aclPermission);
+
     Flux<Action> findActionsByNameInAndPageIdAndActionConfiguration_HttpMethod(Set<String> names,
                                                                                String pageId,
                                                                                String httpMethod,
                                                                                AclPermission aclPermission);
 
     Flux<Action> findAllActionsByNameAndPageIds(String name, List<String> pageIds, AclPermission aclPermission, Sort sort);
+
+    Flux<Action> findOnLoadActionsByPageId(String pageId);
+
+    Flux<Action> findMaterializedActions();
+
+    Mono<UpdateResult> setExecuteOnLoad(Collection<String> ids, Boolean executeOnLoad);
+
+    Mono<BulkWriteResult> updateActionConfigurations(Collection<Action> actions);
 }
@@ -4,18 +4,29 @@ import com.appsmith.external.models.QActionConfiguration;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.QAction;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 public class CustomActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Action> implements CustomActionRepository {
 
@@ -31,12 +42,26 @@ public class CustomActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Actio
         return queryOne(List.of(nameCriteria, pageCriteria), aclPermission);
     }
 
+    @Override
+    public Mono<Boolean> existsByNameAndPageId(String name, String pageId, AclPermission aclPermission) {
+        Criteria nameCriteria = where(fieldName(QAction.action.name)).is(name);
+        Criteria pageCriteria = where(fieldName(QAction.action.pageId)).is(pageId);
+
+        return queryExists(List.of(nameCriteria, pageCriteria), aclPermission);
+    }
+
     @Override
     public Flux<Action> findByPageId(String pageId, AclPermission aclPermission) {
         Criteria pageCriteria = where(fieldName(QAction.action.pageId)).is(pageId);
         return queryAll(List.of(pageCriteria), aclPermission);
     }
 
+    @Override
+    public Flux<Action> findByPageIdIn(Collection<String> pageIds, AclPermission aclPermission) {
+        Criteria pageCriteria = where(fieldName(QAction.action.pageId)).in(pageIds);
+        return queryAll(List.of(pageCriteria), aclPermission);
+    }
+
     @Override
     public Flux<Action> findActionsByNameInAndPageIdAndActionConfiguration_HttpMethod(Set<String> names,
                                                                                       String pageId,
@@ -76,4 +101,74 @@ public class CustomActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Actio
 
         return queryAll(criteriaList, aclPermission, sort);
     }
+
+    /**
+     * Finds all the actions in the given page that run on page load when they are used in the page. These are the
+     * actions explicitly set to run on load, and the GET APIs whose on-load setting has not been changed by the user.
+     * This is done on every save of a layout, so only the fields needed to compute the on-load actions are read, and the
+     * actions returned are not meant to be saved.
+     */
+    @Override
+    public Flux<Action> findOnLoadActionsByPageId(String pageId) {
+        String httpMethodQueryKey = fieldName(QAction.action.actionConfiguration)
+                + "."
+                + fieldName(QActionConfiguration.actionConfiguration.httpMethod);
+
+        Criteria onLoadCriteria = new Criteria().orOperator(
+                where(fieldName(QAction.action.executeOnLoad)).is(true),
+                where(httpMethodQueryKey).is("GET").and(fieldName(QAction.action.userSetOnLoad)).is(false)
+        );
+
+        final Query query = query(where(fieldName(QAction.action.pageId)).is(pageId)).addCriteria(onLoadCriteria);
+        query.fields()
+                .include(fieldName(QAction.action.id))
+                .include(fieldName(QAction.action.name))
+                .include(fieldName(QAction.action.jsonPathKeys))
+                .include(fieldName(QAction.action.executeOnLoad))
+                .include(fieldName(QAction.action.pluginType))
+                .include(fieldName(QAction.action.actionConfiguration)
+                        + "."
+                        + fieldName(QActionConfiguration.actionConfiguration.timeoutInMillisecond));
+
+        return mongoOperations.find(query, Action.class);
+    }
+
+    @Override
+    public Flux<Action> findMaterializedActions() {
+        return mongoOperations.find(
+                query(where(fieldName(QAction.action.materializeIntervalInSeconds)).ne(null)).addCriteria(notDeleted()),
+                Action.class
+        );
+    }
+
+    @Override
+    public Mono<UpdateResult> setExecuteOnLoad(Collection<String> ids, Boolean executeOnLoad) {
+        return mongoOperations.updateMulti(
+                query(where(fieldName(QAction.action.id)).in(ids)),
+                Update.update(fieldName(QAction.action.executeOnLoad), executeOnLoad),
+                Action.class
+        );
+    }
+
+    /**
+     * Saves the action configurations and the json path keys of the given actions, with a single bulk write.
+     */
+    @Override
+    public Mono<BulkWriteResult> updateActionConfigurations(Collection<Action> actions) {
+        final Instant now = Instant.now();
+        final List<WriteModel<Document>> updates = new ArrayList<>(actions.size());
+
+        for (Action action : actions) {
+            final Object id = ObjectId.isValid(action.getId()) ? new ObjectId(action.getId()) : action.getId();
+            final Document fields = new Document()
+                    .append(fieldName(QAction.action.actionConfiguration), getDbObject(action.getActionConfiguration()))
+                    .append(fieldName(QAction.action.jsonPathKeys), action.getJsonPathKeys() == null ? null : new ArrayList<>(action.getJsonPathKeys()))
+                    .append(fieldName(QAction.action.updatedAt), now);
+            updates.add(new UpdateOneModel<>(new Document("_id", id), new Document("$set", fields)));
+        }
+
+        return Mono.from(mongoOperations
+                .getCollection(mongoOperations.getCollectionName(Action.class))
+                .bulkWrite(updates));
+    }
 }
@@ -2,10 +2,12 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.ApplicationPage;
 import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Set;
 
 public interface CustomApplicationRepository extends AppsmithRepository<Application> {
@@ -24,4 +26,6 @@ public interface CustomApplicationRepository extends AppsmithRepository<Applicat
 
     Mono<UpdateResult> setDefaultPage(String applicationId, String pageId);
 
+    Mono<UpdateResult> setPages(String applicationId, List<ApplicationPage> pages);
+
 }
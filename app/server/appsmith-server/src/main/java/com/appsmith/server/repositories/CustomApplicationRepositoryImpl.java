@@ -99,4 +99,13 @@ public class CustomApplicationRepositoryImpl extends BaseAppsmithRepositoryImpl<
         return setAllAsNonDefaultMono.then(setDefaultMono);
     }
 
+    @Override
+    public Mono<UpdateResult> setPages(String applicationId, List<ApplicationPage> pages) {
+        return mongoOperations.updateFirst(
+                Query.query(getIdCriteria(applicationId)),
+                new Update().set(FieldName.PAGES, pages),
+                Application.class
+        );
+    }
+
 }
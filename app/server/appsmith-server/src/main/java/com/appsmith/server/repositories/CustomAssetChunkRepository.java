@@ -0,0 +1,14 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.AssetChunk;
+import com.mongodb.client.result.DeleteResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CustomAssetChunkRepository extends AppsmithRepository<AssetChunk> {
+
+    Flux<AssetChunk> findByAssetIdAndSequenceBetween(String assetId, int firstSequence, int lastSequence);
+
+    Mono<DeleteResult> deleteByAssetId(String assetId);
+
+}
@@ -0,0 +1,45 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.AssetChunk;
+import com.appsmith.server.domains.QAssetChunk;
+import com.mongodb.client.result.DeleteResult;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class CustomAssetChunkRepositoryImpl extends BaseAppsmithRepositoryImpl<AssetChunk>
+        implements CustomAssetChunkRepository {
+
+    public CustomAssetChunkRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
+        super(mongoOperations, mongoConverter);
+    }
+
+    /**
+     * Finds the chunks of the given asset, whose sequence is between the given values, both inclusive, in order. Assets
+     * are not access controlled, so this doesn't check for permissions.
+     */
+    @Override
+    public Flux<AssetChunk> findByAssetIdAndSequenceBetween(String assetId, int firstSequence, int lastSequence) {
+        final String sequenceKey = fieldName(QAssetChunk.assetChunk.sequence);
+        final Query query = Query
+                .query(where(fieldName(QAssetChunk.assetChunk.assetId)).is(assetId)
+                        .and(sequenceKey).gte(firstSequence).lte(lastSequence))
+                .with(Sort.by(sequenceKey));
+
+        return mongoOperations.find(query, AssetChunk.class);
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteByAssetId(String assetId) {
+        return mongoOperations.remove(
+                Query.query(where(fieldName(QAssetChunk.assetChunk.assetId)).is(assetId)),
+                AssetChunk.class
+        );
+    }
+
+}
@@ -1,9 +1,7 @@
 package com.appsmith.server.repositories;
 
-import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Datasource;
-import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -13,6 +11,4 @@ public interface CustomDatasourceRepository extends AppsmithRepository<Datasourc
     Mono<Datasource> findByName(String name, AclPermission aclPermission);
 
     Mono<Datasource> findById(String id, AclPermission aclPermission);
-
-    Mono<UpdateResult> saveStructure(String datasourceId, DatasourceStructure structure);
 }
@@ -1,14 +1,11 @@
 package com.appsmith.server.repositories;
 
-import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.QDatasource;
-import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -16,7 +13,6 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
-import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Component
 public class CustomDatasourceRepositoryImpl extends BaseAppsmithRepositoryImpl<Datasource> implements CustomDatasourceRepository {
@@ -37,13 +33,4 @@ public class CustomDatasourceRepositoryImpl extends BaseAppsmithRepositoryImpl<D
         return queryOne(List.of(nameCriteria), aclPermission);
     }
 
-    @Override
-    public Mono<UpdateResult> saveStructure(String datasourceId, DatasourceStructure structure) {
-        return mongoOperations.updateFirst(
-                query(where(fieldName(QDatasource.datasource.id)).is(datasourceId)),
-                Update.update(fieldName(QDatasource.datasource.structure), structure),
-                Datasource.class
-        );
-    }
-
 }
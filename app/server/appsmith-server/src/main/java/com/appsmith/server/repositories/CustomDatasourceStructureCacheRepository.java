@@ -0,0 +1,26 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.domains.DatasourceStructureCache;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CustomDatasourceStructureCacheRepository extends AppsmithRepository<DatasourceStructureCache> {
+
+    Mono<UpdateResult> startRefresh(String datasourceId, String configurationHash, String refreshId);
+
+    Mono<UpdateResult> addTables(String refreshId, List<DatasourceStructure.Table> tables);
+
+    Mono<UpdateResult> completeRefresh(String refreshId, String fingerprint);
+
+    Mono<UpdateResult> markFresh(String id, String fingerprint);
+
+    Flux<DatasourceStructureCache> findAllRefreshedBefore(Instant instant);
+
+    Mono<DeleteResult> deleteAllByDatasourceId(String datasourceId);
+}
@@ -0,0 +1,111 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.server.domains.DatasourceStructureCache;
+import com.appsmith.server.domains.QDatasourceStructureCache;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+public class CustomDatasourceStructureCacheRepositoryImpl extends BaseAppsmithRepositoryImpl<DatasourceStructureCache>
+        implements CustomDatasourceStructureCacheRepository {
+
+    public CustomDatasourceStructureCacheRepositoryImpl(ReactiveMongoOperations mongoOperations, MongoConverter mongoConverter) {
+        super(mongoOperations, mongoConverter);
+    }
+
+    /**
+     * Resets the structure saved for the given datasource and configuration to an empty list of tables, and marks it as
+     * partial, so that the tables of the refresh identified by `refreshId` can be added to it as they are read. The
+     * structure is created if it doesn't exist yet.
+     */
+    @Override
+    public Mono<UpdateResult> startRefresh(String datasourceId, String configurationHash, String refreshId) {
+        final DatasourceStructure structure = new DatasourceStructure();
+        structure.setTables(new ArrayList<>());
+
+        return mongoOperations.upsert(
+                query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.datasourceId)).is(datasourceId)
+                        .and(fieldName(QDatasourceStructureCache.datasourceStructureCache.configurationHash)).is(configurationHash)),
+                Update.update(fieldName(QDatasourceStructureCache.datasourceStructureCache.structure), structure)
+                        .set(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshId), refreshId)
+                        .unset(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshedAt)),
+                DatasourceStructureCache.class
+        );
+    }
+
+    /**
+     * Appends the given tables to the structure being written by the given refresh. Nothing is updated if another
+     * refresh has since been started on the same structure.
+     */
+    @Override
+    public Mono<UpdateResult> addTables(String refreshId, List<DatasourceStructure.Table> tables) {
+        return mongoOperations.updateFirst(
+                query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshId)).is(refreshId)),
+                new Update()
+                        .push(fieldName(QDatasourceStructureCache.datasourceStructureCache.structure) + ".tables")
+                        .each(tables.toArray()),
+                DatasourceStructureCache.class
+        );
+    }
+
+    @Override
+    public Mono<UpdateResult> completeRefresh(String refreshId, String fingerprint) {
+        return mongoOperations.updateFirst(
+                query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshId)).is(refreshId)),
+                Update.update(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshedAt), Instant.now())
+                        .set(fieldName(QDatasourceStructureCache.datasourceStructureCache.fingerprint), fingerprint),
+                DatasourceStructureCache.class
+        );
+    }
+
+    /**
+     * Marks the saved structure as up-to-date, without changing it. Used when the catalog's fingerprint has not changed
+     * since the structure was read.
+     */
+    @Override
+    public Mono<UpdateResult> markFresh(String id, String fingerprint) {
+        return mongoOperations.updateFirst(
+                query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.id)).is(id)
+                        .and(fieldName(QDatasourceStructureCache.datasourceStructureCache.fingerprint)).is(fingerprint)),
+                Update.update(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshedAt), Instant.now()),
+                DatasourceStructureCache.class
+        );
+    }
+
+    /**
+     * Finds complete, fingerprinted structures that were last refreshed before the given instant. This is used by the
+     * background refresh, so no ACL is applied, and the structures themselves are not fetched.
+     */
+    @Override
+    public Flux<DatasourceStructureCache> findAllRefreshedBefore(Instant instant) {
+        final Query query = query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.fingerprint)).ne(null)
+                .and(fieldName(QDatasourceStructureCache.datasourceStructureCache.refreshedAt)).lt(instant));
+        query.fields().exclude(fieldName(QDatasourceStructureCache.datasourceStructureCache.structure));
+
+        return mongoOperations.find(query, DatasourceStructureCache.class);
+    }
+
+    @Override
+    public Mono<DeleteResult> deleteAllByDatasourceId(String datasourceId) {
+        return mongoOperations.remove(
+                query(where(fieldName(QDatasourceStructureCache.datasourceStructureCache.datasourceId)).is(datasourceId)),
+                DatasourceStructureCache.class
+        );
+    }
+
+}
@@ -5,12 +5,18 @@ import com.appsmith.server.domains.Page;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CustomPageRepository extends AppsmithRepository<Page> {
     Mono<Page> findByIdAndLayoutsId(String id, String layoutId, AclPermission aclPermission);
 
+    Mono<Page> findLayoutWidgetNamesById(String id, AclPermission aclPermission);
+
     Mono<Page> findByName(String name, AclPermission aclPermission);
 
     Flux<Page> findByApplicationId(String applicationId, AclPermission aclPermission);
 
+    Flux<Page> findByApplicationIdIn(Collection<String> applicationIds, AclPermission aclPermission);
+
     Mono<Page> findByNameAndApplicationId(String name, String applicationId, AclPermission aclPermission);
 }
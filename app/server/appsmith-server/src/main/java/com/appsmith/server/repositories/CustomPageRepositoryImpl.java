@@ -10,6 +10,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
@@ -33,6 +34,20 @@ public class CustomPageRepositoryImpl extends BaseAppsmithRepositoryImpl<Page>
         return queryOne(criterias, aclPermission);
     }
 
+    /**
+     * Finds the page with only the ids and the widget names of its layouts, and none of their DSLs.
+     */
+    @Override
+    public Mono<Page> findLayoutWidgetNamesById(String id, AclPermission aclPermission) {
+        String layoutsKey = fieldName(QPage.page.layouts) + ".";
+        List<String> includeFields = List.of(
+                layoutsKey + fieldName(QLayout.layout.id),
+                layoutsKey + fieldName(QLayout.layout.widgetNames)
+        );
+
+        return queryOne(List.of(getIdCriteria(id)), includeFields, aclPermission);
+    }
+
     @Override
     public Mono<Page> findByName(String name, AclPermission aclPermission) {
         Criteria nameCriteria = where(fieldName(QPage.page.name)).is(name);
@@ -45,6 +60,12 @@ public class CustomPageRepositoryImpl extends BaseAppsmithRepositoryImpl<Page>
         return queryAll(List.of(applicationIdCriteria), aclPermission);
     }
 
+    @Override
+    public Flux<Page> findByApplicationIdIn(Collection<String> applicationIds, AclPermission aclPermission) {
+        Criteria applicationIdCriteria = where(fieldName(QPage.page.applicationId)).in(applicationIds);
+        return queryAll(List.of(applicationIdCriteria), aclPermission);
+    }
+
     @Override
     public Mono<Page> findByNameAndApplicationId(String name, String applicationId, AclPermission aclPermission) {
         Criteria nameCriteria = where(fieldName(QPage.page.name)).is(name);
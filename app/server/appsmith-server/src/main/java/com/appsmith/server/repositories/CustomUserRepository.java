@@ -2,9 +2,14 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.User;
+import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CustomUserRepository extends AppsmithRepository<User> {
 
     Mono<User> findByEmail(String email, AclPermission aclPermission);
+
+    Mono<UpdateResult> addOrganizationIdToUsers(Collection<String> userIds, String organizationId);
 }
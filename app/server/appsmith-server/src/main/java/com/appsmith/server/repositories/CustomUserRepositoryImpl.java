@@ -3,16 +3,20 @@ package com.appsmith.server.repositories;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.QUser;
 import com.appsmith.server.domains.User;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Component
 @Slf4j
@@ -28,4 +32,13 @@ public class CustomUserRepositoryImpl extends BaseAppsmithRepositoryImpl<User> i
 
         return queryOne(List.of(emailCriterita), aclPermission);
     }
+
+    @Override
+    public Mono<UpdateResult> addOrganizationIdToUsers(Collection<String> userIds, String organizationId) {
+        return mongoOperations.updateMulti(
+                query(where(fieldName(QUser.user.id)).in(userIds)),
+                new Update().addToSet(fieldName(QUser.user.organizationIds), organizationId),
+                User.class
+        );
+    }
 }
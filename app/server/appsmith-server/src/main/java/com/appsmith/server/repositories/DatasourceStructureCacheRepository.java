@@ -0,0 +1,11 @@
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.domains.DatasourceStructureCache;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DatasourceStructureCacheRepository extends BaseRepository<DatasourceStructureCache, String>, CustomDatasourceStructureCacheRepository {
+
+    Mono<DatasourceStructureCache> findByDatasourceIdAndConfigurationHash(String datasourceId, String configurationHash);
+}
@@ -2,9 +2,14 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.domains.User;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface UserRepository extends BaseRepository<User, String>, CustomUserRepository {
     Mono<User> findByEmail(String email);
+
+    Flux<User> findByEmailIn(Collection<String> emails);
 }
@@ -3,23 +3,39 @@ package com.appsmith.server.services;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.domains.Action;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionResultPageDTO;
+import com.appsmith.server.dtos.ActionResultQueryDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ExecuteActionDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 
 public interface ActionService extends CrudService<Action, String> {
 
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO);
 
+    Flux<ActionExecutionResult> executeActionStream(ExecuteActionDTO executeActionDTO);
+
+    Mono<ActionResultPageDTO> queryResult(ActionResultQueryDTO query);
+
+    Mono<ActionExecutionResult> refreshMaterializedResult(Action action);
+
     Mono<Action> save(Action action);
 
     Mono<Action> findByNameAndPageId(String name, String pageId, AclPermission permission);
 
-    Flux<Action> findOnLoadActionsInPage(Set<String> names, String pageId);
+    Mono<Boolean> existsByNameAndPageId(String name, String pageId, AclPermission aclPermission);
+
+    Flux<Action> findOnLoadActionsInPage(String pageId);
+
+    Mono<Void> setExecuteOnLoad(Collection<String> actionIds);
+
+    Mono<Void> updateActionConfigurations(Collection<Action> actions);
 
     Mono<Action> validateAndSaveActionToRepository(Action action);
 
@@ -34,4 +50,6 @@ public interface ActionService extends CrudService<Action, String> {
     Flux<ActionViewDTO> getActionsForViewMode(String applicationId);
 
     Mono<Action> findById(String id, AclPermission aclPermission);
+
+    void generateAndSetActionPolicies(Page page, User user, Action action);
 }
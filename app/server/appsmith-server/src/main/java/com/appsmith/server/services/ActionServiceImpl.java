@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionTiming;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
@@ -23,13 +24,23 @@ import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionResultPageDTO;
+import com.appsmith.server.dtos.ActionResultQueryDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ExecuteActionDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionMetrics;
+import com.appsmith.server.helpers.ActionExecutionMetrics.ExecutionTimer;
+import com.appsmith.server.helpers.ActionExecutionMetrics.Stage;
+import com.appsmith.server.helpers.ActionResultStore;
+import com.appsmith.server.helpers.DatasourceExecutionGuard;
+import com.appsmith.server.helpers.MaterializedResultCache;
 import com.appsmith.server.helpers.MustacheHelper;
 import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.helpers.ResultFormatHelper;
 import com.appsmith.server.repositories.ActionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
@@ -44,6 +55,10 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
 import javax.lang.model.SourceVersion;
 import javax.validation.Validator;
@@ -52,10 +67,13 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
@@ -76,6 +94,10 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
     private final ObjectMapper objectMapper;
     private final DatasourceContextService datasourceContextService;
     private final PluginExecutorHelper pluginExecutorHelper;
+    private final ActionExecutionMetrics executionMetrics;
+    private final DatasourceExecutionGuard executionGuard;
+    private final ActionResultStore actionResultStore;
+    private final MaterializedResultCache materializedResultCache;
     private final SessionUserService sessionUserService;
     private final MarketplaceService marketplaceService;
     private final PolicyGenerator policyGenerator;
@@ -93,6 +115,10 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
                              ObjectMapper objectMapper,
                              DatasourceContextService datasourceContextService,
                              PluginExecutorHelper pluginExecutorHelper,
+                             ActionExecutionMetrics executionMetrics,
+                             DatasourceExecutionGuard executionGuard,
+                             ActionResultStore actionResultStore,
+                             MaterializedResultCache materializedResultCache,
                              SessionUserService sessionUserService,
                              MarketplaceService marketplaceService,
                              PolicyGenerator policyGenerator) {
@@ -104,6 +130,10 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
         this.objectMapper = objectMapper;
         this.datasourceContextService = datasourceContextService;
         this.pluginExecutorHelper = pluginExecutorHelper;
+        this.executionMetrics = executionMetrics;
+        this.executionGuard = executionGuard;
+        this.actionResultStore = actionResultStore;
+        this.materializedResultCache = materializedResultCache;
         this.sessionUserService = sessionUserService;
         this.marketplaceService = marketplaceService;
         this.policyGenerator = policyGenerator;
@@ -274,6 +304,388 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
 
     @Override
     public Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO) {
+        return Mono.defer(() -> executeAction(executeActionDTO, executionMetrics.startTimer()));
+    }
+
+    private Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO, ExecutionTimer timer) {
+        Action actionFromDto = executeActionDTO.getAction();
+
+        // 4. Execute the query
+        Mono<ActionExecutionResult> actionExecutionResultMono = getExecutionContext(executeActionDTO)
+                .flatMap(tuple -> {
+                    timer.lap(Stage.CONTEXT);
+
+                    final Action action = tuple.getT1();
+                    final Datasource datasource = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+
+                    final Mono<ActionExecutionResult> executedResultMono = Mono.defer(() -> {
+                        final Tuple2<DatasourceConfiguration, ActionConfiguration> configurations =
+                                getExecutionConfigurations(executeActionDTO, action, datasource, pluginExecutor);
+                        final DatasourceConfiguration datasourceConfiguration = configurations.getT1();
+                        final ActionConfiguration actionConfiguration = configurations.getT2();
+                        timer.lap(Stage.SUBSTITUTION);
+
+                        log.debug("Execute Action called in Page {}, for action id : {}  action name : {}, {}, {}",
+                                action.getPageId(), action.getId(), action.getName(), datasourceConfiguration,
+                                actionConfiguration);
+
+                        Mono<ActionExecutionResult> resultMono = executeOnDatasource(
+                                datasource,
+                                pluginExecutor,
+                                datasourceConfiguration,
+                                actionConfiguration,
+                                () -> timer.lap(Stage.CONNECTION)
+                        ).doOnNext(result -> timer.lap(Stage.EXECUTION));
+
+                        resultMono = executionMetrics.recordExecution(pluginExecutor.getClass().getSimpleName(), datasource.getId(), resultMono);
+                        return isMaterialized(action) ? resultMono.flatMap(result -> materialize(action, result)) : resultMono;
+                    });
+
+                    // Materialized actions are given their latest materialized result, unless a refresh is asked for.
+                    // The first execution, before any result is materialized for the current version of the action,
+                    // executes the action and materializes its result.
+                    if (isMaterialized(action)
+                            && !Boolean.TRUE.equals(executeActionDTO.getRefreshMaterialized())
+                            && executeActionDTO.getPaginationField() == null) {
+                        final Duration interval = Duration.ofSeconds(action.getMaterializeIntervalInSeconds());
+                        return materializedResultCache.get(action.getId(), MaterializedResultCache.getActionVersion(action.getUpdatedAt()), interval)
+                                .map(materializedResult -> {
+                                    final ActionExecutionResult result =
+                                            MaterializedResultCache.toActionExecutionResult(materializedResult, interval);
+                                    if (Boolean.TRUE.equals(result.getIsStale())) {
+                                        // The refresh is not waited for, and the stale result is given right away.
+                                        refreshMaterializedResult(action).subscribe();
+                                    }
+                                    return result;
+                                })
+                                .switchIfEmpty(executedResultMono);
+                    }
+
+                    return executedResultMono;
+                });
+
+        // Populate the actionExecution result by setting the cached response and saving it to the DB. The cached
+        // response is saved as returned by the plugin, before the result is converted to the format asked for.
+        return actionExecutionResultMono
+                .flatMap(result -> {
+                    Mono<ActionExecutionResult> resultMono = Mono.just(result);
+                    if (actionFromDto.getId() == null) {
+                        // This is a dry-run. We shouldn't query the db because it'll throw NPE on null IDs
+                        return resultMono;
+                    }
+
+                    if (result.getMaterializedAt() != null) {
+                        // Results of materialized actions are kept by the materialized result cache, so saving them
+                        // to the action on every execution would only add a write to the DB.
+                        return resultMono;
+                    }
+
+                    Mono<Action> actionFromDbMono = repository.findById(actionFromDto.getId())
+                            //If the action is found in the db (i.e. it is not a dry run, save the cached response
+                            .flatMap(action -> {
+                                // If the plugin execution result is successful, then cache response body in
+                                // the action and save it.
+                                if (Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+                                    // Save the result only if body exists in the body. e.g. Even though 204
+                                    // is an execution success, there would be no body expected.
+                                    if (result.getBody() != null) {
+                                        action.setCacheResponse(result.getBody().toString());
+                                        return repository.save(action);
+                                    }
+                                    // No result body exists. Return the action as is.
+                                    return Mono.just(action);
+                                }
+                                log.debug("Action execution resulted in failure beyond the proxy with the result of {}", result);
+                                return Mono.just(action);
+                            });
+
+                    return actionFromDbMono.then(resultMono);
+                })
+                .flatMap(result -> storeResult(executeActionDTO, result))
+                .doOnNext(result -> {
+                    timer.lap(Stage.CACHE_SAVE);
+                    final ActionExecutionTiming timing = timer.stop();
+                    if (Boolean.TRUE.equals(executeActionDTO.getIncludeTiming())) {
+                        result.setTiming(timing);
+                    }
+                })
+                .onErrorResume(AppsmithException.class, error -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setStatusCode(error.getAppErrorCode().toString());
+                    result.setBody(error.getMessage());
+                    return Mono.just(result);
+                })
+                .map(result -> ResultFormatHelper.applyFormat(result, executeActionDTO.getResultFormat()));
+    }
+
+    /**
+     * Executes the action configuration on the datasource, retrying once with a fresh connection if the connection
+     * turns out to be stale, and within the action's timeout.
+     *
+     * @param onConnected Called once the connection to the datasource is available, before the action is executed.
+     * @return Mono of the result. Errors are emitted as a result with `isExecutionSuccess` false.
+     */
+    private Mono<ActionExecutionResult> executeOnDatasource(Datasource datasource,
+                                                            PluginExecutor pluginExecutor,
+                                                            DatasourceConfiguration datasourceConfiguration,
+                                                            ActionConfiguration actionConfiguration,
+                                                            Runnable onConnected) {
+        Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+        final AtomicBoolean isConnected = new AtomicBoolean(false);
+
+        Mono<ActionExecutionResult> executionMono = Mono.just(datasource)
+                .flatMap(datasourceContextService::getDatasourceContext)
+                .doOnNext(resourceContext -> {
+                    isConnected.set(true);
+                    onConnected.run();
+                })
+                // Now that we have the context (connection details), execute the action.
+                .flatMap(
+                        resourceContext -> pluginExecutor.execute(
+                                resourceContext.getConnection(),
+                                datasourceConfiguration,
+                                actionConfiguration
+                        )
+                );
+
+        Mono<ActionExecutionResult> timedExecutionMono = executionMono
+                .onErrorResume(StaleConnectionException.class, error -> {
+                    log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                    return datasourceContextService
+                            .deleteDatasourceContext(datasource.getId())
+                            .then(executionMono);
+                })
+                .timeout(Duration.ofMillis(timeoutDuration))
+                .onErrorMap(
+                        StaleConnectionException.class,
+                        error -> new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_ERROR,
+                                "Secondary stale connection error."
+                        )
+                );
+
+        // The retry on a stale connection runs within the same guarded execution, so it doesn't add to the executions
+        // running against the datasource.
+        return executionGuard
+                .guard(datasource.getId(), timedExecutionMono, error -> isDatasourceUnavailable(error, isConnected.get()))
+                .onErrorResume(e -> {
+                    log.debug("In the action execution error mode.", e);
+                    return Mono.just(buildErrorResult(e));
+                });
+    }
+
+    /**
+     * Tells if an execution error shows that the datasource is unavailable, rather than being an answer from a working
+     * datasource, like an error in the query. These are timeouts, and errors before a connection could be made.
+     */
+    private static boolean isDatasourceUnavailable(Throwable error, boolean isConnected) {
+        return error instanceof TimeoutException || !isConnected;
+    }
+
+    /**
+     * An action is materialized if it has an interval set, and doesn't have any bindings, since the result of an action
+     * with bindings depends on the params of each execution, and can't be shared.
+     */
+    private boolean isMaterialized(Action action) {
+        return action.getId() != null
+                && action.getMaterializeIntervalInSeconds() != null
+                && action.getMaterializeIntervalInSeconds() > 0
+                && action.getPluginType() != PluginType.JS
+                && CollectionUtils.isEmpty(action.getJsonPathKeys());
+    }
+
+    /**
+     * Keeps a successful result of a materialized action in the materialized result cache, and marks it as such.
+     */
+    private Mono<ActionExecutionResult> materialize(Action action, ActionExecutionResult result) {
+        final Duration interval = Duration.ofSeconds(action.getMaterializeIntervalInSeconds());
+        return materializedResultCache.put(action.getId(), MaterializedResultCache.getActionVersion(action.getUpdatedAt()), interval, result)
+                .map(materializedResult -> {
+                    result.setMaterializedAt(materializedResult.getMaterializedAt());
+                    result.setIsStale(false);
+                    return result;
+                })
+                .defaultIfEmpty(result);
+    }
+
+    /**
+     * Executes a materialized action and materializes its result, outside of any user's request. The datasource is
+     * fetched without checking permissions, since this is done on behalf of the server. Only one refresh of an action
+     * is done in each of its intervals, across all the server instances.
+     *
+     * @param action The materialized action, as stored in the DB.
+     * @return Mono of the result, or empty if the action isn't materialized, can't be executed, or was already
+     * refreshed in this interval.
+     */
+    @Override
+    public Mono<ActionExecutionResult> refreshMaterializedResult(Action action) {
+        if (!isMaterialized(action) || Boolean.FALSE.equals(action.getIsValid())) {
+            return Mono.empty();
+        }
+
+        final Duration interval = Duration.ofSeconds(action.getMaterializeIntervalInSeconds());
+
+        final Mono<Datasource> datasourceMono;
+        if (action.getDatasource() != null && action.getDatasource().getId() != null) {
+            datasourceMono = datasourceService.findById(action.getDatasource().getId());
+        } else {
+            datasourceMono = Mono.justOrEmpty(action.getDatasource());
+        }
+
+        return materializedResultCache.claimRefresh(action.getId(), interval)
+                .filter(Boolean::booleanValue)
+                .flatMap(claimed -> datasourceMono)
+                .filter(datasource -> CollectionUtils.isEmpty(datasource.getInvalids()))
+                .flatMap(datasource -> pluginExecutorHelper.getPluginExecutorByPluginId(datasource.getPluginId())
+                        .flatMap(pluginExecutor -> {
+                            final Tuple2<DatasourceConfiguration, ActionConfiguration> configurations =
+                                    getExecutionConfigurations(new ExecuteActionDTO(), action, datasource, pluginExecutor);
+
+                            log.debug("Refreshing materialized result of action id : {}  action name : {}",
+                                    action.getId(), action.getName());
+
+                            final Mono<ActionExecutionResult> resultMono = executeOnDatasource(
+                                    datasource,
+                                    pluginExecutor,
+                                    configurations.getT1(),
+                                    configurations.getT2(),
+                                    () -> {}
+                            );
+
+                            return executionMetrics.recordExecution(pluginExecutor.getClass().getSimpleName(), datasource.getId(), resultMono);
+                        }))
+                .flatMap(result -> materialize(action, result))
+                .onErrorResume(error -> {
+                    log.warn("Error refreshing materialized result of action {}.", action.getId(), error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Keeps the result in the result store for the current user, if asked for in the execution request, so that it can
+     * be queried with `queryResult`. Results of dry runs and failed executions are not stored.
+     */
+    private Mono<ActionExecutionResult> storeResult(ExecuteActionDTO executeActionDTO, ActionExecutionResult result) {
+        final String actionId = executeActionDTO.getAction().getId();
+        if (!Boolean.TRUE.equals(executeActionDTO.getStoreResult())
+                || actionId == null
+                || !Boolean.TRUE.equals(result.getIsExecutionSuccess())
+                || !(result.getBody() instanceof JsonNode)) {
+            return Mono.just(result);
+        }
+
+        return sessionUserService.getCurrentUser()
+                .map(user -> {
+                    actionResultStore.put(user.getId(), actionId, (JsonNode) result.getBody());
+                    return result;
+                })
+                .defaultIfEmpty(result);
+    }
+
+    @Override
+    public Mono<ActionResultPageDTO> queryResult(ActionResultQueryDTO query) {
+        if (query.getActionId() == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ACTION_ID));
+        }
+
+        return sessionUserService.getCurrentUser()
+                .flatMap(user -> {
+                    final ResultFormatHelper.Table table = actionResultStore.get(user.getId(), query.getActionId());
+                    if (table == null) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.NO_RESOURCE_FOUND, "stored result of action", query.getActionId()));
+                    }
+                    // Filtering and sorting a large table is CPU bound, so it's kept off the request thread.
+                    return Mono.fromCallable(() -> ActionResultStore.query(table, query))
+                            .subscribeOn(Schedulers.parallel());
+                });
+    }
+
+    /**
+     * Executes the action like `executeAction`, but emits the result in pages, as the plugin reads them from the
+     * datasource. The timeout of the action applies to the wait for each page, instead of the whole result. Since the
+     * result is never available as a whole here, it is not saved as the cached response of the action.
+     *
+     * @param executeActionDTO The action to execute, along with the params for mustache substitution.
+     * @return Flux of results, one for each page. Errors are emitted as a result with `isExecutionSuccess` false.
+     */
+    @Override
+    public Flux<ActionExecutionResult> executeActionStream(ExecuteActionDTO executeActionDTO) {
+        return getExecutionContext(executeActionDTO)
+                .flatMapMany(tuple -> {
+                    final Action action = tuple.getT1();
+                    final Datasource datasource = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+
+                    final Tuple2<DatasourceConfiguration, ActionConfiguration> configurations =
+                            getExecutionConfigurations(executeActionDTO, action, datasource, pluginExecutor);
+                    final DatasourceConfiguration datasourceConfiguration = configurations.getT1();
+                    final ActionConfiguration actionConfiguration = configurations.getT2();
+
+                    Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+                    final AtomicBoolean isConnected = new AtomicBoolean(false);
+                    // Pages already given out can't be taken back, so a stale connection is only retried before the
+                    // first page.
+                    final AtomicBoolean hasEmitted = new AtomicBoolean(false);
+
+                    log.debug("Execute Action Stream called in Page {}, for action id : {}  action name : {}",
+                            action.getPageId(), action.getId(), action.getName());
+
+                    Flux<ActionExecutionResult> executionFlux = Mono.just(datasource)
+                            .flatMap(datasourceContextService::getDatasourceContext)
+                            .doOnNext(resourceContext -> isConnected.set(true))
+                            .flatMapMany(
+                                    resourceContext -> pluginExecutor.executeStream(
+                                            resourceContext.getConnection(),
+                                            datasourceConfiguration,
+                                            actionConfiguration
+                                    )
+                            )
+                            .doOnNext(result -> hasEmitted.set(true));
+
+                    Flux<ActionExecutionResult> timedExecutionFlux = executionFlux
+                            .onErrorResume(error -> error instanceof StaleConnectionException && !hasEmitted.get(), error -> {
+                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                return datasourceContextService
+                                        .deleteDatasourceContext(datasource.getId())
+                                        .thenMany(executionFlux);
+                            })
+                            .timeout(Duration.ofMillis(timeoutDuration))
+                            .onErrorMap(
+                                    StaleConnectionException.class,
+                                    error -> new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_ERROR,
+                                            "Secondary stale connection error."
+                                    )
+                            );
+
+                    return executionGuard
+                            .guard(datasource.getId(), timedExecutionFlux, error -> isDatasourceUnavailable(error, isConnected.get()))
+                            .onErrorResume(e -> {
+                                log.debug("In the action execution stream error mode.", e);
+                                return Mono.just(buildErrorResult(e));
+                            });
+                })
+                .onErrorResume(AppsmithException.class, error -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setStatusCode(error.getAppErrorCode().toString());
+                    result.setBody(error.getMessage());
+                    return Mono.just(result);
+                })
+                .map(result -> ResultFormatHelper.applyFormat(result, executeActionDTO.getResultFormat()));
+    }
+
+    /**
+     * Fetches and validates the action, its datasource and the plugin executor needed to execute the action given in
+     * the DTO.
+     *
+     * @param executeActionDTO The action to execute, along with the params for mustache substitution.
+     * @return Mono of the action, the datasource and the plugin executor, in that order.
+     */
+    private Mono<Tuple3<Action, Datasource, PluginExecutor>> getExecutionContext(ExecuteActionDTO executeActionDTO) {
         Action actionFromDto = executeActionDTO.getAction();
 
         // 1. Validate input parameters which are required for mustache replacements
@@ -331,7 +743,7 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
                 })
                 .cache();
 
-        Mono<Plugin> pluginMono = datasourceMono
+        Mono<PluginExecutor> pluginExecutorMono = datasourceMono
                 .flatMap(datasource -> {
                     // For embedded datasources/dry runs, validate the datasource for each execution
                     if (datasource.getId() == null) {
@@ -347,158 +759,105 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
                                 actionFromDto.getId(), ArrayUtils.toString(invalids));
                         return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE, ArrayUtils.toString(invalids)));
                     }
-                    return pluginService.findById(datasource.getPluginId());
+                    return pluginExecutorHelper.getPluginExecutorByPluginId(datasource.getPluginId());
                 })
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin")));
 
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
-
-        // 4. Execute the query
-        Mono<ActionExecutionResult> actionExecutionResultMono = Mono
-                .zip(
-                        actionMono,
-                        datasourceMono,
-                        pluginExecutorMono
-                )
-                .flatMap(tuple -> {
-                    final Action action = tuple.getT1();
-                    final Datasource datasource = tuple.getT2();
-                    final PluginExecutor pluginExecutor = tuple.getT3();
-
-                    DatasourceConfiguration datasourceConfigurationTemp;
-                    ActionConfiguration actionConfigurationTemp;
-                    //Do variable substitution before invoking the plugin
-                    //Do this only if params have been provided in the execute command
-                    if (executeActionDTO.getParams() != null && !executeActionDTO.getParams().isEmpty()) {
-                        Map<String, String> replaceParamsMap = executeActionDTO
-                                .getParams()
-                                .stream()
-                                .collect(Collectors.toMap(
-                                        // Trimming here for good measure. If the keys have space on either side,
-                                        // Mustache won't be able to find the key.
-                                        // We also add a backslash before every double-quote or backslash character
-                                        // because we apply the template replacing in a JSON-stringified version of
-                                        // these properties, where these two characters are escaped.
-                                        p -> p.getKey().trim(), // .replaceAll("[\"\n\\\\]", "\\\\$0"),
-                                        Param::getValue,
-                                        // In case of a conflict, we pick the older value
-                                        (oldValue, newValue) -> oldValue)
-                                );
-
-                        datasourceConfigurationTemp = variableSubstitution(datasource.getDatasourceConfiguration(), replaceParamsMap);
-                        actionConfigurationTemp = variableSubstitution(action.getActionConfiguration(), replaceParamsMap);
-                    } else {
-                        datasourceConfigurationTemp = datasource.getDatasourceConfiguration();
-                        actionConfigurationTemp = action.getActionConfiguration();
-                    }
-
-                    DatasourceConfiguration datasourceConfiguration;
-                    ActionConfiguration actionConfiguration;
-
-                    // If the action is paginated, update the configurations to update the correct URL.
-                    if (action.getActionConfiguration() != null &&
-                            action.getActionConfiguration().getPaginationType() != null &&
-                            PaginationType.URL.equals(action.getActionConfiguration().getPaginationType()) &&
-                            executeActionDTO.getPaginationField() != null) {
-                        datasourceConfiguration = updateDatasourceConfigurationForPagination(actionConfigurationTemp, datasourceConfigurationTemp, executeActionDTO.getPaginationField());
-                        actionConfiguration = updateActionConfigurationForPagination(actionConfigurationTemp, executeActionDTO.getPaginationField());
-                    } else {
-                        datasourceConfiguration = datasourceConfigurationTemp;
-                        actionConfiguration = actionConfigurationTemp;
-                    }
+        return Mono.zip(actionMono, datasourceMono, pluginExecutorMono);
+    }
 
-                    // Filter out any empty headers
-                    if (actionConfiguration.getHeaders() != null && !actionConfiguration.getHeaders().isEmpty()) {
-                        List<Property> headerList = actionConfiguration.getHeaders().stream()
-                                .filter(header -> !StringUtils.isEmpty(header.getKey()))
-                                .collect(Collectors.toList());
-                        actionConfiguration.setHeaders(headerList);
-                    }
+    /**
+     * Computes the datasource and action configurations to be given to the plugin, by substituting the params in the
+     * DTO and applying pagination, if any. If the plugin executes the action as a prepared statement, the bindings in
+     * the body are replaced with placeholders, and their values are given separately, to be bound by the plugin.
+     *
+     * @return The datasource configuration and the action configuration, in that order.
+     */
+    private Tuple2<DatasourceConfiguration, ActionConfiguration> getExecutionConfigurations(ExecuteActionDTO executeActionDTO,
+                                                                                           Action action,
+                                                                                           Datasource datasource,
+                                                                                           PluginExecutor pluginExecutor) {
+        DatasourceConfiguration datasourceConfigurationTemp;
+        ActionConfiguration actionConfigurationTemp;
+
+        // Substitution below happens in-place, so the body with the bindings is kept aside for prepared statements.
+        final boolean isPreparedStatement = action.getActionConfiguration() != null
+                && pluginExecutor.isPreparedStatement(action.getActionConfiguration());
+        final String templateBody = isPreparedStatement ? action.getActionConfiguration().getBody() : null;
+        Map<String, String> replaceParamsMap = Map.of();
+
+        //Do variable substitution before invoking the plugin
+        //Do this only if params have been provided in the execute command
+        if (executeActionDTO.getParams() != null && !executeActionDTO.getParams().isEmpty()) {
+            replaceParamsMap = executeActionDTO
+                    .getParams()
+                    .stream()
+                    .collect(Collectors.toMap(
+                            // Trimming here for good measure. If the keys have space on either side,
+                            // Mustache won't be able to find the key.
+                            // We also add a backslash before every double-quote or backslash character
+                            // because we apply the template replacing in a JSON-stringified version of
+                            // these properties, where these two characters are escaped.
+                            p -> p.getKey().trim(), // .replaceAll("[\"\n\\\\]", "\\\\$0"),
+                            Param::getValue,
+                            // In case of a conflict, we pick the older value
+                            (oldValue, newValue) -> oldValue)
+                    );
+
+            datasourceConfigurationTemp = variableSubstitution(datasource.getDatasourceConfiguration(), replaceParamsMap);
+            actionConfigurationTemp = variableSubstitution(action.getActionConfiguration(), replaceParamsMap);
+        } else {
+            datasourceConfigurationTemp = datasource.getDatasourceConfiguration();
+            actionConfigurationTemp = action.getActionConfiguration();
+        }
 
-                    Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+        if (isPreparedStatement && templateBody != null) {
+            final List<Param> bodyParams = new ArrayList<>();
+            actionConfigurationTemp.setBody(MustacheHelper.renderPlaceholders(
+                    templateBody, replaceParamsMap, bodyParams, pluginExecutor.getSqlSyntax()));
+            actionConfigurationTemp.setBodyParams(bodyParams);
+        }
 
-                    log.debug("Execute Action called in Page {}, for action id : {}  action name : {}, {}, {}",
-                            action.getPageId(), action.getId(), action.getName(), datasourceConfiguration,
-                            actionConfiguration);
+        DatasourceConfiguration datasourceConfiguration;
+        ActionConfiguration actionConfiguration;
 
-                    Mono<ActionExecutionResult> executionMono = Mono.just(datasource)
-                            .flatMap(datasourceContextService::getDatasourceContext)
-                            // Now that we have the context (connection details), execute the action.
-                            .flatMap(
-                                    resourceContext -> pluginExecutor.execute(
-                                            resourceContext.getConnection(),
-                                            datasourceConfiguration,
-                                            actionConfiguration
-                                    )
-                            );
-
-                    return executionMono
-                            .onErrorResume(StaleConnectionException.class, error -> {
-                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
-                                return datasourceContextService
-                                        .deleteDatasourceContext(datasource.getId())
-                                        .then(executionMono);
-                            })
-                            .timeout(Duration.ofMillis(timeoutDuration))
-                            .onErrorMap(
-                                    StaleConnectionException.class,
-                                    error -> new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_ERROR,
-                                            "Secondary stale connection error."
-                                    )
-                            )
-                            .onErrorResume(e -> {
-                                log.debug("In the action execution error mode.", e);
-                                ActionExecutionResult result = new ActionExecutionResult();
-                                result.setBody(e.getMessage());
-                                result.setIsExecutionSuccess(false);
-                                // Set the status code for Appsmith plugin errors
-                                if (e instanceof AppsmithPluginException) {
-                                    result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
-                                } else {
-                                    result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
-                                }
-                                return Mono.just(result);
-                            });
-                });
+        // If the action is paginated, update the configurations to update the correct URL.
+        if (action.getActionConfiguration() != null &&
+                action.getActionConfiguration().getPaginationType() != null &&
+                PaginationType.URL.equals(action.getActionConfiguration().getPaginationType()) &&
+                executeActionDTO.getPaginationField() != null) {
+            datasourceConfiguration = updateDatasourceConfigurationForPagination(actionConfigurationTemp, datasourceConfigurationTemp, executeActionDTO.getPaginationField());
+            actionConfiguration = updateActionConfigurationForPagination(actionConfigurationTemp, executeActionDTO.getPaginationField());
+        } else {
+            datasourceConfiguration = datasourceConfigurationTemp;
+            actionConfiguration = actionConfigurationTemp;
+        }
 
-        // Populate the actionExecution result by setting the cached response and saving it to the DB
-        return actionExecutionResultMono
-                .flatMap(result -> {
-                    Mono<ActionExecutionResult> resultMono = Mono.just(result);
-                    if (actionFromDto.getId() == null) {
-                        // This is a dry-run. We shouldn't query the db because it'll throw NPE on null IDs
-                        return resultMono;
-                    }
+        // Filter out any empty headers
+        if (actionConfiguration.getHeaders() != null && !actionConfiguration.getHeaders().isEmpty()) {
+            List<Property> headerList = actionConfiguration.getHeaders().stream()
+                    .filter(header -> !StringUtils.isEmpty(header.getKey()))
+                    .collect(Collectors.toList());
+            actionConfiguration.setHeaders(headerList);
+        }
 
-                    Mono<Action> actionFromDbMono = repository.findById(actionFromDto.getId())
-                            //If the action is found in the db (i.e. it is not a dry run, save the cached response
-                            .flatMap(action -> {
-                                // If the plugin execution result is successful, then cache response body in
-                                // the action and save it.
-                                if (Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
-                                    // Save the result only if body exists in the body. e.g. Even though 204
-                                    // is an execution success, there would be no body expected.
-                                    if (result.getBody() != null) {
-                                        action.setCacheResponse(result.getBody().toString());
-                                        return repository.save(action);
-                                    }
-                                    // No result body exists. Return the action as is.
-                                    return Mono.just(action);
-                                }
-                                log.debug("Action execution resulted in failure beyond the proxy with the result of {}", result);
-                                return Mono.just(action);
-                            });
+        return Tuples.of(datasourceConfiguration, actionConfiguration);
+    }
 
-                    return actionFromDbMono.then(resultMono);
-                })
-                .onErrorResume(AppsmithException.class, error -> {
-                    ActionExecutionResult result = new ActionExecutionResult();
-                    result.setIsExecutionSuccess(false);
-                    result.setStatusCode(error.getAppErrorCode().toString());
-                    result.setBody(error.getMessage());
-                    return Mono.just(result);
-                });
+    private ActionExecutionResult buildErrorResult(Throwable e) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(e.getMessage());
+        result.setIsExecutionSuccess(false);
+        // Set the status code for Appsmith plugin errors
+        if (e instanceof AppsmithPluginException) {
+            result.setStatusCode(((AppsmithPluginException) e).getAppErrorCode().toString());
+        } else if (e instanceof AppsmithException) {
+            // Like executions rejected by the datasource execution guard.
+            result.setStatusCode(((AppsmithException) e).getAppErrorCode().toString());
+        } else {
+            result.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+        }
+        return result;
     }
 
     @Override
@@ -511,22 +870,55 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
         return repository.findByNameAndPageId(name, pageId, permission);
     }
 
+    @Override
+    public Mono<Boolean> existsByNameAndPageId(String name, String pageId, AclPermission aclPermission) {
+        return repository.existsByNameAndPageId(name, pageId, aclPermission);
+    }
+
     /**
-     * Given a list of names of actions and pageId, find all the actions matching this criteria of name, pageId, http
-     * method 'GET' (for API actions only) or have isExecuteOnLoad be true.
+     * Given a pageId, find all the actions in it that have http method 'GET' (for API actions only) or have
+     * isExecuteOnLoad be true. These are executed on page-load if they are used in the page, directly or through other
+     * such actions.
      *
-     * @param names Set of Action names. The returned list of actions will be a subset of the actioned named in this set.
      * @param pageId Id of the Page within which to look for Actions.
-     * @return A Flux of Actions that are identified to be executed on page-load.
+     * @return A Flux of Actions that can be executed on page-load.
      */
-    public Flux<Action> findOnLoadActionsInPage(Set<String> names, String pageId) {
-        final Flux<Action> getApiActions = repository
-                .findDistinctActionsByNameInAndPageIdAndActionConfiguration_HttpMethodAndUserSetOnLoad(names, pageId, "GET", false);
+    @Override
+    public Flux<Action> findOnLoadActionsInPage(String pageId) {
+        return repository.findOnLoadActionsByPageId(pageId);
+    }
+
+    /**
+     * Sets the given actions to be executed on page-load, with a single update.
+     *
+     * @param actionIds Ids of the actions to update.
+     * @return Mono that completes when the actions are updated.
+     */
+    @Override
+    public Mono<Void> setExecuteOnLoad(Collection<String> actionIds) {
+        if (actionIds.isEmpty()) {
+            return Mono.empty();
+        }
 
-        final Flux<Action> explicitOnLoadActions = repository
-                .findDistinctActionsByNameInAndPageIdAndExecuteOnLoadTrue(names, pageId);
+        return repository.setExecuteOnLoad(actionIds, true).then();
+    }
+
+    /**
+     * Saves the action configurations of the given actions, along with their json path keys re-extracted from them,
+     * with a single bulk write. This is meant for changes that don't need the actions to be validated again, like
+     * renaming references to a widget or action.
+     *
+     * @param actions Actions with updated configurations.
+     * @return Mono that completes when the actions are saved.
+     */
+    @Override
+    public Mono<Void> updateActionConfigurations(Collection<Action> actions) {
+        if (actions.isEmpty()) {
+            return Mono.empty();
+        }
 
-        return getApiActions.concatWith(explicitOnLoadActions);
+        actions.forEach(this::extractAndSetJsonPathKeys);
+        return repository.updateActionConfigurations(actions).then();
     }
 
     /**
@@ -596,6 +988,7 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, id)));
         return actionMono
                 .flatMap(toDelete -> repository.delete(toDelete).thenReturn(toDelete))
+                .flatMap(deleted -> materializedResultCache.evict(deleted.getId()).thenReturn(deleted))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -715,7 +1108,8 @@ public class ActionServiceImpl extends BaseService<ActionRepository, Action, Str
                 });
     }
 
-    private void generateAndSetActionPolicies(Page page, User user, Action action) {
+    @Override
+    public void generateAndSetActionPolicies(Page page, User user, Action action) {
         Set<Policy> policySet = page.getPolicies().stream()
                 .filter(policy -> policy.getPermission().equals(MANAGE_PAGES.getValue())
                         || policy.getPermission().equals(READ_PAGES.getValue()))
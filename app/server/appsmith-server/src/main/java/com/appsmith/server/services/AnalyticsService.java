@@ -5,26 +5,104 @@ import com.appsmith.server.constants.AnalyticsEvents;
 import com.appsmith.server.domains.User;
 import com.segment.analytics.Analytics;
 import com.segment.analytics.messages.IdentifyMessage;
+import com.segment.analytics.messages.MessageBuilder;
 import com.segment.analytics.messages.TrackMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @Slf4j
 public class AnalyticsService {
 
+    // Maximum number of events waiting to be handed to the analytics client. Events raised when this is full are dropped,
+    // so that a slow analytics client never holds up requests, or grows the memory used by the server.
+    private static final int EVENT_QUEUE_CAPACITY = 10000;
+
+    // Events are handed to the analytics client in batches of this size, or whatever has been raised in the interval.
+    private static final int EVENT_BATCH_SIZE = 100;
+    private static final Duration EVENT_BATCH_INTERVAL = Duration.ofSeconds(1);
+
     private final Analytics analytics;
     private final SessionUserService sessionUserService;
 
+    private final FluxSink<MessageBuilder> eventSink;
+
     @Autowired
     public AnalyticsService(@Autowired(required = false) Analytics analytics, SessionUserService sessionUserService) {
         this.analytics = analytics;
         this.sessionUserService = sessionUserService;
+
+        if (analytics == null) {
+            this.eventSink = null;
+            return;
+        }
+
+        // Events are published into a processor, whose sink can be used from any thread without locking, and are drained
+        // on a thread of their own. So, raising an event is only ever a matter of adding it to the queue.
+        final DirectProcessor<MessageBuilder> eventProcessor = DirectProcessor.create();
+        this.eventSink = eventProcessor.sink();
+        final Scheduler eventScheduler = Schedulers.newSingle("analytics-events");
+
+        eventProcessor
+                .onBackpressureBuffer(
+                        EVENT_QUEUE_CAPACITY,
+                        message -> log.debug("Analytics event queue is full. Dropping event."),
+                        BufferOverflowStrategy.DROP_LATEST
+                )
+                .publishOn(eventScheduler, EVENT_BATCH_SIZE)
+                .bufferTimeout(EVENT_BATCH_SIZE, EVENT_BATCH_INTERVAL, eventScheduler)
+                .doFinally(signalType -> eventScheduler.dispose())
+                .subscribe(this::publishEvents, error -> log.error("Analytics event queue failed.", error));
+    }
+
+    /**
+     * Adds the given message to the queue of events to be sent. This doesn't block, and doesn't wait for the message to
+     * be sent.
+     */
+    private void enqueue(MessageBuilder message) {
+        // The timestamp is set here, since the message is built by the analytics client only when the queue is drained.
+        message.timestamp(new Date());
+        eventSink.next(message);
+    }
+
+    private void publishEvents(List<MessageBuilder> messages) {
+        boolean hasNewUsers = false;
+
+        for (MessageBuilder message : messages) {
+            try {
+                analytics.enqueue(message);
+                hasNewUsers = hasNewUsers || message instanceof IdentifyMessage.Builder;
+            } catch (Exception e) {
+                log.error("Error sending analytics event.", e);
+            }
+        }
+
+        // New users are sent right away, instead of waiting for the analytics client's own flush interval.
+        if (hasNewUsers) {
+            analytics.flush();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (eventSink != null) {
+            // Completing the sink publishes the events still in the queue, and then disposes the scheduler.
+            eventSink.complete();
+        }
     }
 
     public Mono<User> trackNewUser(User user) {
@@ -42,11 +120,10 @@ public class AnalyticsService {
                     if (savedUser.getSource() != null) {
                         traitsMap.put("source", savedUser.getSource().toString());
                     }
-                    analytics.enqueue(IdentifyMessage.builder()
+                    enqueue(IdentifyMessage.builder()
                             .userId(savedUser.getUsername())
                             .traits(traitsMap)
                     );
-                    analytics.flush();
                     return savedUser;
                 });
     }
@@ -83,7 +160,7 @@ public class AnalyticsService {
                         analyticsProperties.putAll(extraProperties);
                     }
 
-                    analytics.enqueue(
+                    enqueue(
                             TrackMessage.builder(eventTag)
                                     .userId(username)
                                     .properties(analyticsProperties)
@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Page;
+import com.appsmith.server.domains.User;
 import com.mongodb.client.result.UpdateResult;
 import reactor.core.publisher.Mono;
 
@@ -29,4 +30,6 @@ public interface ApplicationPageService {
     Mono<Page> clonePage(String pageId);
 
     Mono<Application> cloneApplication(String applicationId);
+
+    void generateAndSetPagePolicies(Application application, User user, Page page);
 }
@@ -286,7 +286,8 @@ public class ApplicationPageServiceImpl implements ApplicationPageService {
                 .flatMap(applicationService::createDefault);
     }
 
-    private void generateAndSetPagePolicies(Application application, User user, Page page) {
+    @Override
+    public void generateAndSetPagePolicies(Application application, User user, Page page) {
         Set<Policy> policySet = application.getPolicies().stream()
                 .filter(policy -> policy.getPermission().equals(MANAGE_APPLICATIONS.getValue())
                         || policy.getPermission().equals(READ_APPLICATIONS.getValue()))
@@ -1,10 +1,19 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Asset;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.multipart.Part;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface AssetService {
 
     Mono<Asset> getById(String id);
 
+    Mono<Asset> upload(Part filePart, int maxFileSizeKB);
+
+    Flux<DataBuffer> getContent(Asset asset, long start, long end);
+
+    Mono<Void> remove(String assetId);
+
 }
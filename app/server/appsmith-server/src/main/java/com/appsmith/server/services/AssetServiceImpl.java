@@ -1,22 +1,218 @@
 package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Asset;
+import com.appsmith.server.domains.AssetChunk;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.AssetChunkRepository;
 import com.appsmith.server.repositories.AssetRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AssetServiceImpl implements AssetService {
 
+    // Same as the default chunk size of GridFS, which keeps each chunk well below the maximum size of a document.
+    private static final int CHUNK_SIZE = 255 * 1024;
+
+    // Number of chunks saved with each bulk insert, while uploading.
+    private static final int CHUNKS_PER_INSERT = 4;
+
+    // Assets up to this size, like organization logos, are kept in memory completely after they're first read.
+    private static final int HOT_ASSET_MAX_SIZE = 64 * 1024;
+
+    private static final long HOT_ASSETS_MAX_TOTAL_SIZE = 16 * 1024 * 1024;
+
+    private static final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
     private final AssetRepository repository;
+    private final AssetChunkRepository chunkRepository;
+
+    // Small assets that have been read recently, along with their contents. Since assets are never modified, these are
+    // only ever removed when they're evicted, or when the asset is deleted.
+    private final Cache<String, Asset> hotAssets = CacheBuilder.newBuilder()
+            .maximumWeight(HOT_ASSETS_MAX_TOTAL_SIZE)
+            .<String, Asset>weigher((id, asset) -> asset.getData().length)
+            .build();
 
     @Override
     public Mono<Asset> getById(String id) {
-        return repository.findById(id);
+        final Asset hotAsset = hotAssets.getIfPresent(id);
+        if (hotAsset != null) {
+            return Mono.just(hotAsset);
+        }
+
+        return repository.findById(id)
+                .flatMap(asset -> {
+                    if (asset.getContentLength() > HOT_ASSET_MAX_SIZE) {
+                        return Mono.just(asset);
+                    }
+
+                    final Mono<Asset> assetWithDataMono = asset.getData() != null
+                            ? Mono.just(asset)
+                            : DataBufferUtils.join(getContent(asset, 0, asset.getContentLength() - 1))
+                                    .map(dataBuffer -> {
+                                        final byte[] data = new byte[dataBuffer.readableByteCount()];
+                                        dataBuffer.read(data);
+                                        DataBufferUtils.release(dataBuffer);
+                                        asset.setData(data);
+                                        return asset;
+                                    })
+                                    .defaultIfEmpty(asset);
+
+                    return assetWithDataMono
+                            .doOnNext(assetWithData -> {
+                                if (assetWithData.getData() != null) {
+                                    hotAssets.put(id, assetWithData);
+                                }
+                            });
+                });
+    }
+
+    /**
+     * Saves the contents of the given file part as a new asset, as the contents are received. The contents are split
+     * into chunks of a fixed size, irrespective of how they're received, and are saved a few chunks at a time. If the
+     * contents turn out to be larger than the given limit, or the upload fails, the chunks saved so far are deleted.
+     *
+     * @param filePart       File part with the asset's contents.
+     * @param maxFileSizeKB  Maximum size of the contents, in kilobytes.
+     * @return Publishes the new asset.
+     */
+    @Override
+    public Mono<Asset> upload(Part filePart, int maxFileSizeKB) {
+        final String assetId = new ObjectId().toHexString();
+        final MediaType contentType = filePart.headers().getContentType();
+
+        return Mono.defer(() -> {
+            final Chunker chunker = new Chunker(CHUNK_SIZE, maxFileSizeKB * 1024L);
+
+            return filePart.content()
+                    .concatMap(dataBuffer -> {
+                        try {
+                            return Flux.fromIterable(chunker.write(dataBuffer));
+                        } catch (AppsmithException e) {
+                            return Flux.error(e);
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+                    })
+                    .concatWith(Mono.fromSupplier(chunker::remaining).filter(data -> data.length > 0))
+                    .index()
+                    .map(tuple -> new AssetChunk(assetId, tuple.getT1().intValue(), tuple.getT2()))
+                    .buffer(CHUNKS_PER_INSERT)
+                    .concatMap(chunkRepository::insert)
+                    .then(Mono.defer(() -> {
+                        final Asset asset = new Asset();
+                        asset.setId(assetId);
+                        asset.setContentType(contentType == null ? null : contentType.toString());
+                        asset.setLength(chunker.getLength());
+                        asset.setChunkSize(CHUNK_SIZE);
+                        return repository.save(asset);
+                    }));
+        })
+                .onErrorResume(error -> chunkRepository.deleteByAssetId(assetId).then(Mono.error(error)));
+    }
+
+    /**
+     * Streams the contents of the given asset, from the start offset to the end offset, both inclusive. Only the
+     * chunks that overlap with this range are read.
+     */
+    @Override
+    public Flux<DataBuffer> getContent(Asset asset, long start, long end) {
+        if (end < start) {
+            return Flux.empty();
+        }
+
+        if (asset.getData() != null) {
+            return Flux.just(bufferFactory.wrap(ByteBuffer.wrap(asset.getData(), (int) start, (int) (end - start + 1))));
+        }
+
+        final int chunkSize = asset.getChunkSize();
+
+        return chunkRepository
+                .findByAssetIdAndSequenceBetween(asset.getId(), (int) (start / chunkSize), (int) (end / chunkSize))
+                .map(chunk -> {
+                    final long chunkStart = (long) chunk.getSequence() * chunkSize;
+                    final int from = (int) Math.max(start - chunkStart, 0);
+                    final int to = (int) Math.min(end - chunkStart + 1, chunk.getData().length);
+                    return bufferFactory.wrap(ByteBuffer.wrap(chunk.getData(), from, to - from));
+                });
+    }
+
+    @Override
+    public Mono<Void> remove(String assetId) {
+        hotAssets.invalidate(assetId);
+        return chunkRepository.deleteByAssetId(assetId)
+                .then(repository.deleteById(assetId));
+    }
+
+    /**
+     * Splits the bytes written into it into chunks of a fixed size, and keeps count of the total bytes written.
+     */
+    private static class Chunker {
+
+        private final byte[] chunk;
+        private final long maxLength;
+        private int filled = 0;
+        private long length = 0;
+
+        Chunker(int chunkSize, long maxLength) {
+            this.chunk = new byte[chunkSize];
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Reads the given buffer completely, and returns the chunks that were filled up with it.
+         */
+        List<byte[]> write(DataBuffer dataBuffer) throws AppsmithException {
+            length += dataBuffer.readableByteCount();
+            if (length > maxLength) {
+                throw new AppsmithException(AppsmithError.PAYLOAD_TOO_LARGE, maxLength / 1024);
+            }
+
+            final List<byte[]> fullChunks = new ArrayList<>();
+            while (dataBuffer.readableByteCount() > 0) {
+                final int count = Math.min(dataBuffer.readableByteCount(), chunk.length - filled);
+                dataBuffer.read(chunk, filled, count);
+                filled += count;
+                if (filled == chunk.length) {
+                    fullChunks.add(chunk.clone());
+                    filled = 0;
+                }
+            }
+
+            return fullChunks;
+        }
+
+        /**
+         * Returns the bytes written after the last full chunk.
+         */
+        byte[] remaining() {
+            return Arrays.copyOf(chunk, filled);
+        }
+
+        long getLength() {
+            return length;
+        }
+
     }
 
 }
@@ -5,7 +5,6 @@ import com.appsmith.external.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.DatasourceContext;
-import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,17 +24,14 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
     //This is DatasourceId mapped to the DatasourceContext
     private final Map<String, DatasourceContext> datasourceContextMap;
     private final DatasourceService datasourceService;
-    private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final EncryptionService encryptionService;
 
     @Autowired
     public DatasourceContextServiceImpl(DatasourceService datasourceService,
-                                        PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
                                         EncryptionService encryptionService) {
         this.datasourceService = datasourceService;
-        this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.encryptionService = encryptionService;
         this.datasourceContextMap = new HashMap<>();
@@ -70,13 +66,8 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
         }
 
         return datasourceMono
-                .zipWhen(datasource1 -> {
-                    Mono<Plugin> pluginMono = datasourceMono
-                            .flatMap(resource -> pluginService.findById(resource.getPluginId()));
-
-                    // Datasource Context has not been created for this resource on this machine. Create one now.
-                    return pluginExecutorHelper.getPluginExecutor(pluginMono);
-                })
+                // Datasource Context has not been created for this resource on this machine. Create one now.
+                .zipWhen(datasource1 -> pluginExecutorHelper.getPluginExecutorByPluginId(datasource1.getPluginId()))
                 .flatMap(objects -> {
                     Datasource datasource1 = objects.getT1();
 
@@ -154,7 +145,7 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
         return datasourceService
                 .findById(datasourceId, EXECUTE_DATASOURCES)
                 .zipWhen(datasource1 ->
-                        pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasource1.getPluginId()))
+                        pluginExecutorHelper.getPluginExecutorByPluginId(datasource1.getPluginId())
                 )
                 .map(tuple -> {
                     final Datasource datasource = tuple.getT1();
@@ -20,6 +20,7 @@ import com.appsmith.server.helpers.MustacheHelper;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.ActionRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.DatasourceStructureCacheRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
@@ -55,6 +56,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
     private final SequenceService sequenceService;
     private final ActionRepository actionRepository;
     private final EncryptionService encryptionService;
+    private final DatasourceStructureCacheRepository structureCacheRepository;
 
     @Autowired
     public DatasourceServiceImpl(Scheduler scheduler,
@@ -70,7 +72,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
                                  ActionRepository actionRepository,
-                                 EncryptionService encryptionService) {
+                                 EncryptionService encryptionService,
+                                 DatasourceStructureCacheRepository structureCacheRepository) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.organizationService = organizationService;
         this.sessionUserService = sessionUserService;
@@ -80,6 +83,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
         this.sequenceService = sequenceService;
         this.actionRepository = actionRepository;
         this.encryptionService = encryptionService;
+        this.structureCacheRepository = structureCacheRepository;
     }
 
     @Override
@@ -153,7 +157,14 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     copyNestedNonNullProperties(datasource, dbDatasource);
                     return dbDatasource;
                 })
-                .flatMap(this::validateAndSaveDatasourceToRepository);
+                .flatMap(this::validateAndSaveDatasourceToRepository)
+                .flatMap(savedDatasource -> {
+                    // Structures saved with the older configuration can't be served anymore, so they are removed.
+                    if (datasource.getDatasourceConfiguration() == null) {
+                        return Mono.just(savedDatasource);
+                    }
+                    return structureCacheRepository.deleteAllByDatasourceId(id).thenReturn(savedDatasource);
+                });
     }
 
     private AuthenticationDTO encryptAuthenticationFields(AuthenticationDTO authentication) {
@@ -290,7 +301,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
     }
 
     private Mono<DatasourceTestResult> testDatasourceViaPlugin(Datasource datasource) {
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasource.getPluginId()))
+        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutorByPluginId(datasource.getPluginId())
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasource.getPluginId())));
 
         return pluginExecutorMono
@@ -352,6 +363,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return Mono.just(objects.getT1());
                 })
                 .flatMap(toDelete -> repository.archive(toDelete).thenReturn(toDelete))
+                .flatMap(deleted -> structureCacheRepository.deleteAllByDatasourceId(deleted.getId()).thenReturn(deleted))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
@@ -1,6 +1,5 @@
 package com.appsmith.server.services;
 
-import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
@@ -11,28 +10,27 @@ import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.dtos.RefactorNameDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
-import com.appsmith.server.helpers.MustacheHelper;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.appsmith.server.helpers.DslAnalyzer;
+import com.appsmith.server.helpers.MaterializedResultCache;
+import com.appsmith.server.helpers.RefactorHelper;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
-import net.minidev.json.parser.ParseException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.util.context.Context;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_PAGES;
@@ -45,56 +43,127 @@ import static java.util.stream.Collectors.toSet;
 public class LayoutActionServiceImpl implements LayoutActionService {
     private final ActionService actionService;
     private final PageService pageService;
-    private final ObjectMapper objectMapper;
     private final AnalyticsService analyticsService;
-    /*
-     * This pattern finds all the String which have been extracted from the mustache dynamic bindings.
-     * e.g. for the given JS function using action with name "fetchUsers"
-     * {{JSON.stringify(fetchUsers)}}
-     * This pattern should return ["JSON.stringify", "fetchUsers"]
-     */
-    private final Pattern pattern = Pattern.compile("[a-zA-Z_][a-zA-Z0-9._]*");
+    private final MaterializedResultCache materializedResultCache;
 
     /*
-     * To replace fetchUsers in `{{JSON.stringify(fetchUsers)}}` with getUsers, the following regex is required :
-     * `\\b(fetchUsers)\\b`. To achieve this the following strings preWord and postWord are declared here to be used
-     * at run time to create the regex pattern.
+     * Saves of layouts in progress, keyed by the page and layout ids. While a layout is being saved, further updates to
+     * it are coalesced, and only the latest of them is saved once the current save is done. All access is synchronized
+     * on this map.
      */
-    private final String preWord = "\\b(";
-    private final String postWord = ")\\b";
+    private final Map<String, LayoutSaveState> layoutSaves = new HashMap<>();
+
+    private static class LayoutSaveState {
+        // The save that will start when the current one is done, if any updates arrived during the current save.
+        PendingLayoutSave pending;
+    }
+
+    private static class PendingLayoutSave {
+        Layout layout;
+        // Subscriber context of the update that is saved, so that the save runs with that user's security context.
+        Context context;
+        final MonoProcessor<Layout> result = MonoProcessor.create();
+    }
 
     public LayoutActionServiceImpl(ActionService actionService,
                                    PageService pageService,
-                                   ObjectMapper objectMapper,
-                                   AnalyticsService analyticsService) {
+                                   AnalyticsService analyticsService,
+                                   MaterializedResultCache materializedResultCache) {
         this.actionService = actionService;
         this.pageService = pageService;
-        this.objectMapper = objectMapper;
         this.analyticsService = analyticsService;
+        this.materializedResultCache = materializedResultCache;
     }
 
+    /**
+     * Updates the given layout of the page. Updates to a layout that arrive while it is being saved are coalesced, and
+     * only the latest of them is saved when the current save is done, so that a burst of updates from the editor
+     * doesn't analyze and write the page for each of them. Every caller whose update was coalesced is checked for
+     * permission to update the page, and gets the layout as saved by the coalesced save.
+     */
     @Override
     public Mono<Layout> updateLayout(String pageId, String layoutId, Layout layout) {
-        JSONObject dsl = layout.getDsl();
-        if (dsl == null) {
+        if (layout.getDsl() == null) {
             // There is no DSL here. No need to process anything. Return as is.
             return Mono.just(layout);
         }
 
-        Set<String> widgetNames = new HashSet<>();
-        extractAllWidgetNamesFromDSL(dsl, widgetNames);
-        layout.setWidgetNames(widgetNames);
-
-        // Extract all the mustache keys in the DSL to get the dynamic bindings used in the DSL.
-        final Set<String> dynamicBindings = MustacheHelper.extractMustacheKeysFromFields(dsl);
-        Set<String> dynamicBindingNames = new HashSet<>();
-        if (!CollectionUtils.isEmpty(dynamicBindings)) {
-            for (String mustacheKey : dynamicBindings) {
-                // Extract all the words in the dynamic bindings
-                extractWordsAndAddToSet(dynamicBindingNames, mustacheKey);
+        final String key = pageId + "/" + layoutId;
+
+        return Mono.subscriberContext()
+                .flatMap(context -> {
+                    synchronized (layoutSaves) {
+                        if (!layoutSaves.containsKey(key)) {
+                            return startLayoutSave(key, pageId, layoutId, layout);
+                        }
+                    }
+
+                    return pageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES)
+                            .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.ACL_NO_RESOURCE_FOUND,
+                                    FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID, pageId + ", " + layoutId)))
+                            .flatMap(page -> {
+                                synchronized (layoutSaves) {
+                                    final LayoutSaveState state = layoutSaves.get(key);
+                                    if (state == null) {
+                                        // The save in progress finished while permissions were being checked.
+                                        return startLayoutSave(key, pageId, layoutId, layout);
+                                    }
+
+                                    if (state.pending == null) {
+                                        state.pending = new PendingLayoutSave();
+                                    }
+                                    state.pending.layout = layout;
+                                    state.pending.context = context;
+                                    return state.pending.result;
+                                }
+                            });
+                });
+    }
+
+    /**
+     * Marks the layout as being saved, and gives the save of the given layout, which marks the layout as not being saved
+     * anymore when done. Must be called while holding the lock on {@link #layoutSaves}. The save itself is deferred to
+     * the subscription, so that the DSL isn't analyzed while holding the lock, and so that errors while preparing the
+     * save still end it.
+     */
+    private Mono<Layout> startLayoutSave(String key, String pageId, String layoutId, Layout layout) {
+        layoutSaves.put(key, new LayoutSaveState());
+        return Mono.defer(() -> saveLayout(pageId, layoutId, layout))
+                .doFinally(signal -> startPendingLayoutSave(key, pageId, layoutId));
+    }
+
+    /**
+     * Starts the save of the latest update that arrived while the layout was being saved, if any. Otherwise, the layout
+     * is marked as not being saved anymore.
+     */
+    private void startPendingLayoutSave(String key, String pageId, String layoutId) {
+        final PendingLayoutSave pending;
+        synchronized (layoutSaves) {
+            final LayoutSaveState state = layoutSaves.get(key);
+            if (state == null || state.pending == null) {
+                layoutSaves.remove(key);
+                return;
             }
+            pending = state.pending;
+            state.pending = null;
         }
 
+        // This save isn't part of any caller's subscription, since all the callers waiting on it may go away. So it is
+        // subscribed here, with the context of the update being saved.
+        Mono.defer(() -> saveLayout(pageId, layoutId, pending.layout))
+                .doFinally(signal -> startPendingLayoutSave(key, pageId, layoutId))
+                .subscriberContext(pending.context)
+                .subscribe(pending.result);
+    }
+
+    private Mono<Layout> saveLayout(String pageId, String layoutId, Layout layout) {
+        JSONObject dsl = layout.getDsl();
+
+        // Walk the DSL once to get the widget names, and the names used in the dynamic bindings in the DSL.
+        final DslAnalyzer.Analysis dslAnalysis = DslAnalyzer.analyze(dsl);
+        layout.setWidgetNames(dslAnalysis.getWidgetNames());
+        Set<String> dynamicBindingNames = dslAnalysis.getBindingNames();
+
         Mono<List<HashSet<DslActionDTO>>> onLoadActionsMono = findOnLoadActionsInPage(dynamicBindingNames, pageId);
 
         return pageService.findByIdAndLayoutsId(pageId, layoutId, MANAGE_PAGES)
@@ -140,71 +209,140 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                 });
     }
 
+    /**
+     * Finds the actions to be executed on page load, given the names used in the page's DSL. Actions are loaded from the
+     * page once, and the ones used in the DSL, directly or through other such actions, are arranged in layers with a
+     * topological sort. Each action appears once, in a layer before all the actions that depend on it, so the actions
+     * in a layer can be executed together once the earlier layers are done. Actions not yet marked to run on load are
+     * marked with one update.
+     *
+     * @param dynamicBindingNames Top level names used in the dynamic bindings in the DSL.
+     * @param pageId              Id of the page the DSL belongs to.
+     * @return Mono of the layers of actions, in the order they should be executed.
+     */
     public Mono<List<HashSet<DslActionDTO>>> findOnLoadActionsInPage(Set<String> dynamicBindingNames, String pageId) {
-        return findOnLoadActionsInPage(new ArrayList<>(), dynamicBindingNames, pageId);
-    }
-
-    private Mono<List<HashSet<DslActionDTO>>> findOnLoadActionsInPage(List<HashSet<DslActionDTO>> onLoadActions, Set<String> dynamicBindingNames, String pageId) {
-        if (dynamicBindingNames == null || dynamicBindingNames.isEmpty()) {
-            return Mono.just(onLoadActions);
+        if (CollectionUtils.isEmpty(dynamicBindingNames)) {
+            return Mono.just(new ArrayList<>());
         }
-        Set<String> bindingNames = new HashSet<>();
-        return actionService.findOnLoadActionsInPage(dynamicBindingNames, pageId)
-                .flatMap(action -> {
-                    if (!CollectionUtils.isEmpty(action.getJsonPathKeys())) {
-                        for (String mustacheKey : action.getJsonPathKeys()) {
-                            extractWordsAndAddToSet(bindingNames, mustacheKey);
-                        }
-                        bindingNames.remove(action.getName());
-                    }
-                    DslActionDTO newAction = new DslActionDTO();
-                    newAction.setId(action.getId());
-                    newAction.setPluginType(action.getPluginType());
-                    newAction.setJsonPathKeys(action.getJsonPathKeys());
-                    newAction.setName(action.getName());
-                    if (action.getActionConfiguration() != null) {
-                        newAction.setTimeoutInMillisecond(action.getActionConfiguration().getTimeoutInMillisecond());
-                    }
 
-                    // If the executeOnLoad field isn't true, set it to true
-                    if (!Boolean.TRUE.equals(action.getExecuteOnLoad())) {
-                        Action updateAction = new Action();
-                        updateAction.setExecuteOnLoad(true);
+        return actionService.findOnLoadActionsInPage(pageId)
+                .collectMap(Action::getName)
+                .flatMap(actionsByName -> {
+                    final Map<String, Integer> depths = computeOnLoadActionDepths(dynamicBindingNames, actionsByName);
+                    final int maxDepth = depths.values().stream().max(Integer::compare).orElse(-1);
 
-                        return actionService.update(action.getId(), updateAction)
-                                .thenReturn(newAction);
+                    // The deepest dependencies are executed first, and the actions used directly in the DSL last.
+                    final List<HashSet<DslActionDTO>> onLoadActions = new ArrayList<>();
+                    for (int i = 0; i <= maxDepth; ++i) {
+                        onLoadActions.add(new HashSet<>());
                     }
 
-                    return Mono.just(newAction);
-
-                })
-                .collect(toSet())
-                .flatMap(actions -> {
-                    HashSet<DslActionDTO> onLoadSet = new HashSet<>(actions);
+                    final List<String> actionIdsToUpdate = new ArrayList<>();
+                    for (Map.Entry<String, Integer> entry : depths.entrySet()) {
+                        final Action action = actionsByName.get(entry.getKey());
+                        onLoadActions.get(maxDepth - entry.getValue()).add(getDslActionDTO(action));
 
-                    // If the resultant set of actions is empty, don't add it to the array list.
-                    if (!onLoadSet.isEmpty()) {
-                        onLoadActions.add(0, onLoadSet);
+                        // If the executeOnLoad field isn't true, set it to true
+                        if (!Boolean.TRUE.equals(action.getExecuteOnLoad())) {
+                            actionIdsToUpdate.add(action.getId());
+                        }
                     }
-                    return findOnLoadActionsInPage(onLoadActions, bindingNames, pageId);
+
+                    return actionService.setExecuteOnLoad(actionIdsToUpdate).thenReturn(onLoadActions);
                 });
     }
 
-    private void extractWordsAndAddToSet(Set<String> bindingNames, String mustacheKey) {
-        String key = mustacheKey.trim();
+    /**
+     * Computes the depth of each on-load action reachable from the given names, in the graph where every action points
+     * to the on-load actions used in its bindings. The depth of an action is the length of the longest path to it from
+     * the actions used directly in the DSL, so every action is deeper than all the actions that use it. Depths are
+     * found with Kahn's algorithm. If actions use each other in a cycle, the cycle is broken at the action with the
+     * fewest unvisited users, so that such actions are still executed once.
+     *
+     * @return Map of the names of the reachable on-load actions to their depths.
+     */
+    private Map<String, Integer> computeOnLoadActionDepths(Set<String> dynamicBindingNames, Map<String, Action> actionsByName) {
+        // Find the on-load actions reachable from the DSL, along with the on-load actions each of them uses.
+        final Map<String, Set<String>> dependencies = new HashMap<>();
+        final Deque<String> namesToVisit = new ArrayDeque<>(dynamicBindingNames);
+        while (!namesToVisit.isEmpty()) {
+            final String name = namesToVisit.remove();
+            final Action action = actionsByName.get(name);
+            if (action == null || dependencies.containsKey(name)) {
+                continue;
+            }
 
-        // Extract all the words in the dynamic bindings
-        Matcher matcher = pattern.matcher(key);
+            final Set<String> dependencyNames = new HashSet<>();
+            if (!CollectionUtils.isEmpty(action.getJsonPathKeys())) {
+                for (String mustacheKey : action.getJsonPathKeys()) {
+                    DslAnalyzer.extractBindingNames(mustacheKey, dependencyNames);
+                }
+            }
+            dependencyNames.remove(name);
+            dependencyNames.retainAll(actionsByName.keySet());
 
-        while (matcher.find()) {
-            String word = matcher.group();
+            dependencies.put(name, dependencyNames);
+            namesToVisit.addAll(dependencyNames);
+        }
 
-            String[] subStrings = word.split(Pattern.quote("."));
-            if (subStrings.length > 0) {
-                // We are only interested in the top level. e.g. if its Input1.text, we want just Input1
-                bindingNames.add(subStrings[0]);
+        final Map<String, Integer> userCounts = new HashMap<>();
+        for (String name : dependencies.keySet()) {
+            userCounts.putIfAbsent(name, 0);
+            for (String dependencyName : dependencies.get(name)) {
+                userCounts.merge(dependencyName, 1, Integer::sum);
             }
         }
+
+        // Depths of the actions visited so far, and the depths they are at least at, given the users visited so far.
+        final Map<String, Integer> depths = new HashMap<>();
+        final Map<String, Integer> minimumDepths = new HashMap<>();
+        final Deque<String> readyNames = new ArrayDeque<>();
+        userCounts.forEach((name, count) -> {
+            if (count == 0) {
+                readyNames.add(name);
+            }
+        });
+
+        while (depths.size() < dependencies.size()) {
+            if (readyNames.isEmpty()) {
+                // Only cycles are left. Break one, by treating its action with the fewest remaining users as ready.
+                userCounts.entrySet().stream()
+                        .filter(entry -> !depths.containsKey(entry.getKey()))
+                        .min(Map.Entry.comparingByValue())
+                        .ifPresent(entry -> readyNames.add(entry.getKey()));
+            }
+
+            final String name = readyNames.remove();
+            if (depths.containsKey(name)) {
+                continue;
+            }
+
+            final int depth = minimumDepths.getOrDefault(name, 0);
+            depths.put(name, depth);
+            for (String dependencyName : dependencies.get(name)) {
+                if (depths.containsKey(dependencyName)) {
+                    continue;
+                }
+                minimumDepths.merge(dependencyName, depth + 1, Math::max);
+                if (userCounts.merge(dependencyName, -1, Integer::sum) == 0) {
+                    readyNames.add(dependencyName);
+                }
+            }
+        }
+
+        return depths;
+    }
+
+    private DslActionDTO getDslActionDTO(Action action) {
+        DslActionDTO newAction = new DslActionDTO();
+        newAction.setId(action.getId());
+        newAction.setPluginType(action.getPluginType());
+        newAction.setJsonPathKeys(action.getJsonPathKeys());
+        newAction.setName(action.getName());
+        if (action.getActionConfiguration() != null) {
+            newAction.setTimeoutInMillisecond(action.getActionConfiguration().getTimeoutInMillisecond());
+        }
+        return newAction;
     }
 
     @Override
@@ -297,136 +435,62 @@ public class LayoutActionServiceImpl implements LayoutActionService {
      * @return
      */
     private Mono<Layout> refactorName(String pageId, String layoutId, String oldName, String newName) {
-        String regexPattern = preWord + oldName + postWord;
-        Pattern oldNamePattern = Pattern.compile(regexPattern);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        if (pageId != null) {
-            params.add(FieldName.PAGE_ID, pageId);
-        }
-
-        Mono<Page> updatePageMono = pageService
+        Mono<Layout> refactorLayoutMono = pageService
                 .findById(pageId, MANAGE_PAGES)
                 .flatMap(page -> {
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layout.getId().equals(layoutId) && layout.getDsl() != null) {
-                            String dslString = "";
-                            try {
-                                dslString = objectMapper.writeValueAsString(layout.getDsl());
-                            } catch (JsonProcessingException e) {
-                                log.debug("Exception caught during conversion of DSL Json object to String. ", e);
-                            }
-                            Matcher matcher = oldNamePattern.matcher(dslString);
-                            String newDslString = matcher.replaceAll(newName);
-                            try {
-                                JSONParser parser = new JSONParser(JSONParser.MODE_PERMISSIVE);
-                                JSONObject json = (JSONObject) parser.parse(newDslString);
-                                layout.setDsl(json);
-                            } catch (ParseException e) {
-                                log.debug("Exception caught during DSL conversion from string to Json object. ", e);
+                    for (Layout layout : page.getLayouts()) {
+                        if (layout.getId().equals(layoutId)) {
+                            if (layout.getDsl() != null) {
+                                RefactorHelper.refactorDsl(layout.getDsl(), oldName, newName);
                             }
-                            page.setLayouts(layouts);
-                            // Since the page has most probably changed, save the page and return.
-                            return pageService.save(page);
+                            // This saves the page, with the refactored DSL.
+                            return updateLayout(pageId, layoutId, layout);
                         }
                     }
-                    // If we have reached here, the layout was not found and the page should be returned as is.
-                    return Mono.just(page);
+                    // If we have reached here, the layout was not found and there's nothing to refactor.
+                    return Mono.empty();
                 });
 
-        Mono<Set<String>> updateActionsMono = actionService
+        Mono<List<Action>> updateActionsMono = actionService
                 .findByPageId(pageId, AclPermission.MANAGE_ACTIONS)
                 /*
                  * Assuming that the datasource should not be dependent on the widget and hence not going through the same
                  * to look for replacement pattern.
                  */
-                .flatMap(action -> {
-                    Boolean actionUpdateRequired = false;
-                    ActionConfiguration actionConfiguration = action.getActionConfiguration();
-                    Set<String> jsonPathKeys = action.getJsonPathKeys();
-
-                    if (jsonPathKeys != null && !jsonPathKeys.isEmpty()) {
-                        // Since json path keys actually contain the entire inline js function instead of just the widget/action
-                        // name, we can not simply use the set.contains(obj) function. We need to iterate over all the keys
-                        // in the set and see if the old name is a substring of the json path key.
-                        for (String key : jsonPathKeys) {
-                            if (key.contains(oldName)) {
-                                actionUpdateRequired = true;
-                            }
-                        }
+                .filter(action -> {
+                    if (action.getActionConfiguration() == null || CollectionUtils.isEmpty(action.getJsonPathKeys())) {
+                        return false;
                     }
 
-                    if (!actionUpdateRequired || actionConfiguration == null) {
-                        return Mono.just(action);
-                    }
-                    // if actionupdateRequired is true AND actionConfiguration is not null
-                    try {
-                        String actionConfigurationAsString = objectMapper.writeValueAsString(actionConfiguration);
-                        Matcher matcher = oldNamePattern.matcher(actionConfigurationAsString);
-                        String newActionConfigurationAsString = matcher.replaceAll(newName);
-                        ActionConfiguration newActionConfiguration = objectMapper.readValue(newActionConfigurationAsString, ActionConfiguration.class);
-                        action.setActionConfiguration(newActionConfiguration);
-                        action = actionService.extractAndSetJsonPathKeys(action);
-                        return actionService.save(action);
-                    } catch (JsonProcessingException e) {
-                        log.debug("Exception caught during conversion between string and action configuration object ", e);
-                        return Mono.just(action);
+                    // Json path keys contain the entire inline js instead of just the widget/action name, so the names
+                    // used in them are extracted to check if the old name is one of them.
+                    final Set<String> bindingNames = new HashSet<>();
+                    for (String key : action.getJsonPathKeys()) {
+                        DslAnalyzer.extractBindingNames(key, bindingNames);
                     }
+                    return bindingNames.contains(oldName)
+                            && RefactorHelper.refactorFieldValues(action.getActionConfiguration(), oldName, newName);
                 })
-                .map(savedAction -> savedAction.getName())
-                .collect(toSet());
-
-        return Mono.zip(updateActionsMono, updatePageMono)
-                .flatMap(tuple -> {
-                    Set<String> updatedActionNames = tuple.getT1();
-                    Page page = tuple.getT2();
-                    log.debug("Actions updated due to refactor name in page {} are : {}", pageId, updatedActionNames);
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
-                        if (layout.getId().equals(layoutId)) {
-                            return updateLayout(pageId, layout.getId(), layout);
-                        }
-                    }
-                    return Mono.empty();
+                .collectList()
+                .flatMap(actions -> actionService.updateActionConfigurations(actions).thenReturn(actions));
+
+        // The actions are updated first, so that on-load actions computed when saving the layout use the new names.
+        return updateActionsMono
+                .flatMap(updatedActions -> {
+                    log.debug("Actions updated due to refactor name in page {} are : {}",
+                            pageId, updatedActions.stream().map(Action::getName).collect(toSet()));
+                    return refactorLayoutMono;
                 });
     }
 
-    /**
-     * Walks the DSL and extracts all the widget names from it.
-     *
-     * @param dsl
-     * @param widgetNames
-     */
-    private void extractAllWidgetNamesFromDSL(JSONObject dsl, Set<String> widgetNames) {
-        if (dsl.get(FieldName.WIDGET_NAME) == null) {
-            //This isnt a valid widget configuration. No need to traverse this.
-            return;
-        }
-
-        String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
-
-        //Since we are parsing this widget in this, add it.
-        widgetNames.add(widgetName);
-
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
-                    object.putAll(data);
-                    extractAllWidgetNamesFromDSL(object, widgetNames);
-                }
-            }
-        }
-    }
-
     /**
      * Compares the new name with the existing widget and action names for this page. If they match, then it returns
      * false to signify that refactoring can not be allowed. Else, refactoring should be allowed and hence true is
      * returned.
+     * <p>
+     * Action names are checked with an `exists` query on the DB server, among the actions the user can read. Widget names
+     * are checked against the `widgetNames` saved with the layout, reading only the layouts' ids and widget names from
+     * the page, and not its DSL.
      *
      * @param pageId
      * @param layoutId
@@ -434,56 +498,27 @@ public class LayoutActionServiceImpl implements LayoutActionService {
      * @return
      */
     private Mono<Boolean> isNameAllowed(String pageId, String layoutId, String newName) {
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        if (pageId != null) {
-            params.add(FieldName.PAGE_ID, pageId);
-        }
-
-        Mono<Set<String>> actionNamesInPageMono = actionService
-                .get(params)
-                .map(action -> action.getName())
-                .collect(toSet());
+        Mono<Boolean> isActionNameUsedMono = actionService.existsByNameAndPageId(newName, pageId, READ_ACTIONS);
 
-        /*
-         * TODO : Execute this check directly on the DB server. We can query array of arrays by:
-         * https://stackoverflow.com/questions/12629692/querying-an-array-of-arrays-in-mongodb
-         */
-        Mono<Set<String>> widgetNamesMono = pageService
-                .findById(pageId, MANAGE_PAGES)
+        Mono<Boolean> isWidgetNameUsedMono = pageService
+                .findLayoutWidgetNamesById(pageId, MANAGE_PAGES)
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PAGE_ID, pageId)))
                 .flatMap(page -> {
-                    List<Layout> layouts = page.getLayouts();
-                    for (Layout layout : layouts) {
+                    for (Layout layout : page.getLayouts()) {
                         if (layout.getId().equals(layoutId)) {
-                            if (layout.getWidgetNames() != null && layout.getWidgetNames().size() > 0) {
-                                return Mono.just(layout.getWidgetNames());
+                            if (CollectionUtils.isEmpty(layout.getWidgetNames())) {
+                                // In case of no widget names (which implies that there is no DSL), return an error.
+                                return Mono.error(new AppsmithException(AppsmithError.NO_DSL_FOUND_IN_PAGE, pageId));
                             }
-                            // In case of no widget names (which implies that there is no DSL), return an error.
-                            return Mono.error(new AppsmithException(AppsmithError.NO_DSL_FOUND_IN_PAGE, pageId));
+                            return Mono.just(layout.getWidgetNames().contains(newName));
                         }
                     }
                     return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.LAYOUT_ID, layoutId));
                 });
 
-        return actionNamesInPageMono
-                .map(actionNames -> {
-                    if (actionNames.contains(newName)) {
-                        return false;
-                    }
-                    return true;
-                })
-                .zipWith(widgetNamesMono)
-                .map(tuple -> {
-                    Boolean allowed = tuple.getT1();
-                    if (allowed.equals(false)) {
-                        return false;
-                    }
-
-                    Set<String> widgetNames = tuple.getT2();
-                    if (widgetNames.contains(newName)) {
-                        return false;
-                    }
-                    return true;
-                });
+        return isActionNameUsedMono
+                .zipWith(isWidgetNameUsedMono)
+                .map(tuple -> !tuple.getT1() && !tuple.getT2());
     }
 
     /**
@@ -518,6 +553,8 @@ public class LayoutActionServiceImpl implements LayoutActionService {
                     return dbAction;
                 })
                 .flatMap(actionService::validateAndSaveActionToRepository)
+                // The materialized result of the action may be of its earlier configuration.
+                .flatMap(savedAction -> materializedResultCache.evict(savedAction.getId()).thenReturn(savedAction))
                 .flatMap(this::updatePageLayoutsGivenAction)
                 .flatMap(analyticsService::sendUpdateEvent);
     }
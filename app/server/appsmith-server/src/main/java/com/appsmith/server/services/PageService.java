@@ -19,6 +19,8 @@ public interface PageService extends CrudService<Page, String> {
 
     Mono<Page> findByIdAndLayoutsId(String pageId, String layoutId, AclPermission aclPermission);
 
+    Mono<Page> findLayoutWidgetNamesById(String pageId, AclPermission aclPermission);
+
     Mono<Page> findByName(String name, AclPermission permission);
 
     Mono<Void> deleteAll();
@@ -81,6 +81,11 @@ public class PageServiceImpl extends BaseService<PageRepository, Page, String> i
         return repository.findByIdAndLayoutsId(pageId, layoutId, aclPermission);
     }
 
+    @Override
+    public Mono<Page> findLayoutWidgetNamesById(String pageId, AclPermission aclPermission) {
+        return repository.findLayoutWidgetNamesById(pageId, aclPermission);
+    }
+
     @Override
     public Mono<Page> findByName(String name, AclPermission permission) {
         return repository.findByName(name, permission);
@@ -10,6 +10,7 @@ import com.appsmith.server.dtos.OrganizationPluginStatus;
 import com.appsmith.server.dtos.PluginOrgDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.PluginRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -54,6 +55,7 @@ public class PluginServiceImpl extends BaseService<PluginRepository, Plugin, Str
 
     private final OrganizationService organizationService;
     private final PluginManager pluginManager;
+    private final PluginExecutorHelper pluginExecutorHelper;
     private final ReactiveRedisTemplate<String, String> reactiveTemplate;
     private final ChannelTopic topic;
     private final ObjectMapper objectMapper;
@@ -73,12 +75,14 @@ public class PluginServiceImpl extends BaseService<PluginRepository, Plugin, Str
                              AnalyticsService analyticsService,
                              OrganizationService organizationService,
                              PluginManager pluginManager,
+                             PluginExecutorHelper pluginExecutorHelper,
                              ReactiveRedisTemplate<String, String> reactiveTemplate,
                              ChannelTopic topic,
                              ObjectMapper objectMapper) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.organizationService = organizationService;
         this.pluginManager = pluginManager;
+        this.pluginExecutorHelper = pluginExecutorHelper;
         this.reactiveTemplate = reactiveTemplate;
         this.topic = topic;
         this.objectMapper = objectMapper;
@@ -289,6 +293,8 @@ public class PluginServiceImpl extends BaseService<PluginRepository, Plugin, Str
         pluginManager.loadPlugin(Path.of(baseUrl + pluginJar));
         //The following only starts plugins which have been loaded but hasn't been started yet.
         pluginManager.startPlugins();
+        // Replace the registered executor so that executions use the newly installed plugin.
+        pluginExecutorHelper.registerPlugin(plugin);
 
         return Mono.just(plugin);
     }
@@ -342,15 +342,10 @@ public class UserOrganizationServiceImpl implements UserOrganizationService {
         Organization updatedOrganization = (Organization) policyUtils.addPoliciesToExistingObject(orgPolicyMap, organization);
         updatedOrganization.setUserRoles(userRoles);
 
-        // Update the underlying application/page/action
-        Flux<Datasource> updatedDatasourcesFlux = policyUtils.updateWithNewPoliciesToDatasourcesByOrgId(updatedOrganization.getId(), datasourcePolicyMap, true);
-        Flux<Application> updatedApplicationsFlux = policyUtils.updateWithNewPoliciesToApplicationsByOrgId(updatedOrganization.getId(), applicationPolicyMap, true);
-        Flux<Page> updatedPagesFlux = updatedApplicationsFlux
-                .flatMap(application -> policyUtils.updateWithApplicationPermissionsToAllItsPages(application.getId(), pagePolicyMap, true));
-        Flux<Action> updatedActionsFlux = updatedPagesFlux
-                .flatMap(page -> policyUtils.updateWithPagePermissionsToAllItsActions(page.getId(), actionPolicyMap, true));
-
-        return Mono.when(updatedDatasourcesFlux.collectList(), updatedActionsFlux.collectList())
+        // Update the underlying datasources/applications/pages/actions for all the new users together
+        return policyUtils
+                .updateWithNewPoliciesToAllOrganizationResources(updatedOrganization.getId(), datasourcePolicyMap,
+                        applicationPolicyMap, pagePolicyMap, actionPolicyMap, true)
                 //By now all the datasources/applications/pages/actions have been updated. Just save the organization now
                 .then(organizationRepository.save(updatedOrganization));
     }
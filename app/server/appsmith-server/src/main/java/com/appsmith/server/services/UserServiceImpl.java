@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.MANAGE_USERS;
@@ -430,6 +431,15 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
         return new HashSet<>(userPolicies.values());
     }
 
+    private void prepareNewUser(User user) {
+        if (!StringUtils.hasText(user.getName())) {
+            user.setName(user.getEmail());
+        }
+
+        // Set the permissions for the user
+        user.getPolicies().addAll(crudUserPolicy(user));
+    }
+
     @Override
     public Mono<User> userCreate(User user) {
         final boolean isFromInvite = user.getInviteToken() != null;
@@ -442,12 +452,7 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
             user.setPassword(passwordEncoder.encode(user.getPassword()));
         }
 
-        if (!StringUtils.hasText(user.getName())) {
-            user.setName(user.getEmail());
-        }
-
-        // Set the permissions for the user
-        user.getPolicies().addAll(crudUserPolicy(user));
+        prepareNewUser(user);
 
         // Save the new user
         return Mono.just(user)
@@ -603,13 +608,14 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
                 .cache();
 
 
-        // Check if the invited user exists. If yes, return the user, else create a new user by triggering
-        // createNewUserAndSendInviteEmail. In both the cases, send the appropriate emails
+        // Emails are used as usernames, and the same user shouldn't be invited twice in one request.
+        final List<String> distinctUsernames = usernames.stream().distinct().collect(Collectors.toList());
 
-        Flux<User> inviteUsersFlux = Flux.fromIterable(usernames)
-                .flatMap(username -> Mono.zip(Mono.just(username), organizationMono, currentUserMono))
+        // Find all the invited users that already exist with a single query, and create the rest together. In both the
+        // cases, send the appropriate emails.
+        Mono<List<User>> invitedUsersMono = Mono.zip(repository.findByEmailIn(distinctUsernames).collectList(), organizationMono, currentUserMono)
                 .flatMap(tuple -> {
-                    String username = tuple.getT1();
+                    List<User> existingUsers = tuple.getT1();
                     Organization organization = tuple.getT2();
                     User currentUser = tuple.getT3();
 
@@ -622,30 +628,38 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
                     }
                     params.put("inviter_org_name", organization.getName());
 
-                    return repository.findByEmail(username)
+                    Set<String> existingEmails = existingUsers.stream().map(User::getEmail).collect(Collectors.toSet());
+                    List<String> newEmails = distinctUsernames.stream()
+                            .filter(email -> !existingEmails.contains(email))
+                            .collect(Collectors.toList());
+
+                    // The users already existed, just send an email informing that the user has been added to a new
+                    // organization
+                    Flux<User> existingUsersFlux = Flux.fromIterable(existingUsers)
                             .flatMap(existingUser -> {
-                                // The user already existed, just send an email informing that the user has been added
-                                // to a new organization
                                 log.debug("Going to send email to user {} informing that the user has been added to new organization {}",
                                         existingUser.getEmail(), organization.getName());
-                                params.put("inviteUrl", originHeader);
-                                Mono<String> emailMono = emailSender.sendMail(existingUser.getEmail(),
-                                        "Appsmith: You have been added to a new organization",
-                                        USER_ADDED_TO_ORGANIZATION_EMAIL_TEMPLATE, params);
-
-                                return emailMono
+                                Map<String, String> userParams = new HashMap<>(params);
+                                userParams.put("inviteUrl", originHeader);
+                                return emailSender
+                                        .sendMail(existingUser.getEmail(), "Appsmith: You have been added to a new organization",
+                                                USER_ADDED_TO_ORGANIZATION_EMAIL_TEMPLATE, userParams)
                                         .thenReturn(existingUser)
                                         .onErrorResume(error -> {
                                             log.error("Unable to send invite user email to {}. Cause: ", existingUser.getEmail(), error);
                                             return Mono.just(existingUser);
                                         });
-                            })
-                            .switchIfEmpty(createNewUserAndSendInviteEmail(username, originHeader, params));
+                            });
+
+                    return existingUsersFlux
+                            .concatWith(createNewUsersAndSendInviteEmails(newEmails, originHeader, params))
+                            .collectList();
                 })
                 .cache();
 
-        // Add User to the invited Organization
-        Mono<Organization> organizationWithUsersAddedMono = Mono.zip(inviteUsersFlux.collectList(), organizationMono)
+        // Add the users to the invited organization, and cascade their permissions to the organization's resources, for
+        // all the users together.
+        Mono<Organization> organizationWithUsersAddedMono = Mono.zip(invitedUsersMono, organizationMono)
                 .flatMap(tuple -> {
                     List<User> invitedUsers = tuple.getT1();
                     Organization organization = tuple.getT2();
@@ -653,44 +667,66 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
                     return userOrganizationService.bulkAddUsersToOrganization(organization, invitedUsers, inviteUsersDTO.getRoleName());
                 });
 
-        // Add organization id to each invited user
-        Flux<User> usersUpdatedWithOrgMono = inviteUsersFlux
-                .flatMap(user -> Mono.zip(Mono.just(user), organizationMono))
-                // zipping with organizationMono to ensure that the orgId is checked before updating the user object.
-                .flatMap(tuple -> {
-                    User invitedUser = tuple.getT1();
-                    Organization organization = tuple.getT2();
-
-                    Set<String> organizationIds = invitedUser.getOrganizationIds();
-                    if (organizationIds == null) {
-                        organizationIds = new HashSet<>();
-                    }
-
-                    organizationIds.add(organization.getId());
-                    invitedUser.setOrganizationIds(organizationIds);
+        // Add the organization id to all the invited users with a single update, and publish the updated users.
+        return organizationWithUsersAddedMono
+                .zipWith(invitedUsersMono)
+                .flatMapMany(tuple -> {
+                    Organization organization = tuple.getT1();
+                    List<User> invitedUsers = tuple.getT2();
 
-                    //Lets save the updated user object
-                    return repository.save(invitedUser);
+                    Set<String> userIds = invitedUsers.stream().map(User::getId).collect(Collectors.toSet());
+                    return repository.addOrganizationIdToUsers(userIds, organization.getId())
+                            .thenMany(repository.findByEmailIn(distinctUsernames));
                 });
-
-        // Trigger the flow to first add the users to the organization and then update each user with the organizationId
-        // added to the user's list of organizations.
-        return organizationWithUsersAddedMono
-                .thenMany(usersUpdatedWithOrgMono);
     }
 
-    private Mono<User> createNewUserAndSendInviteEmail(String email, String originHeader, Map<String, String> params) {
-        User newUser = new User();
-        newUser.setEmail(email);
-        // This is a new user. Till the user signs up, this user would be disabled.
-        newUser.setIsEnabled(false);
+    /**
+     * Creates disabled users for the given emails, with invite tokens, and sends each of them an invite email. The users
+     * are inserted together with a single bulk write.
+     */
+    private Flux<User> createNewUsersAndSendInviteEmails(List<String> emails, String originHeader, Map<String, String> params) {
+        if (emails.isEmpty()) {
+            return Flux.empty();
+        }
 
-        // Create an invite token for the user. This token is linked to the email ID and the organization to which the
-        // user was invited.
-        newUser.setInviteToken(UUID.randomUUID().toString());
+        List<User> newUsers = emails.stream()
+                .map(email -> {
+                    User newUser = new User();
+                    newUser.setEmail(email);
+                    // This is a new user. Till the user signs up, this user would be disabled.
+                    newUser.setIsEnabled(false);
+                    // Create an invite token for the user. This token is linked to the email ID and the organization to
+                    // which the user was invited.
+                    newUser.setInviteToken(UUID.randomUUID().toString());
+                    prepareNewUser(newUser);
+                    return newUser;
+                })
+                .collect(Collectors.toList());
 
-        // Call user service's userCreate function so that the personal organization, etc are also created along with assigning basic permissions.
-        return userCreate(newUser)
+        return Flux.fromIterable(newUsers)
+                .flatMap(this::validateObject)
+                .collectList()
+                .flatMapMany(repository::insert)
+                .collectList()
+                .zipWith(configService.getTemplateOrganizationId().defaultIfEmpty(""))
+                .flatMapMany(tuple -> {
+                    List<User> createdUsers = tuple.getT1();
+                    String templateOrganizationId = tuple.getT2();
+
+                    return Flux.fromIterable(createdUsers)
+                            .flatMap(createdUser -> {
+                                if (StringUtils.hasText(templateOrganizationId)) {
+                                    return Mono.just(createdUser);
+                                }
+                                // Since template organization is not configured, we create an empty personal
+                                // organization, same as for any other new user.
+                                log.debug("Creating blank personal organization for user '{}'.", createdUser.getEmail());
+                                return organizationService.createPersonal(new Organization(), createdUser)
+                                        .then(repository.findByEmail(createdUser.getEmail()));
+                            });
+                })
+                .flatMap(analyticsService::trackNewUser)
+                .flatMap(createdUser -> analyticsService.sendCreateEvent(createdUser, Map.of("isFromInvite", true)))
                 .flatMap(createdUser -> {
                     log.debug("Going to send email for invite user to {}", createdUser.getEmail());
                     String inviteUrl = String.format(
@@ -699,8 +735,9 @@ public class UserServiceImpl extends BaseService<UserRepository, User, String> i
                             URLEncoder.encode(createdUser.getEmail(), StandardCharsets.UTF_8)
                     );
 
-                    params.put("inviteUrl", inviteUrl);
-                    Mono<String> emailMono = emailSender.sendMail(createdUser.getEmail(), "Invite for Appsmith", INVITE_USER_EMAIL_TEMPLATE, params);
+                    Map<String, String> userParams = new HashMap<>(params);
+                    userParams.put("inviteUrl", inviteUrl);
+                    Mono<String> emailMono = emailSender.sendMail(createdUser.getEmail(), "Invite for Appsmith", INVITE_USER_EMAIL_TEMPLATE, userParams);
 
                     // We have sent out the emails. Just send back the saved user.
                     return emailMono
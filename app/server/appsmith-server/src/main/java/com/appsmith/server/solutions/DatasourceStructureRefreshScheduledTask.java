@@ -0,0 +1,46 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.repositories.DatasourceStructureCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * This class represents a scheduled task that keeps the saved structures of datasources up-to-date, so that they don't
+ * have to be read again when requested.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DatasourceStructureRefreshScheduledTask {
+
+    // Structures that were refreshed longer ago than this are checked for changes.
+    private static final Duration STRUCTURE_MAX_AGE = Duration.ofHours(1);
+
+    // Number of datasources whose structures are checked at the same time.
+    private static final int REFRESH_CONCURRENCY = 4;
+
+    private final DatasourceStructureCacheRepository structureCacheRepository;
+    private final DatasourceStructureSolution datasourceStructureSolution;
+
+    /**
+     * Checks the saved structures that are older than {@link #STRUCTURE_MAX_AGE}. For each, the plugin computes a
+     * fingerprint of the datasource's catalog, and the structure is read again only if this fingerprint has changed.
+     */
+    // Number of milliseconds between the start of each scheduled calls to this method.
+    @Scheduled(initialDelay = 5 * 60 * 1000 /* five minutes */, fixedRate = 10 * 60 * 1000 /* ten minutes */)
+    public void refreshStaleStructures() {
+        structureCacheRepository
+                .findAllRefreshedBefore(Instant.now().minus(STRUCTURE_MAX_AGE))
+                .flatMap(datasourceStructureSolution::refreshStructureIfChanged, REFRESH_CONCURRENCY)
+                .doOnError(error -> log.error("Error refreshing datasource structures.", error))
+                .subscribeOn(Schedulers.single())
+                .subscribe();
+    }
+
+}
@@ -8,34 +8,49 @@ import com.appsmith.external.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.DatasourceStructureCache;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.repositories.CustomDatasourceRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.DatasourceStructureCacheRepository;
 import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.EncryptionService;
-import com.appsmith.server.services.PluginService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DatasourceStructureSolution {
 
-    public static final int GET_STRUCTURE_TIMEOUT_SECONDS = 10;
+    // Maximum time to wait for the next table of the structure. Since plugins read the structure in pages, this bounds
+    // the time taken by a single page, rather than the time taken to read the whole structure.
+    public static final int GET_STRUCTURE_PAGE_TIMEOUT_SECONDS = 10;
+
+    // Tables are saved in batches of this size, or whatever has been read in the batch interval.
+    private static final int STRUCTURE_SAVE_BATCH_SIZE = 50;
+    private static final Duration STRUCTURE_SAVE_BATCH_INTERVAL = Duration.ofMillis(500);
 
     private final DatasourceService datasourceService;
     private final PluginExecutorHelper pluginExecutorHelper;
-    private final PluginService pluginService;
     private final DatasourceContextService datasourceContextService;
     private final EncryptionService encryptionService;
-    private final CustomDatasourceRepository datasourceRepository;
+    private final DatasourceRepository datasourceRepository;
+    private final DatasourceStructureCacheRepository structureCacheRepository;
+    private final ObjectMapper objectMapper;
 
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache) {
         return datasourceService.getById(datasourceId)
@@ -43,25 +58,73 @@ public class DatasourceStructureSolution {
     }
 
     public Mono<DatasourceStructure> getStructure(Datasource datasource, boolean ignoreCache) {
-        // This mono, when computed, will yield the cached structure if applicable, or resolve to an empty mono.
-                    // If the structure is `null` inside the datasource, this will resolve to empty as well.
-        final Mono<DatasourceStructure> cachedStructureMono =
-                    ignoreCache ? Mono.empty() : Mono.justOrEmpty(datasource.getStructure());
+        return getStructureTables(datasource, ignoreCache)
+                .collectList()
+                .map(tables -> {
+                    final DatasourceStructure structure = new DatasourceStructure();
+                    structure.setTables(tables);
+                    return structure;
+                });
+    }
+
+    public Flux<DatasourceStructure.Table> getStructureTables(String datasourceId, boolean ignoreCache) {
+        return datasourceService.getById(datasourceId)
+                .flatMapMany(datasource -> getStructureTables(datasource, ignoreCache));
+    }
 
+    /**
+     * Emits the tables in the structure of the given datasource. If a complete structure has been saved earlier with
+     * the datasource's current configuration, and the cache is not to be ignored, those tables are emitted. Otherwise,
+     * the structure is read from the plugin page by page, and each table is emitted as soon as it is saved, so that
+     * clients can show the partial structure.
+     */
+    public Flux<DatasourceStructure.Table> getStructureTables(Datasource datasource, boolean ignoreCache) {
+        return getConfigurationHash(datasource)
+                .flatMapMany(configurationHash -> {
+                    final Mono<DatasourceStructureCache> cachedStructureMono = ignoreCache || datasource.getId() == null
+                            ? Mono.empty()
+                            : structureCacheRepository
+                                    .findByDatasourceIdAndConfigurationHash(datasource.getId(), configurationHash)
+                                    // A structure without the refreshed timestamp is partial, and is read again.
+                                    .filter(structureCache -> structureCache.getRefreshedAt() != null
+                                            && structureCache.getStructure() != null
+                                            && structureCache.getStructure().getTables() != null);
+
+                    // Whether to load is decided on the cached structure rather than its tables, so that a complete
+                    // structure without any tables is served from the cache too.
+                    return cachedStructureMono
+                            .map(structureCache -> Flux.fromIterable(structureCache.getStructure().getTables()))
+                            .switchIfEmpty(Mono.fromSupplier(() -> loadStructureTables(datasource, configurationHash)))
+                            .flatMapMany(tablesFlux -> tablesFlux);
+                });
+    }
+
+    private Flux<DatasourceStructure.Table> loadStructureTables(Datasource datasource, String configurationHash) {
         decryptPasswordInDatasource(datasource);
 
-        // This mono, when computed, will load the structure of the datasource by calling the plugin method.
-        final Mono<DatasourceStructure> loadStructureMono = pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasource.getPluginId()))
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasource.getPluginId())))
-                .flatMap(pluginExecutor -> datasourceContextService
-                        .retryOnce(
-                                datasource,
-                                resourceContext -> ((PluginExecutor<Object>) pluginExecutor)
-                                        .getStructure(resourceContext.getConnection(), datasource.getDatasourceConfiguration())
-                        )
-                )
-                .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
+        return getPluginExecutor(datasource)
+                .flatMapMany(pluginExecutor -> {
+                    // Tables already given out may have been saved, so a stale connection is only retried before the
+                    // first table, so that no table is read twice.
+                    final AtomicBoolean hasEmitted = new AtomicBoolean(false);
+                    final Flux<DatasourceStructure.Table> tablesFlux = datasourceContextService
+                            .getDatasourceContext(datasource)
+                            .flatMapMany(resourceContext -> loadStructureTables(
+                                    datasource,
+                                    configurationHash,
+                                    pluginExecutor,
+                                    resourceContext.getConnection()
+                            ))
+                            .doOnNext(table -> hasEmitted.set(true));
+
+                    return tablesFlux
+                            .onErrorResume(error -> error instanceof StaleConnectionException && !hasEmitted.get(), error -> {
+                                log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                return datasourceContextService
+                                        .deleteDatasourceContext(datasource.getId())
+                                        .thenMany(tablesFlux);
+                            });
+                })
                 .onErrorMap(
                         StaleConnectionException.class,
                         error -> new AppsmithPluginException(
@@ -72,15 +135,125 @@ public class DatasourceStructureSolution {
                 .onErrorMap(e -> {
                     log.error("In the datasource structure error mode.", e);
                     return new AppsmithPluginException(AppsmithPluginError.PLUGIN_STRUCTURE_ERROR, e.getMessage());
+                });
+    }
+
+    /**
+     * Refreshes the given saved structure, if the plugin reports that the datasource's catalog has changed since the
+     * structure was read. If the datasource has been deleted, or its configuration has changed, the saved structure is
+     * deleted instead, as it won't be served anymore. This is meant for the background refresh, so it doesn't rely on
+     * a security context, and uses a connection of its own, which is closed when done.
+     *
+     * @param structureCache Saved structure to refresh.
+     * @return Mono that completes when the refresh is done.
+     */
+    public Mono<Void> refreshStructureIfChanged(DatasourceStructureCache structureCache) {
+        return datasourceRepository.findById(structureCache.getDatasourceId())
+                .filter(datasource -> !Boolean.TRUE.equals(datasource.getDeleted()))
+                .filterWhen(datasource -> getConfigurationHash(datasource)
+                        .map(configurationHash -> configurationHash.equals(structureCache.getConfigurationHash())))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(datasource -> {
+                    if (datasource.isPresent()) {
+                        return refreshStructureIfChanged(datasource.get(), structureCache);
+                    }
+
+                    log.debug("Deleting obsolete structure of datasource {}.", structureCache.getDatasourceId());
+                    return structureCacheRepository.deleteById(structureCache.getId());
+                })
+                .doOnError(error -> log.warn("Error refreshing structure of datasource {}.", structureCache.getDatasourceId(), error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Void> refreshStructureIfChanged(Datasource datasource, DatasourceStructureCache structureCache) {
+        final String configurationHash = structureCache.getConfigurationHash();
+        decryptPasswordInDatasource(datasource);
+
+        return getPluginExecutor(datasource)
+                .flatMap(pluginExecutor -> Mono.usingWhen(
+                        pluginExecutor.datasourceCreate(datasource.getDatasourceConfiguration()),
+                        connection -> pluginExecutor
+                                .getStructureFingerprint(connection, datasource.getDatasourceConfiguration())
+                                .flatMap(fingerprint -> {
+                                    if (fingerprint.equals(structureCache.getFingerprint())) {
+                                        return structureCacheRepository.markFresh(structureCache.getId(), fingerprint).then();
+                                    }
+
+                                    log.debug("Structure of datasource {} has changed. Reading it again.", datasource.getId());
+                                    return loadStructureTables(datasource, configurationHash, pluginExecutor, connection).then();
+                                }),
+                        connection -> Mono.fromRunnable(() -> pluginExecutor.datasourceDestroy(connection))
+                ))
+                .then();
+    }
+
+    /**
+     * Reads the structure from the plugin, one table at a time, and saves the tables in batches as they are read. The
+     * structure is marked complete, along with the catalog's fingerprint, only after the last table is saved.
+     */
+    private Flux<DatasourceStructure.Table> loadStructureTables(Datasource datasource,
+                                                               String configurationHash,
+                                                               PluginExecutor<Object> pluginExecutor,
+                                                               Object connection) {
+        final Flux<DatasourceStructure.Table> tablesFlux = pluginExecutor
+                .getStructureTables(connection, datasource.getDatasourceConfiguration())
+                .timeout(Duration.ofSeconds(GET_STRUCTURE_PAGE_TIMEOUT_SECONDS));
+
+        if (datasource.getId() == null) {
+            return tablesFlux;
+        }
+
+        final String refreshId = new ObjectId().toHexString();
+
+        // The fingerprint is computed before reading the structure, so that changes to the catalog while the structure
+        // is being read are picked up by the next refresh.
+        return pluginExecutor
+                .getStructureFingerprint(connection, datasource.getDatasourceConfiguration())
+                .onErrorResume(error -> {
+                    if (error instanceof StaleConnectionException) {
+                        return Mono.error(error);
+                    }
+                    log.warn("Error computing structure fingerprint of datasource {}.", datasource.getId(), error);
+                    return Mono.empty();
                 })
-                .flatMap(structure -> datasource.getId() == null
-                        ? Mono.empty()
-                        : datasourceRepository.saveStructure(datasource.getId(), structure).thenReturn(structure)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMapMany(fingerprint -> structureCacheRepository
+                        .startRefresh(datasource.getId(), configurationHash, refreshId)
+                        .thenMany(tablesFlux)
+                        .bufferTimeout(STRUCTURE_SAVE_BATCH_SIZE, STRUCTURE_SAVE_BATCH_INTERVAL)
+                        .concatMap(tables -> structureCacheRepository
+                                .addTables(refreshId, tables)
+                                .thenMany(Flux.fromIterable(tables))
+                        )
+                        .concatWith(Mono.defer(() -> structureCacheRepository
+                                .completeRefresh(refreshId, fingerprint.orElse(null))
+                                .then(Mono.empty())
+                        ))
                 );
+    }
 
-        return cachedStructureMono
-                .switchIfEmpty(loadStructureMono)
-                .defaultIfEmpty(new DatasourceStructure());
+    private Mono<PluginExecutor<Object>> getPluginExecutor(Datasource datasource) {
+        return pluginExecutorHelper
+                .getPluginExecutorByPluginId(datasource.getPluginId())
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasource.getPluginId())))
+                .map(pluginExecutor -> (PluginExecutor<Object>) pluginExecutor);
+    }
+
+    /**
+     * Computes a hash of the datasource's configuration, as it is saved in the database. Saved structures are keyed by
+     * this hash, so that a change in the configuration (like pointing to a different database) invalidates them.
+     */
+    private Mono<String> getConfigurationHash(Datasource datasource) {
+        return Mono.fromCallable(() -> {
+            try {
+                return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(datasource.getDatasourceConfiguration()));
+            } catch (JsonProcessingException e) {
+                throw new AppsmithException(AppsmithError.JSON_PROCESSING_ERROR, e.getMessage());
+            }
+        });
     }
 
     private Datasource decryptPasswordInDatasource(Datasource datasource) {
@@ -13,6 +13,7 @@ import com.appsmith.server.dtos.DslActionDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.ActionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.OrganizationRepository;
 import com.appsmith.server.repositories.PageRepository;
@@ -22,21 +23,30 @@ import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.DatasourceContextService;
 import com.appsmith.server.services.DatasourceService;
 import com.appsmith.server.services.OrganizationService;
+import com.appsmith.server.services.PageService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserService;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -55,6 +65,27 @@ public class ExamplesOrganizationCloner {
     private final UserService userService;
     private final ApplicationPageService applicationPageService;
     private final DatasourceContextService datasourceContextService;
+    private final PageService pageService;
+    private final ApplicationRepository applicationRepository;
+    private final MongoConverter mongoConverter;
+
+    // Snapshots of the template applications' pages and actions, by template application ID.
+    private final Map<String, Mono<ApplicationSnapshot>> applicationSnapshots = new ConcurrentHashMap<>();
+
+    // Time for which a snapshot of a template application is used, before it is read again. Changes made to the
+    // template application in this time show up only in the clones made after it.
+    private static final Duration TEMPLATE_SNAPSHOT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * The pages and actions of a template application, as documents. Each clone reads its own copies of the domain
+     * objects from these documents.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class ApplicationSnapshot {
+        private final List<Document> pages;
+        private final List<Document> actions;
+    }
 
     public Mono<Organization> cloneExamplesOrganization() {
         return sessionUserService
@@ -140,173 +171,203 @@ public class ExamplesOrganizationCloner {
                             .when(
                                     userService.update(user.getId(), userUpdate),
                                     applicationsFlux == null
-                                            ? cloneApplications(templateOrganizationId, newOrganization.getId())
-                                            : cloneApplications(templateOrganizationId, newOrganization.getId(), applicationsFlux)
+                                            ? cloneApplications(templateOrganizationId, newOrganization.getId(), user)
+                                            : cloneApplications(templateOrganizationId, newOrganization.getId(), user, applicationsFlux)
                             )
                             .thenReturn(newOrganization);
                 })
                 .doOnError(error -> log.error("Error cloning examples organization.", error));
     }
 
-    private Mono<Void> cloneApplications(String fromOrganizationId, String toOrganizationId) {
-        return cloneApplications(fromOrganizationId, toOrganizationId, configService.getTemplateApplications());
+    private Mono<Void> cloneApplications(String fromOrganizationId, String toOrganizationId, User user) {
+        return cloneApplications(fromOrganizationId, toOrganizationId, user, configService.getTemplateApplications());
     }
 
     /**
      * Clone all applications (except deleted ones), including it's pages and actions from one organization into
      * another. Also clones all datasources (not just the ones used by any applications) in the given organizations.
+     * <p>
+     * The pages and actions of each application are read from a snapshot of the template application, and are given
+     * their new IDs before being saved. This way, all references between them can be updated in memory, and each
+     * application's pages and actions are saved with a bulk insert each.
      *
      * @param fromOrganizationId ID of the organization that is the source to copy objects from.
      * @param toOrganizationId   ID of the organization that is the target to copy objects to.
+     * @param user               The user who will own the cloned objects.
      * @return Empty Mono.
      */
-    private Mono<Void> cloneApplications(String fromOrganizationId, String toOrganizationId, Flux<Application> applicationsFlux) {
+    private Mono<Void> cloneApplications(String fromOrganizationId,
+                                         String toOrganizationId,
+                                         User user,
+                                         Flux<Application> applicationsFlux) {
         final Mono<Map<String, Datasource>> cloneDatasourcesMono = cloneDatasources(fromOrganizationId, toOrganizationId).cache();
-        final List<Page> clonedPages = new ArrayList<>();
 
         return applicationsFlux
                 .flatMap(application -> {
+                    final String templateApplicationId = application.getId();
                     application.setOrganizationId(toOrganizationId);
 
-                    final String defaultPageId = application.getPages().stream()
+                    final String defaultPageId = application.getPages() == null ? "" : application.getPages().stream()
                             .filter(ApplicationPage::isDefault)
                             .map(ApplicationPage::getId)
                             .findFirst()
                             .orElse("");
 
-                    return doCloneApplication(application)
-                            .flatMap(page ->
-                                    Mono.zip(
-                                            Mono.just(page),
-                                            Mono.just(defaultPageId.equals(page.getId()))
-                                    )
-                            );
+                    return Mono.zip(
+                            applicationPageService.cloneExampleApplication(application),
+                            getApplicationSnapshot(templateApplicationId),
+                            cloneDatasourcesMono
+                    ).flatMap(tuple -> cloneApplicationContents(
+                            tuple.getT1(),
+                            tuple.getT2(),
+                            defaultPageId,
+                            tuple.getT3(),
+                            toOrganizationId,
+                            user
+                    ));
                 })
-                .flatMap(tuple -> {
-                    final Page page = tuple.getT1();
-                    final boolean isDefault = tuple.getT2();
-                    final String templatePageId = page.getId();
-
-                    makePristine(page);
-                    if (page.getLayouts() != null) {
-                        for (final Layout layout : page.getLayouts()) {
-                            layout.setId(new ObjectId().toString());
-                        }
-                    }
+                .then(cloneDatasourcesMono)  // Run the datasource cloning mono if it isn't already done.
+                .then();
+    }
 
-                    return applicationPageService
-                            .createPage(page)
-                            .flatMap(savedPage ->
-                                    isDefault
-                                            ? applicationPageService.makePageDefault(savedPage).thenReturn(savedPage)
-                                            : Mono.just(savedPage))
-                            .flatMapMany(savedPage -> {
-                                clonedPages.add(savedPage);
-                                return actionRepository
-                                        .findByPageId(templatePageId)
-                                        .map(action -> {
-                                            log.info("Preparing action for cloning {} {}.", action.getName(), action.getId());
-                                            action.setPageId(savedPage.getId());
-                                            return action;
-                                        });
-                            });
-                })
-                .flatMap(action -> {
-                    final String originalActionId = action.getId();
-                    log.info("Creating clone of action {}", originalActionId);
-                    makePristine(action);
-                    action.setOrganizationId(toOrganizationId);
-                    action.setCollectionId(null);
-                    Mono<Action> actionMono = Mono.just(action);
-                    final Datasource datasourceInsideAction = action.getDatasource();
-                    if (datasourceInsideAction != null) {
-                        if (datasourceInsideAction.getId() != null) {
-                            actionMono = cloneDatasourcesMono
-                                    .map(newDatasourcesByTemplateId -> {
-                                        action.setDatasource(newDatasourcesByTemplateId.get(datasourceInsideAction.getId()));
-                                        return action;
-                                    });
-                        } else {
-                            datasourceInsideAction.setOrganizationId(toOrganizationId);
-                        }
-                    }
-                    return actionMono
-                            .flatMap(actionService::create)
-                            .map(Action::getId)
-                            .zipWith(Mono.just(originalActionId));
-                })
-                // This call to `collectMap` will wait for all actions in all pages to have been processed, and so the
-                // `clonedPages` list will also contain all pages cloned.
-                .collectMap(Tuple2::getT2, Tuple2::getT1)
-                .flatMapMany(actionIdsMap -> {
-                    final List<Mono<Page>> pageSaveMonos = new ArrayList<>();
-
-                    for (final Page page : clonedPages) {
-                        if (page.getLayouts() == null) {
-                            continue;
-                        }
+    /**
+     * Publishes the snapshot of the pages and actions in the given template application. The snapshot is read from the
+     * database once, and then shared by all the clones made in the next {@link #TEMPLATE_SNAPSHOT_TTL}.
+     *
+     * @param templateApplicationId ID of the template application.
+     * @return Mono of the snapshot of the template application.
+     */
+    private Mono<ApplicationSnapshot> getApplicationSnapshot(String templateApplicationId) {
+        return applicationSnapshots.computeIfAbsent(
+                templateApplicationId,
+                id -> pageRepository
+                        .findByApplicationId(id)
+                        .collectList()
+                        .flatMap(pages -> actionRepository
+                                .findByPageIdIn(pages.stream().map(Page::getId).collect(Collectors.toList()))
+                                .collectList()
+                                .map(actions -> new ApplicationSnapshot(toDocuments(pages), toDocuments(actions)))
+                        )
+                        // Errors are not cached, so the next clone will read the template application again.
+                        .cache(snapshot -> TEMPLATE_SNAPSHOT_TTL, error -> Duration.ZERO, () -> Duration.ZERO)
+        );
+    }
 
-                        boolean shouldSave = false;
-
-                        for (final Layout layout : page.getLayouts()) {
-                            if (layout.getLayoutOnLoadActions() != null) {
-                                for (final Set<DslActionDTO> actionSet : layout.getLayoutOnLoadActions()) {
-                                    for (final DslActionDTO actionDTO : actionSet) {
-                                        if (actionIdsMap.containsKey(actionDTO.getId())) {
-                                            actionDTO.setId(actionIdsMap.get(actionDTO.getId()));
-                                            shouldSave = true;
-                                        } else {
-                                            log.error(
-                                                    "Couldn't find cloned action ID for layoutOnLoadAction {} in page {}",
-                                                    actionDTO.getId(),
-                                                    page.getId()
-                                            );
-                                        }
-                                    }
-                                }
-                            }
-                            if (layout.getPublishedLayoutOnLoadActions() != null) {
-                                for (final Set<DslActionDTO> actionSet : layout.getPublishedLayoutOnLoadActions()) {
-                                    for (final DslActionDTO actionDTO : actionSet) {
-                                        if (actionIdsMap.containsKey(actionDTO.getId())) {
-                                            actionDTO.setId(actionIdsMap.get(actionDTO.getId()));
-                                            shouldSave = true;
-                                        } else {
-                                            log.error(
-                                                    "Couldn't find cloned action ID for publishedLayoutOnLoadAction {} in page {}",
-                                                    actionDTO.getId(),
-                                                    page.getId()
-                                            );
-                                        }
-                                    }
-                                }
-                            }
-                        }
+    private List<Document> toDocuments(List<? extends BaseDomain> domains) {
+        final List<Document> documents = new ArrayList<>(domains.size());
+        for (final BaseDomain domain : domains) {
+            final Document document = new Document();
+            mongoConverter.write(domain, document);
+            documents.add(document);
+        }
+        return documents;
+    }
 
-                        if (shouldSave) {
-                            pageSaveMonos.add(pageRepository.save(page));
-                        }
-                    }
+    /**
+     * Saves copies of the pages and actions in the given snapshot, into the given cloned application. The copies are
+     * given new IDs, policies derived from the cloned application, and references to the cloned datasources.
+     */
+    private Mono<Void> cloneApplicationContents(Application application,
+                                                ApplicationSnapshot snapshot,
+                                                String defaultPageId,
+                                                Map<String, Datasource> newDatasourcesByTemplateId,
+                                                String toOrganizationId,
+                                                User user) {
+        final Instant now = Instant.now();
+        final Map<String, Page> newPagesByTemplateId = new HashMap<>();
+        final List<ApplicationPage> applicationPages = new ArrayList<>();
 
-                    return Flux.concat(pageSaveMonos);
-                })
-                .then(cloneDatasourcesMono)  // Run the datasource cloning mono if it isn't already done.
-                .then();
+        for (final Document pageDocument : snapshot.getPages()) {
+            // Reading the document gives a fresh copy, so the snapshot itself is never modified.
+            final Page page = mongoConverter.read(Page.class, pageDocument);
+            final String templatePageId = page.getId();
+            log.debug("Preparing page for cloning {} {}.", page.getName(), templatePageId);
+
+            makePristine(page, now);
+            page.setApplicationId(application.getId());
+            if (CollectionUtils.isEmpty(page.getLayouts())) {
+                page.setLayouts(new ArrayList<>(List.of(pageService.createDefaultLayout())));
+            }
+            for (final Layout layout : page.getLayouts()) {
+                layout.setId(new ObjectId().toString());
+            }
+            applicationPageService.generateAndSetPagePolicies(application, user, page);
+
+            newPagesByTemplateId.put(templatePageId, page);
+            applicationPages.add(new ApplicationPage(page.getId(), defaultPageId.equals(templatePageId)));
+        }
+
+        final Map<String, String> actionIdsMap = new HashMap<>();
+        final List<Action> actions = new ArrayList<>();
+
+        for (final Document actionDocument : snapshot.getActions()) {
+            final Action action = mongoConverter.read(Action.class, actionDocument);
+            final String originalActionId = action.getId();
+            final Page page = newPagesByTemplateId.get(action.getPageId());
+            log.debug("Preparing action for cloning {} {}.", action.getName(), originalActionId);
+
+            makePristine(action, now);
+            action.setPageId(page.getId());
+            action.setOrganizationId(toOrganizationId);
+            action.setCollectionId(null);
+            final Datasource datasourceInsideAction = action.getDatasource();
+            if (datasourceInsideAction != null) {
+                if (datasourceInsideAction.getId() != null) {
+                    action.setDatasource(newDatasourcesByTemplateId.get(datasourceInsideAction.getId()));
+                } else {
+                    datasourceInsideAction.setOrganizationId(toOrganizationId);
+                }
+            }
+            actionService.generateAndSetActionPolicies(page, user, action);
+
+            actionIdsMap.put(originalActionId, action.getId());
+            actions.add(action);
+        }
+
+        for (final Page page : newPagesByTemplateId.values()) {
+            updateOnLoadActionIds(page, actionIdsMap);
+        }
+
+        return Mono.when(
+                newPagesByTemplateId.isEmpty() ? Mono.empty() : pageRepository.insert(newPagesByTemplateId.values()),
+                actions.isEmpty() ? Mono.empty() : actionRepository.insert(actions),
+                applicationRepository.setPages(application.getId(), applicationPages)
+        );
     }
 
-    private Flux<Page> doCloneApplication(Application application) {
-        final String templateApplicationId = application.getId();
-        return applicationPageService
-                .cloneExampleApplication(application)
-                .flatMapMany(
-                        savedApplication -> pageRepository
-                                .findByApplicationId(templateApplicationId)
-                                .map(page -> {
-                                    log.info("Preparing page for cloning {} {}.", page.getName(), page.getId());
-                                    page.setApplicationId(savedApplication.getId());
-                                    return page;
-                                })
-                );
+    private void updateOnLoadActionIds(Page page, Map<String, String> actionIdsMap) {
+        for (final Layout layout : page.getLayouts()) {
+            if (layout.getLayoutOnLoadActions() != null) {
+                for (final Set<DslActionDTO> actionSet : layout.getLayoutOnLoadActions()) {
+                    for (final DslActionDTO actionDTO : actionSet) {
+                        if (actionIdsMap.containsKey(actionDTO.getId())) {
+                            actionDTO.setId(actionIdsMap.get(actionDTO.getId()));
+                        } else {
+                            log.error(
+                                    "Couldn't find cloned action ID for layoutOnLoadAction {} in page {}",
+                                    actionDTO.getId(),
+                                    page.getId()
+                            );
+                        }
+                    }
+                }
+            }
+            if (layout.getPublishedLayoutOnLoadActions() != null) {
+                for (final Set<DslActionDTO> actionSet : layout.getPublishedLayoutOnLoadActions()) {
+                    for (final DslActionDTO actionDTO : actionSet) {
+                        if (actionIdsMap.containsKey(actionDTO.getId())) {
+                            actionDTO.setId(actionIdsMap.get(actionDTO.getId()));
+                        } else {
+                            log.error(
+                                    "Couldn't find cloned action ID for publishedLayoutOnLoadAction {} in page {}",
+                                    actionDTO.getId(),
+                                    page.getId()
+                            );
+                        }
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -349,4 +410,12 @@ public class ExamplesOrganizationCloner {
         }
     }
 
+    private void makePristine(BaseDomain domain, Instant createdAt) {
+        // Give this domain object a new ID up front, so that references to it can be set before it is saved. Since
+        // auditing doesn't consider objects with an ID as new, the creation time is also set here.
+        makePristine(domain);
+        domain.setId(new ObjectId().toString());
+        domain.setCreatedAt(createdAt);
+    }
+
 }
@@ -0,0 +1,42 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.repositories.ActionRepository;
+import com.appsmith.server.services.ActionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * This class represents a scheduled task that keeps the results of materialized actions up-to-date, so that dashboards
+ * reading them don't have to wait for the actions to be executed.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MaterializedActionRefreshScheduledTask {
+
+    // Number of materialized actions that are executed at the same time.
+    private static final int REFRESH_CONCURRENCY = 4;
+
+    private final ActionRepository actionRepository;
+    private final ActionService actionService;
+
+    /**
+     * Refreshes the results of all the materialized actions. An action is only executed if its result wasn't already
+     * refreshed in its interval, by this or another server instance, so actions are refreshed about once in each of
+     * their intervals, rounded up to the rate of this task.
+     */
+    // Number of milliseconds between the start of each scheduled calls to this method.
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 30 * 1000 /* thirty seconds */)
+    public void refreshMaterializedResults() {
+        actionRepository
+                .findMaterializedActions()
+                .flatMap(actionService::refreshMaterializedResult, REFRESH_CONCURRENCY)
+                .doOnError(error -> log.error("Error refreshing materialized action results.", error))
+                .subscribeOn(Schedulers.single())
+                .subscribe();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionExecutionTiming;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionMetricsTest {
+
+    @Test
+    public void recordsLatencyAndErrorsPerPluginAndDatasource() {
+        final ActionExecutionMetrics metrics = new ActionExecutionMetrics();
+
+        final ActionExecutionResult success = new ActionExecutionResult();
+        success.setIsExecutionSuccess(true);
+        final ActionExecutionResult failure = new ActionExecutionResult();
+        failure.setIsExecutionSuccess(false);
+
+        StepVerifier.create(metrics.recordExecution("PostgresPluginExecutor", "datasource-1", Mono.just(success)))
+                .expectNext(success)
+                .verifyComplete();
+        StepVerifier.create(metrics.recordExecution("PostgresPluginExecutor", null, Mono.just(failure)))
+                .expectNext(failure)
+                .verifyComplete();
+
+        final String scraped = metrics.scrape();
+
+        assertThat(scraped).contains("# TYPE appsmith_plugin_execution_seconds histogram\n");
+        assertThat(scraped).contains("appsmith_plugin_execution_seconds_count{plugin=\"PostgresPluginExecutor\"} 2\n");
+        assertThat(scraped).contains("appsmith_plugin_execution_seconds_bucket{plugin=\"PostgresPluginExecutor\",le=\"+Inf\"} 2\n");
+        assertThat(scraped).contains("appsmith_datasource_execution_seconds_count{datasource=\"datasource-1\"} 1\n");
+        assertThat(scraped).contains("appsmith_datasource_execution_seconds_count{datasource=\"embedded\"} 1\n");
+        assertThat(scraped).contains("appsmith_plugin_executions_in_flight{plugin=\"PostgresPluginExecutor\"} 0\n");
+        assertThat(scraped).contains("appsmith_plugin_execution_errors_total{plugin=\"PostgresPluginExecutor\"} 1\n");
+        assertThat(scraped).contains("appsmith_datasource_execution_errors_total{datasource=\"embedded\"} 1\n");
+        assertThat(scraped).doesNotContain("appsmith_datasource_execution_errors_total{datasource=\"datasource-1\"}");
+    }
+
+    @Test
+    public void timerAddsLapsToStages() throws InterruptedException {
+        final ActionExecutionMetrics metrics = new ActionExecutionMetrics();
+
+        final ActionExecutionMetrics.ExecutionTimer timer = metrics.startTimer();
+        Thread.sleep(20);
+        timer.lap(ActionExecutionMetrics.Stage.CONTEXT);
+        timer.lap(ActionExecutionMetrics.Stage.SUBSTITUTION);
+        Thread.sleep(20);
+        timer.lap(ActionExecutionMetrics.Stage.EXECUTION);
+        final ActionExecutionTiming timing = timer.stop();
+
+        assertThat(timing.getContextMillis()).isGreaterThanOrEqualTo(20);
+        assertThat(timing.getExecutionMillis()).isGreaterThanOrEqualTo(20);
+        assertThat(timing.getConnectionMillis()).isZero();
+        assertThat(timing.getTotalMillis()).isGreaterThanOrEqualTo(40);
+
+        final String scraped = metrics.scrape();
+        assertThat(scraped).contains("appsmith_action_stage_seconds_count{stage=\"context\"} 1\n");
+        assertThat(scraped).contains("appsmith_action_stage_seconds_count{stage=\"execution\"} 1\n");
+        // Stages that weren't lapped aren't recorded.
+        assertThat(scraped).contains("appsmith_action_stage_seconds_count{stage=\"connection\"} 0\n");
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ResultFormat;
+import com.appsmith.server.dtos.ActionResultPageDTO;
+import com.appsmith.server.dtos.ActionResultQueryDTO;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ActionResultStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ActionResultStore store = new ActionResultStore(1024 * 1024);
+
+    private static final String USERS = "[" +
+            "{\"id\": 1, \"name\": \"Alice\", \"country\": \"India\", \"balance\": 120.5}," +
+            "{\"id\": 2, \"name\": \"Bob\", \"country\": \"Germany\", \"balance\": null}," +
+            "{\"id\": 3, \"name\": \"Carol\", \"country\": \"India\", \"balance\": 80}," +
+            "{\"id\": 4, \"name\": \"Dave\", \"country\": \"Brazil\", \"balance\": 300}," +
+            "{\"id\": 5, \"name\": \"Eve\", \"country\": \"india\"}" +
+            "]";
+
+    private ResultFormatHelper.Table storeUsers() throws IOException {
+        assertThat(store.put("user-1", "action-1", objectMapper.readTree(USERS))).isTrue();
+        return store.get("user-1", "action-1");
+    }
+
+    private static ActionResultQueryDTO.Filter filter(String column, ActionResultQueryDTO.Operator operator, JsonNode value) {
+        final ActionResultQueryDTO.Filter filter = new ActionResultQueryDTO.Filter();
+        filter.setColumn(column);
+        filter.setOperator(operator);
+        filter.setValue(value);
+        return filter;
+    }
+
+    @Test
+    public void storesResultsPerUserAndAction() throws IOException {
+        storeUsers();
+
+        assertThat(store.get("user-1", "action-1").getRows()).hasSize(5);
+        assertThat(store.get("user-2", "action-1")).isNull();
+        assertThat(store.get("user-1", "action-2")).isNull();
+
+        // A result that isn't a table of rows replaces the stored result, but isn't stored itself.
+        assertThat(store.put("user-1", "action-1", objectMapper.readTree("{\"message\": \"Hi\"}"))).isFalse();
+        assertThat(store.get("user-1", "action-1")).isNull();
+    }
+
+    @Test
+    public void evictsResultsOverMaximumSize() throws IOException {
+        final ActionResultStore smallStore = new ActionResultStore(2048);
+        smallStore.put("user-1", "action-1", objectMapper.readTree(USERS));
+        smallStore.put("user-1", "action-2", objectMapper.readTree(USERS));
+        smallStore.put("user-1", "action-3", objectMapper.readTree(USERS));
+
+        assertThat(ActionResultStore.estimateSize(smallStore.get("user-1", "action-3"))).isBetween(800L, 2048L);
+        assertThat(smallStore.get("user-1", "action-1")).isNull();
+        assertThat(smallStore.get("user-1", "action-3")).isNotNull();
+    }
+
+    @Test
+    public void querySearchesFiltersSortsAndPages() throws IOException, AppsmithException {
+        final ResultFormatHelper.Table table = storeUsers();
+
+        final ActionResultQueryDTO query = new ActionResultQueryDTO();
+        query.setActionId("action-1");
+        query.setSearchText("INDIA");
+        query.setFilters(List.of(filter("id", ActionResultQueryDTO.Operator.GTE, TextNode.valueOf("2"))));
+        query.setSortColumn("name");
+        query.setSortDescending(true);
+        query.setColumns(List.of("name", "balance"));
+        query.setOffset(1);
+        query.setLimit(5);
+
+        final ActionResultPageDTO page = ActionResultStore.query(table, query);
+
+        // Carol and Eve match, and Eve is skipped by the offset. Eve doesn't have a balance, so it's left out.
+        assertThat(page.getTotalRows()).isEqualTo(2);
+        assertThat(page.getResultFormat()).isEqualTo(ResultFormat.ROWS);
+        assertThat(page.getBody()).isEqualTo(objectMapper.readTree("[{\"name\": \"Carol\", \"balance\": 80}]"));
+
+        // The stored result is not changed by the query.
+        assertThat(table.getRows()).hasSize(5);
+        assertThat(table.getRows().get(0)[0].intValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void querySortsNullsLastAndComparesNumbers() throws IOException, AppsmithException {
+        final ResultFormatHelper.Table table = storeUsers();
+
+        final ActionResultQueryDTO query = new ActionResultQueryDTO();
+        query.setActionId("action-1");
+        query.setSortColumn("balance");
+        query.setColumns(List.of("id"));
+        query.setResultFormat(ResultFormat.COMPACT);
+
+        assertThat(ActionResultStore.query(table, query).getBody()).isEqualTo(objectMapper.readTree(
+                "{\"columns\": [{\"name\": \"id\"}], \"rows\": [[3], [1], [4], [2], [5]]}"
+        ));
+
+        query.setSortDescending(true);
+        assertThat(ActionResultStore.query(table, query).getBody().get("rows")).isEqualTo(objectMapper.readTree(
+                "[[4], [1], [3], [2], [5]]"
+        ));
+    }
+
+    @Test
+    public void queryFiltersWithOperators() throws IOException, AppsmithException {
+        final ResultFormatHelper.Table table = storeUsers();
+
+        final ActionResultQueryDTO query = new ActionResultQueryDTO();
+        query.setActionId("action-1");
+        query.setColumns(List.of("id"));
+
+        query.setFilters(List.of(filter("balance", ActionResultQueryDTO.Operator.EQ, null)));
+        assertThat(ActionResultStore.query(table, query).getBody()).isEqualTo(objectMapper.readTree("[{\"id\": 2}, {\"id\": 5}]"));
+
+        query.setFilters(List.of(filter("balance", ActionResultQueryDTO.Operator.LT, IntNode.valueOf(200))));
+        assertThat(ActionResultStore.query(table, query).getBody()).isEqualTo(objectMapper.readTree("[{\"id\": 1}, {\"id\": 3}]"));
+
+        query.setFilters(List.of(filter("country", ActionResultQueryDTO.Operator.NOT_EQ, TextNode.valueOf("India"))));
+        assertThat(ActionResultStore.query(table, query).getBody()).isEqualTo(objectMapper.readTree("[{\"id\": 2}, {\"id\": 4}, {\"id\": 5}]"));
+
+        query.setFilters(List.of(filter("name", ActionResultQueryDTO.Operator.CONTAINS, TextNode.valueOf("a"))));
+        assertThat(ActionResultStore.query(table, query).getBody()).isEqualTo(objectMapper.readTree("[{\"id\": 1}, {\"id\": 3}, {\"id\": 4}]"));
+    }
+
+    @Test
+    public void queryRejectsUnknownColumns() throws IOException {
+        final ResultFormatHelper.Table table = storeUsers();
+
+        final ActionResultQueryDTO query = new ActionResultQueryDTO();
+        query.setActionId("action-1");
+        query.setSortColumn("email");
+
+        assertThatThrownBy(() -> ActionResultStore.query(table, query))
+                .isInstanceOf(AppsmithException.class)
+                .hasMessageContaining("email");
+    }
+
+    @Test
+    public void sortOrderIsConsistentOnMixedTypes() {
+        final JsonNode number = IntNode.valueOf(2);
+        final JsonNode numericText = TextNode.valueOf("10");
+        final JsonNode text = TextNode.valueOf("1a");
+
+        assertThat(ActionResultStore.compareForSort(number, numericText)).isNegative();
+        assertThat(ActionResultStore.compareForSort(numericText, text)).isNegative();
+        assertThat(ActionResultStore.compareForSort(number, text)).isNegative();
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasourceExecutionGuardTest {
+
+    private static final Predicate<Throwable> IS_TIMEOUT = error -> error instanceof TimeoutException;
+
+    private static void fail(DatasourceExecutionGuard guard, String datasourceId) {
+        StepVerifier.create(guard.guard(datasourceId, Mono.error(new TimeoutException()), IS_TIMEOUT))
+                .expectError(TimeoutException.class)
+                .verify();
+    }
+
+    private static void succeed(DatasourceExecutionGuard guard, String datasourceId) {
+        StepVerifier.create(guard.guard(datasourceId, Mono.just("result"), IS_TIMEOUT))
+                .expectNext("result")
+                .verifyComplete();
+    }
+
+    private static void expectRejection(DatasourceExecutionGuard guard, String datasourceId) {
+        StepVerifier.create(guard.guard(datasourceId, Mono.just("result"), IS_TIMEOUT))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.DATASOURCE_UNAVAILABLE
+                        && error.getMessage().contains(datasourceId))
+                .verify();
+    }
+
+    @Test
+    public void circuitOpensOnFailuresAndStaysOpen() {
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(0.5, 60_000, 100);
+
+        for (int i = 0; i < 9; ++i) {
+            fail(guard, "datasource-1");
+        }
+        // Not opened before enough executions are seen.
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.CLOSED);
+
+        fail(guard, "datasource-1");
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.OPEN);
+        expectRejection(guard, "datasource-1");
+
+        // Other datasources are not affected.
+        succeed(guard, "datasource-2");
+
+        assertThat(guard.scrape())
+                .contains("appsmith_datasource_circuit_state{datasource=\"datasource-1\"} 1\n")
+                .contains("appsmith_datasource_circuit_state{datasource=\"datasource-2\"} 0\n")
+                .contains("appsmith_datasource_circuit_rejections_total{datasource=\"datasource-1\"} 1\n");
+    }
+
+    @Test
+    public void errorsFromWorkingDatasourceDontOpenCircuit() {
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(0.5, 60_000, 100);
+
+        for (int i = 0; i < 20; ++i) {
+            StepVerifier.create(guard.guard("datasource-1", Mono.error(new IllegalArgumentException("syntax error")), IS_TIMEOUT))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.CLOSED);
+        succeed(guard, "datasource-1");
+    }
+
+    @Test
+    public void halfOpenCircuitLetsOneTrialThrough() {
+        // With no open duration, the circuit goes half open on the next execution.
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(0.5, 0, 100);
+        for (int i = 0; i < 10; ++i) {
+            fail(guard, "datasource-1");
+        }
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.OPEN);
+
+        final MonoProcessor<String> trial = MonoProcessor.create();
+        StepVerifier.create(guard.guard("datasource-1", trial, IS_TIMEOUT))
+                .then(() -> {
+                    assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.HALF_OPEN);
+                    expectRejection(guard, "datasource-1");
+                    trial.onNext("recovered");
+                })
+                .expectNext("recovered")
+                .verifyComplete();
+
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.CLOSED);
+        succeed(guard, "datasource-1");
+    }
+
+    @Test
+    public void concurrencyLimitRejectsRightAwayAndAdapts() {
+        // The circuit only opens when all executions fail, so that it stays closed here.
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(1, 60_000, 100);
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(20);
+
+        // Failures halve the limit, but not below one.
+        fail(guard, "datasource-1");
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(10);
+        for (int i = 0; i < 8; ++i) {
+            fail(guard, "datasource-1");
+        }
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(1);
+
+        // With a limit of one, a second execution running at the same time is rejected.
+        final MonoProcessor<String> running = MonoProcessor.create();
+        StepVerifier.create(guard.guard("datasource-1", running, IS_TIMEOUT))
+                .then(() -> {
+                    expectRejection(guard, "datasource-1");
+                    running.onNext("done");
+                })
+                .expectNext("done")
+                .verifyComplete();
+
+        // Successes at the limit grow it back.
+        for (int i = 0; i < 5; ++i) {
+            succeed(guard, "datasource-1");
+        }
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isGreaterThan(1);
+        assertThat(guard.scrape()).contains("appsmith_datasource_limit_rejections_total{datasource=\"datasource-1\"} 1\n");
+    }
+
+    @Test
+    public void burstOfFailuresHalvesLimitOnce() {
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(1, 60_000, 100);
+
+        final List<MonoProcessor<String>> running = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            final MonoProcessor<String> execution = MonoProcessor.create();
+            guard.guard("datasource-1", execution, IS_TIMEOUT).subscribe(result -> {}, error -> {});
+            running.add(execution);
+        }
+        assertThat(guard.scrape()).contains("appsmith_datasource_executions_in_flight{datasource=\"datasource-1\"} 20\n");
+
+        // Half of them time out at about the same time, which is one sign that the datasource is overloaded, not ten.
+        // The other half succeed in between, so that the circuit stays closed.
+        for (int i = 0; i < running.size(); ++i) {
+            if (i % 2 == 0) {
+                running.get(i).onError(new TimeoutException());
+            } else {
+                running.get(i).onNext("result");
+            }
+        }
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(10);
+        assertThat(guard.getCircuitState("datasource-1")).isEqualTo(DatasourceExecutionGuard.CircuitState.CLOSED);
+
+        // A failure of an execution started after the decrease halves it again.
+        fail(guard, "datasource-1");
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(5);
+    }
+
+    @Test
+    public void cancelledExecutionsReleaseTheirPermit() {
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(0.5, 60_000, 100);
+
+        StepVerifier.create(guard.guard("datasource-1", Mono.never(), IS_TIMEOUT))
+                .thenCancel()
+                .verify();
+
+        assertThat(guard.scrape()).contains("appsmith_datasource_executions_in_flight{datasource=\"datasource-1\"} 0\n");
+        assertThat(guard.getConcurrencyLimit("datasource-1")).isEqualTo(20);
+    }
+
+    @Test
+    public void embeddedDatasourcesAreNotGuarded() {
+        final DatasourceExecutionGuard guard = new DatasourceExecutionGuard(0.5, 60_000, 1);
+
+        for (int i = 0; i < 20; ++i) {
+            StepVerifier.create(guard.guard(null, Mono.error(new TimeoutException()), IS_TIMEOUT))
+                    .expectError(TimeoutException.class)
+                    .verify();
+        }
+        succeed(guard, null);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.appsmith.server.helpers;
+
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DslAnalyzerTest {
+
+    private static JSONObject parse(String json) throws ParseException {
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json);
+    }
+
+    @Test
+    public void analyzeNestedWidgets() throws ParseException {
+        final JSONObject dsl = parse("{" +
+                "\"widgetName\": \"MainContainer\"," +
+                "\"children\": [" +
+                "  {\"widgetName\": \"Table1\", \"tableData\": \"{{ fetchUsers.data }}\"}," +
+                "  {\"widgetName\": \"Container1\", \"children\": [" +
+                "    {\"widgetName\": \"Text1\", \"text\": \"Hello {{Input1.text}} and {{JSON.stringify(getUser(Table1.selectedRow))}}\"}" +
+                "  ]}," +
+                "  {\"notAWidget\": {\"widgetName\": \"Hidden1\", \"value\": \"{{ 1 + appsmith.store.x }}\"}}," +
+                "  {}" +
+                "]," +
+                "\"dynamicBindings\": [\"{{ plain }}\"]" +
+                "}");
+
+        final DslAnalyzer.Analysis analysis = DslAnalyzer.analyze(dsl);
+
+        assertThat(analysis.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "Table1", "Container1", "Text1");
+        assertThat(analysis.getMustacheKeys()).containsExactlyInAnyOrder(
+                "fetchUsers.data",
+                "Input1.text",
+                "JSON.stringify(getUser(Table1.selectedRow))",
+                "1 + appsmith.store.x",
+                "plain"
+        );
+        assertThat(analysis.getBindingNames()).containsExactlyInAnyOrder(
+                "fetchUsers", "Input1", "JSON", "getUser", "Table1", "appsmith", "plain"
+        );
+    }
+
+    @Test
+    public void analyzeWithoutRootWidgetName() throws ParseException {
+        final DslAnalyzer.Analysis analysis = DslAnalyzer.analyze(parse(
+                "{\"children\": [{\"widgetName\": \"Text1\", \"text\": \"{{Api1.data}}\"}]}"));
+
+        assertThat(analysis.getWidgetNames()).isEmpty();
+        assertThat(analysis.getBindingNames()).containsExactly("Api1");
+    }
+
+    @Test
+    public void extractBindingNamesSkipsLeadingDigitsAndDots() {
+        final Set<String> names = new HashSet<>();
+        DslAnalyzer.extractBindingNames(" 1abc + .x_1.y + _under..score['key'] ", names);
+        assertThat(names).containsExactlyInAnyOrder("abc", "x_1", "_under", "key");
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaterializedResultCacheTest {
+
+    private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    private static final String VERSION = MaterializedResultCache.getActionVersion(Instant.parse("2020-06-01T10:00:00Z"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    private MaterializedResultCache cache;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final ReactiveRedisTemplate<String, String> redisTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.set(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(Duration.class)))
+                .thenReturn(Mono.just(true));
+
+        cache = new MaterializedResultCache(redisTemplate, objectMapper);
+    }
+
+    private ActionExecutionResult result(String body, boolean isExecutionSuccess) throws IOException {
+        final ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(objectMapper.readTree(body));
+        result.setIsExecutionSuccess(isExecutionSuccess);
+        result.setStatusCode("200");
+        return result;
+    }
+
+    @Test
+    public void freshResultIsGivenWithoutReadingRedis() throws IOException {
+        StepVerifier.create(cache.put("action-1", VERSION, INTERVAL, result("[{\"id\": 1}]", true)))
+                .assertNext(materializedResult -> assertThat(materializedResult.getMaterializedAt()).isNotNull())
+                .verifyComplete();
+
+        StepVerifier.create(cache.get("action-1", VERSION, INTERVAL))
+                .assertNext(materializedResult -> {
+                    final ActionExecutionResult result = MaterializedResultCache.toActionExecutionResult(materializedResult, INTERVAL);
+                    assertThat(result.getBody().toString()).isEqualTo("[{\"id\":1}]");
+                    assertThat(result.getIsStale()).isFalse();
+                    assertThat(result.getIsExecutionSuccess()).isTrue();
+                })
+                .verifyComplete();
+
+        Mockito.verify(valueOperations, Mockito.never()).get(ArgumentMatchers.anyString());
+        Mockito.verify(valueOperations).set(ArgumentMatchers.eq("materialized-result:action-1"), ArgumentMatchers.anyString(), ArgumentMatchers.eq(INTERVAL.multipliedBy(10)));
+    }
+
+    @Test
+    public void failedResultsAreNotKept() throws IOException {
+        StepVerifier.create(cache.put("action-1", VERSION, INTERVAL, result("\"Error\"", false)))
+                .verifyComplete();
+
+        Mockito.when(valueOperations.get("materialized-result:action-1")).thenReturn(Mono.empty());
+        StepVerifier.create(cache.get("action-1", VERSION, INTERVAL))
+                .verifyComplete();
+    }
+
+    @Test
+    public void resultOfAnotherInstanceIsReadFromRedis() throws IOException {
+        final MaterializedResultCache.MaterializedResult otherResult = new MaterializedResultCache.MaterializedResult();
+        otherResult.setStatusCode("200");
+        otherResult.setBody(objectMapper.readTree("[{\"id\": 2}]"));
+        otherResult.setMaterializedAt(Instant.now().minus(INTERVAL.multipliedBy(2)).toString());
+        otherResult.setActionVersion(VERSION);
+        Mockito.when(valueOperations.get("materialized-result:action-2"))
+                .thenReturn(Mono.just(objectMapper.writeValueAsString(otherResult)));
+
+        StepVerifier.create(cache.get("action-2", VERSION, INTERVAL).map(result -> MaterializedResultCache.toActionExecutionResult(result, INTERVAL)))
+                .assertNext(result -> {
+                    assertThat(result.getBody().toString()).isEqualTo("[{\"id\":2}]");
+                    assertThat(result.getIsStale()).isTrue();
+                    assertThat(result.getMaterializedAt()).isEqualTo(otherResult.getMaterializedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void redisErrorsFallBackToLocalResult() throws IOException {
+        cache.put("action-3", VERSION, Duration.ofMillis(1), result("[{\"id\": 3}]", true)).block();
+        Mockito.when(valueOperations.get("materialized-result:action-3"))
+                .thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+        Mockito.when(valueOperations.setIfAbsent(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.any(Duration.class)))
+                .thenReturn(Mono.error(new IllegalStateException("Redis is down")));
+
+        // The local result is stale, so Redis is read, but its error doesn't keep the local result from being given.
+        StepVerifier.create(cache.get("action-3", VERSION, Duration.ofMillis(-1)))
+                .assertNext(result -> assertThat(result.getBody().toString()).isEqualTo("[{\"id\":3}]"))
+                .verifyComplete();
+
+        StepVerifier.create(cache.claimRefresh("action-3", INTERVAL))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    public void resultsOfOtherVersionsOfActionAreNotGiven() throws IOException {
+        cache.put("action-4", VERSION, INTERVAL, result("[{\"id\": 4}]", true)).block();
+        Mockito.when(valueOperations.get("materialized-result:action-4"))
+                .thenReturn(Mono.just(objectMapper.writeValueAsString(cache.get("action-4", VERSION, INTERVAL).block())));
+
+        final String updatedVersion = MaterializedResultCache.getActionVersion(Instant.parse("2020-06-01T10:05:00Z"));
+        StepVerifier.create(cache.get("action-4", updatedVersion, INTERVAL))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void evictedResultIsNotGiven() throws IOException {
+        final ReactiveRedisTemplate<String, String> redisTemplate = Mockito.mock(ReactiveRedisTemplate.class);
+        Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        final List<String> deletedKeys = new ArrayList<>();
+        Mockito.when(redisTemplate.delete(ArgumentMatchers.<Publisher<String>>any()))
+                .thenAnswer(invocation -> Flux.from(invocation.<Publisher<String>>getArgument(0))
+                        .doOnNext(deletedKeys::add)
+                        .count());
+        cache = new MaterializedResultCache(redisTemplate, objectMapper);
+
+        cache.put("action-5", VERSION, INTERVAL, result("[{\"id\": 5}]", true)).block();
+        StepVerifier.create(cache.evict("action-5"))
+                .verifyComplete();
+
+        assertThat(deletedKeys).containsExactly("materialized-result:action-5", "materialized-result-refresh:action-5");
+        Mockito.when(valueOperations.get("materialized-result:action-5")).thenReturn(Mono.empty());
+        StepVerifier.create(cache.get("action-5", VERSION, INTERVAL))
+                .verifyComplete();
+    }
+
+}
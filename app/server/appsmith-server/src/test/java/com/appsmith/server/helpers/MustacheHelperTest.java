@@ -4,7 +4,9 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SqlSyntax;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.IterableAssert;
 import org.junit.Test;
@@ -13,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,7 @@ import java.util.Set;
 import static com.appsmith.server.helpers.MustacheHelper.extractMustacheKeys;
 import static com.appsmith.server.helpers.MustacheHelper.extractMustacheKeysFromFields;
 import static com.appsmith.server.helpers.MustacheHelper.renderFieldValues;
+import static com.appsmith.server.helpers.MustacheHelper.renderPlaceholders;
 import static com.appsmith.server.helpers.MustacheHelper.tokenize;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -516,4 +520,85 @@ public class MustacheHelperTest {
         assertThat(configuration.getBody()).isEqualTo("outside {\"more\": \"json\"} outside");
     }
 
+    @Test
+    public void renderPlaceholdersInQuery() {
+        final List<Param> params = new ArrayList<>();
+        final String query = renderPlaceholders(
+                "select * from users where id = {{Table1.selectedRow.id}} and name = '{{ Input1.text }}'",
+                Map.of("Table1.selectedRow.id", "42", "Input1.text", "it's me"),
+                params,
+                SqlSyntax.STANDARD
+        );
+
+        assertThat(query).isEqualTo("select * from users where id = ? and name = ?");
+        assertThat(params).extracting(Param::getKey).containsExactly("Table1.selectedRow.id", "Input1.text");
+        assertThat(params).extracting(Param::getValue).containsExactly("42", "it's me");
+    }
+
+    @Test
+    public void renderPlaceholdersInPartOfLiteral() {
+        final List<Param> params = new ArrayList<>();
+        final String query = renderPlaceholders(
+                "select * from users where name like '%{{ Input1.text }}%' and city = '{{ Input2.text }}, {{ Input3.text }}'",
+                Map.of("Input1.text", "it's", "Input2.text", "Paris", "Input3.text", "France"),
+                params,
+                SqlSyntax.STANDARD
+        );
+
+        assertThat(query).isEqualTo("select * from users where name like ? and city = ?");
+        assertThat(params).extracting(Param::getKey).containsExactly("Input1.text", "Input2.text, Input3.text");
+        assertThat(params).extracting(Param::getValue).containsExactly("%it's%", "Paris, France");
+    }
+
+    @Test
+    public void renderPlaceholdersKeepsLiteralsAndCommentsWithoutBindings() {
+        final List<Param> params = new ArrayList<>();
+        final String query = renderPlaceholders(
+                "-- don't change\nselect 'it''s', {{ Input1.text }} /* isn't it */ from users where note = 'It''s {{ Input2.text }}'",
+                Map.of("Input1.text", "1", "Input2.text", "me"),
+                params,
+                SqlSyntax.STANDARD
+        );
+
+        assertThat(query).isEqualTo("-- don't change\nselect 'it''s', ? /* isn't it */ from users where note = ?");
+        assertThat(params).extracting(Param::getValue).containsExactly("1", "It's me");
+    }
+
+    @Test
+    public void renderPlaceholdersSubstitutesInIdentifiersAndDollarQuotes() {
+        final SqlSyntax postgres = SqlSyntax.builder().dollarQuoting(true).build();
+        final List<Param> params = new ArrayList<>();
+        final String query = renderPlaceholders(
+                "select \"{{ Input1.text }}\", $1 from t where a = $$it's {{ Input2.text }}$$ and b = $tag$ $$ $tag$ and c = {{ Input3.text }}",
+                Map.of("Input1.text", "name", "Input2.text", "me", "Input3.text", "3"),
+                params,
+                postgres
+        );
+
+        assertThat(query).isEqualTo("select \"name\", $1 from t where a = $$it's me$$ and b = $tag$ $$ $tag$ and c = ?");
+        assertThat(params).extracting(Param::getValue).containsExactly("3");
+    }
+
+    @Test
+    public void renderPlaceholdersWithMySqlSyntax() {
+        final SqlSyntax mySql = SqlSyntax.builder()
+                .stringQuotes(Set.of('\'', '"'))
+                .identifierQuotes(Set.of('`'))
+                .backslashEscapes(true)
+                .hashComments(true)
+                .dashCommentNeedsWhitespace(true)
+                .build();
+        final List<Param> params = new ArrayList<>();
+        final String query = renderPlaceholders(
+                "# isn't {{ Input1.text }}\nselect `{{ Input2.text }}`, 5--1 from t where a = 'it\\'s {{ Input3.text }}' and b = \"{{ Input4.text }}\\n\"",
+                Map.of("Input1.text", "1", "Input2.text", "name", "Input3.text", "me", "Input4.text", "x"),
+                params,
+                mySql
+        );
+
+        assertThat(query).isEqualTo("# isn't {{ Input1.text }}\nselect `name`, 5--1 from t where a = ? and b = ?");
+        assertThat(params).extracting(Param::getKey).containsExactly("Input3.text", "Input4.text");
+        assertThat(params).extracting(Param::getValue).containsExactly("it's me", "x\n");
+    }
+
 }
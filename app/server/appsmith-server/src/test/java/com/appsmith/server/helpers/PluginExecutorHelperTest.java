@@ -0,0 +1,82 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.repositories.PluginRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.pf4j.PluginManager;
+import org.pf4j.PluginWrapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+public class PluginExecutorHelperTest {
+
+    private PluginManager pluginManager;
+
+    private PluginRepository pluginRepository;
+
+    private PluginExecutorHelper pluginExecutorHelper;
+
+    private final PluginExecutor pluginExecutor = new MockPluginExecutor();
+
+    @Before
+    public void setup() {
+        pluginManager = Mockito.mock(PluginManager.class);
+        pluginRepository = Mockito.mock(PluginRepository.class);
+
+        final PluginWrapper pluginWrapper = Mockito.mock(PluginWrapper.class);
+        Mockito.when(pluginWrapper.getPluginId()).thenReturn("test-plugin");
+        Mockito.when(pluginManager.getStartedPlugins()).thenReturn(List.of(pluginWrapper));
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, "test-plugin")).thenReturn(List.of(pluginExecutor));
+
+        final Plugin plugin = new Plugin();
+        plugin.setId("test-plugin-id");
+        plugin.setPackageName("test-plugin");
+        Mockito.when(pluginRepository.findById("test-plugin-id")).thenReturn(Mono.just(plugin));
+        Mockito.when(pluginRepository.findById("unknown-plugin-id")).thenReturn(Mono.empty());
+
+        pluginExecutorHelper = new PluginExecutorHelper(pluginManager, pluginRepository);
+        pluginExecutorHelper.registerStartedPlugins();
+    }
+
+    @Test
+    public void getExecutorByPackageNameDoesNotLookUpExtensions() {
+        final Plugin plugin = new Plugin();
+        plugin.setPackageName("test-plugin");
+
+        for (int i = 0; i < 3; ++i) {
+            StepVerifier.create(pluginExecutorHelper.getPluginExecutor(Mono.just(plugin)))
+                    .expectNext(pluginExecutor)
+                    .verifyComplete();
+        }
+
+        // Only looked up once, when the started plugins were registered.
+        Mockito.verify(pluginManager, Mockito.times(1)).getExtensions(PluginExecutor.class, "test-plugin");
+    }
+
+    @Test
+    public void getExecutorByPluginIdFindsPluginOnlyOnce() {
+        for (int i = 0; i < 3; ++i) {
+            StepVerifier.create(pluginExecutorHelper.getPluginExecutorByPluginId("test-plugin-id"))
+                    .expectNext(pluginExecutor)
+                    .verifyComplete();
+        }
+
+        Mockito.verify(pluginRepository, Mockito.times(1)).findById("test-plugin-id");
+    }
+
+    @Test
+    public void getExecutorByUnknownPluginId() {
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorByPluginId("unknown-plugin-id"))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                        ((AppsmithException) throwable).getError().equals(AppsmithError.NO_RESOURCE_FOUND))
+                .verify();
+    }
+
+}
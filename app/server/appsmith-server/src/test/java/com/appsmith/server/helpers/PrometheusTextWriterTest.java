@@ -0,0 +1,25 @@
+package com.appsmith.server.helpers;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrometheusTextWriterTest {
+
+    @Test
+    public void writesLabelledAndUnlabelledSamples() {
+        final StringBuilder out = new StringBuilder();
+
+        PrometheusTextWriter.writeHeader(out, "appsmith_things_total", "counter", "Things.");
+        PrometheusTextWriter.writeSample(out, "appsmith_things_total", 3);
+        PrometheusTextWriter.writeSample(out, "appsmith_things_total", "name", "say \"hi\"\\\n", null, 4);
+        PrometheusTextWriter.writeSample(out, "appsmith_things_bucket", "name", "a", "+Inf", 5);
+
+        assertThat(out.toString()).isEqualTo("# HELP appsmith_things_total Things.\n"
+                + "# TYPE appsmith_things_total counter\n"
+                + "appsmith_things_total 3\n"
+                + "appsmith_things_total{name=\"say \\\"hi\\\"\\\\\\n\"} 4\n"
+                + "appsmith_things_bucket{name=\"a\",le=\"+Inf\"} 5\n");
+    }
+
+}
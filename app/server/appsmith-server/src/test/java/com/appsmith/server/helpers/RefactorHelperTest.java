@@ -0,0 +1,62 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Property;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RefactorHelperTest {
+
+    @Test
+    public void refactorTemplateOnlyReplacesReferences() {
+        assertThat(RefactorHelper.refactorTemplate(
+                "Text1 says {{Text1.text + Text10.text + appsmith.Text1 + fn(Text1)}}", "Text1", "Label1"))
+                .isEqualTo("Text1 says {{Label1.text + Text10.text + appsmith.Text1 + fn(Label1)}}");
+
+        final String unchanged = "{{Text10.text}} and Text1";
+        assertThat(RefactorHelper.refactorTemplate(unchanged, "Text1", "Label1")).isSameAs(unchanged);
+    }
+
+    @Test
+    public void refactorDsl() throws ParseException {
+        final JSONObject dsl = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse("{" +
+                "\"widgetName\": \"MainContainer\"," +
+                "\"children\": [" +
+                "  {\"widgetName\": \"Text1\", \"text\": \"Text1\"}," +
+                "  {\"widgetName\": \"Text2\", \"text\": \"Plain Text1 value: {{ Text1.text }}\", \"list\": [\"Text1\", \"{{Text1}}\"]}" +
+                "]," +
+                "\"Text1\": {\"isVisible\": true}" +
+                "}");
+
+        assertThat(RefactorHelper.refactorDsl(dsl, "Text1", "Label1")).isTrue();
+
+        final JSONObject text1 = (JSONObject) ((List<?>) dsl.get("children")).get(0);
+        final JSONObject text2 = (JSONObject) ((List<?>) dsl.get("children")).get(1);
+        assertThat(text1.get("widgetName")).isEqualTo("Label1");
+        assertThat(text2.get("text")).isEqualTo("Plain Text1 value: {{ Label1.text }}");
+        assertThat((List<Object>) text2.get("list")).containsExactly("Label1", "{{Label1}}");
+        assertThat(dsl).containsKey("Label1").doesNotContainKey("Text1");
+
+        assertThat(RefactorHelper.refactorDsl(dsl, "Text1", "Label1")).isFalse();
+    }
+
+    @Test
+    public void refactorFieldValues() {
+        final ActionConfiguration configuration = new ActionConfiguration();
+        configuration.setBody("select * from users where name = {{Input1.text}}");
+        configuration.setHeaders(List.of(new Property("Authorization", "{{Input1.text}}")));
+        configuration.setPath("/Input1");
+
+        assertThat(RefactorHelper.refactorFieldValues(configuration, "Input1", "NameInput")).isTrue();
+        assertThat(configuration.getBody()).isEqualTo("select * from users where name = {{NameInput.text}}");
+        assertThat(configuration.getHeaders().get(0).getValue()).isEqualTo("{{NameInput.text}}");
+        assertThat(configuration.getPath()).isEqualTo("/Input1");
+    }
+
+}
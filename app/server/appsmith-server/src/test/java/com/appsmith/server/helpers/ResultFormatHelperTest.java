@@ -0,0 +1,99 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ResultFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultFormatHelperTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ActionExecutionResult result(String body) throws IOException {
+        final ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(objectMapper.readTree(body));
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    @Test
+    public void compactLaysOutRowsAsArrays() throws IOException {
+        final ActionExecutionResult result = result("[" +
+                "{\"id\": 1, \"name\": \"Alice\", \"address\": {\"city\": \"Paris\"}}," +
+                "{\"id\": 2, \"name\": \"Bob\", \"address\": null}," +
+                "{\"id\": 3, \"email\": \"carol@example.com\"}" +
+                "]");
+
+        ResultFormatHelper.applyFormat(result, ResultFormat.COMPACT);
+
+        assertThat(result.getResultFormat()).isEqualTo(ResultFormat.COMPACT);
+        assertThat(result.getBody()).isEqualTo(objectMapper.readTree("{" +
+                "\"columns\": [{\"name\": \"id\"}, {\"name\": \"name\"}, {\"name\": \"address\"}, {\"name\": \"email\"}]," +
+                "\"rows\": [" +
+                "[1, \"Alice\", {\"city\": \"Paris\"}, null]," +
+                "[2, \"Bob\", null, null]," +
+                "[3, null, null, \"carol@example.com\"]" +
+                "]}"));
+    }
+
+    @Test
+    public void compactEncodesRepeatedStringsWithDictionary() throws IOException {
+        final ActionExecutionResult result = result("[" +
+                "{\"status\": \"active\", \"code\": \"a\"}," +
+                "{\"status\": \"inactive\", \"code\": \"b\"}," +
+                "{\"status\": \"active\", \"code\": 3}," +
+                "{\"status\": null, \"code\": \"d\"}," +
+                "{\"status\": \"active\", \"code\": \"a\"}" +
+                "]");
+
+        ResultFormatHelper.applyFormat(result, ResultFormat.COMPACT);
+
+        // `code` isn't encoded, since it doesn't only have strings.
+        assertThat(result.getBody()).isEqualTo(objectMapper.readTree("{" +
+                "\"columns\": [{\"name\": \"status\", \"dictionary\": [\"active\", \"inactive\"]}, {\"name\": \"code\"}]," +
+                "\"rows\": [[0, \"a\"], [1, \"b\"], [0, 3], [null, \"d\"], [0, \"a\"]]" +
+                "}"));
+    }
+
+    @Test
+    public void compactSkipsDictionaryForMostlyUniqueStrings() throws IOException {
+        final JsonNode body = ResultFormatHelper.toCompact(objectMapper.readTree(
+                "[{\"name\": \"a\"}, {\"name\": \"b\"}, {\"name\": \"c\"}, {\"name\": \"a\"}]"
+        ));
+
+        assertThat(body.get("columns").get(0).has("dictionary")).isFalse();
+        assertThat(body.get("rows").get(3).get(0).asText()).isEqualTo("a");
+    }
+
+    @Test
+    public void nonTabularBodiesAreLeftAsRows() throws IOException {
+        final ActionExecutionResult objectResult = result("{\"message\": \"Hello\"}");
+        ResultFormatHelper.applyFormat(objectResult, ResultFormat.COMPACT);
+        assertThat(objectResult.getResultFormat()).isEqualTo(ResultFormat.ROWS);
+        assertThat(objectResult.getBody()).isEqualTo(objectMapper.readTree("{\"message\": \"Hello\"}"));
+
+        final ActionExecutionResult arrayResult = result("[1, 2, 3]");
+        ResultFormatHelper.applyFormat(arrayResult, ResultFormat.COMPACT);
+        assertThat(arrayResult.getResultFormat()).isEqualTo(ResultFormat.ROWS);
+
+        final ActionExecutionResult errorResult = new ActionExecutionResult();
+        errorResult.setBody("Error message");
+        ResultFormatHelper.applyFormat(errorResult, ResultFormat.COMPACT);
+        assertThat(errorResult.getResultFormat()).isEqualTo(ResultFormat.ROWS);
+        assertThat(errorResult.getBody()).isEqualTo("Error message");
+    }
+
+    @Test
+    public void formatIsNotSetUnlessAskedFor() throws IOException {
+        final ActionExecutionResult result = result("[{\"id\": 1}]");
+        ResultFormatHelper.applyFormat(result, null);
+        assertThat(result.getResultFormat()).isNull();
+        assertThat(result.getBody()).isEqualTo(objectMapper.readTree("[{\"id\": 1}]"));
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.appsmith.server.notifications;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmailDispatcherTest {
+
+    private JavaMailSender javaMailSender;
+
+    private EmailDispatcher emailDispatcher;
+
+    @Before
+    public void setup() {
+        javaMailSender = Mockito.mock(JavaMailSender.class);
+        emailDispatcher = new EmailDispatcher(javaMailSender);
+    }
+
+    @After
+    public void cleanup() {
+        emailDispatcher.close();
+    }
+
+    @Test
+    public void dispatchDoesNotWaitForMailServer() throws InterruptedException {
+        final CountDownLatch serverBlocked = new CountDownLatch(1);
+        final List<MimeMessage> sentMessages = new ArrayList<>();
+        final CountDownLatch allSent = new CountDownLatch(5);
+        Mockito.doAnswer(invocation -> {
+            serverBlocked.await();
+            for (Object message : invocation.getArguments()) {
+                synchronized (sentMessages) {
+                    sentMessages.add((MimeMessage) message);
+                }
+                allSent.countDown();
+            }
+            return null;
+        }).when(javaMailSender).send(Mockito.<MimeMessage[]>any());
+
+        final List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            final MimeMessage message = newMessage();
+            messages.add(message);
+            assertThat(emailDispatcher.dispatch(message)).isTrue();
+        }
+
+        serverBlocked.countDown();
+
+        assertThat(allSent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sentMessages).containsExactlyInAnyOrderElementsOf(messages);
+        assertThat(emailDispatcher.getFailedCount()).isZero();
+        assertThat(emailDispatcher.getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void onlyFailedMessagesAreRetried() throws InterruptedException {
+        final MimeMessage okMessage = newMessage();
+        final MimeMessage failingMessage = newMessage();
+
+        final List<MimeMessage> attemptedMessages = new ArrayList<>();
+        final CountDownLatch retried = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            final List<Object> batch = Arrays.asList(invocation.getArguments());
+            synchronized (attemptedMessages) {
+                batch.forEach(message -> attemptedMessages.add((MimeMessage) message));
+            }
+            if (attemptedMessages.size() > 2) {
+                retried.countDown();
+                return null;
+            }
+            if (batch.contains(failingMessage)) {
+                throw new MailSendException(Map.of(failingMessage, new Exception("Temporary failure")));
+            }
+            return null;
+        }).when(javaMailSender).send(Mockito.<MimeMessage[]>any());
+
+        emailDispatcher.dispatch(okMessage);
+        emailDispatcher.dispatch(failingMessage);
+
+        assertThat(retried.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(attemptedMessages).containsOnly(okMessage, failingMessage);
+        assertThat(attemptedMessages.stream().filter(okMessage::equals).count()).isEqualTo(1);
+        assertThat(attemptedMessages.stream().filter(failingMessage::equals).count()).isEqualTo(2);
+        assertThat(emailDispatcher.getRetriedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void closeSendsQueuedEmails() throws InterruptedException {
+        final CountDownLatch serverBlocked = new CountDownLatch(1);
+        final List<MimeMessage> sentMessages = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            serverBlocked.await();
+            synchronized (sentMessages) {
+                Arrays.stream(invocation.getArguments()).forEach(message -> sentMessages.add((MimeMessage) message));
+            }
+            return null;
+        }).when(javaMailSender).send(Mockito.<MimeMessage[]>any());
+
+        final List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 50; ++i) {
+            final MimeMessage message = newMessage();
+            messages.add(message);
+            emailDispatcher.dispatch(message);
+        }
+
+        serverBlocked.countDown();
+        emailDispatcher.close();
+
+        assertThat(sentMessages).containsExactlyInAnyOrderElementsOf(messages);
+        assertThat(emailDispatcher.getDroppedCount()).isZero();
+        assertThat(emailDispatcher.scrape())
+                .contains("appsmith_emails_sent_total 50\n")
+                .contains("appsmith_emails_dropped_total 0\n");
+    }
+
+    private static MimeMessage newMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+}
@@ -148,6 +148,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void createValidActionAndCheckPermissions() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Policy manageActionPolicy = Policy.builder().permission(MANAGE_ACTIONS.getValue())
                 .users(Set.of("api_user"))
@@ -180,6 +181,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void validMoveAction() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Page newPage = new Page();
         newPage.setName("Destination Page");
@@ -224,6 +226,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void createValidActionWithJustName() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Action action = new Action();
         action.setName("randomActionName");
@@ -248,6 +251,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void createValidActionNullActionConfiguration() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Action action = new Action();
         action.setName("randomActionName2");
@@ -457,6 +461,7 @@ public class ActionServiceTest {
 
         AppsmithPluginException pluginException = new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR);
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
         Mockito.when(pluginExecutor.execute(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(Mono.error(pluginException));
         Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
 
@@ -474,6 +479,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void checkActionInViewMode() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         String key = "bodyMustacheKey";
         Action action = new Action();
@@ -547,6 +553,7 @@ public class ActionServiceTest {
         executeActionDTO.setAction(action);
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
         Mockito.when(pluginExecutor.execute(Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenThrow(new StaleConnectionException())
                 .thenReturn(Mono.just(mockResult));
@@ -576,6 +583,7 @@ public class ActionServiceTest {
 
     private Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO, ActionConfiguration actionConfiguration, ActionExecutionResult mockResult) {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
         Mockito.when(pluginExecutor.execute(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(Mono.just(mockResult));
         Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
 
@@ -587,6 +595,7 @@ public class ActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void getActionInViewMode() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Action action = new Action();
         action.setName("view-mode-action-test");
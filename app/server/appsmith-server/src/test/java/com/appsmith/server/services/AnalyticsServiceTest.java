@@ -0,0 +1,79 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.constants.AnalyticsEvents;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.User;
+import com.segment.analytics.Analytics;
+import com.segment.analytics.messages.IdentifyMessage;
+import com.segment.analytics.messages.MessageBuilder;
+import com.segment.analytics.messages.TrackMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsServiceTest {
+
+    private Analytics analytics;
+
+    private AnalyticsService analyticsService;
+
+    @Before
+    public void setup() {
+        final User user = new User();
+        user.setEmail("api_user");
+
+        analytics = Mockito.mock(Analytics.class);
+        final SessionUserService sessionUserService = Mockito.mock(SessionUserService.class);
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+
+        analyticsService = new AnalyticsService(analytics, sessionUserService);
+    }
+
+    @After
+    public void cleanup() {
+        analyticsService.close();
+    }
+
+    @Test
+    public void sendEventDoesNotWaitForAnalyticsClient() throws InterruptedException {
+        final CountDownLatch clientBlocked = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            clientBlocked.await();
+            return null;
+        }).when(analytics).enqueue(Mockito.any(MessageBuilder.class));
+
+        final Organization organization = new Organization();
+        organization.setId("organization-id");
+
+        // The analytics client is blocked, but the events are still published without waiting for it.
+        for (int i = 0; i < 10; ++i) {
+            StepVerifier.create(analyticsService.sendEvent(AnalyticsEvents.CREATE, organization))
+                    .expectNext(organization)
+                    .verifyComplete();
+        }
+
+        clientBlocked.countDown();
+        Mockito.verify(analytics, Mockito.timeout(5000).times(10)).enqueue(Mockito.any(TrackMessage.Builder.class));
+    }
+
+    @Test
+    public void trackNewUserFlushesAfterBatch() {
+        final User user = new User();
+        user.setEmail("new_user");
+
+        StepVerifier.create(analyticsService.trackNewUser(user))
+                .assertNext(trackedUser -> assertThat(trackedUser).isSameAs(user))
+                .verifyComplete();
+
+        Mockito.verify(analytics, Mockito.timeout(5000)).enqueue(Mockito.any(IdentifyMessage.Builder.class));
+        Mockito.verify(analytics, Mockito.timeout(5000)).flush();
+    }
+
+}
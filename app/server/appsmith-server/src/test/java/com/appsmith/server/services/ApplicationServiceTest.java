@@ -476,6 +476,7 @@ public class ApplicationServiceTest {
     @WithUserDetails(value = "api_user")
     public void validMakeApplicationPublicWithActions() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Application application = new Application();
         application.setName("validMakeApplicationPublic-ExplicitDatasource-Test");
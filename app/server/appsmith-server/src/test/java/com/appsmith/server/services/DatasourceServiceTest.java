@@ -4,6 +4,7 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.Policy;
@@ -14,6 +15,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.DatasourceStructureCache;
 import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.Plugin;
@@ -21,6 +23,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.repositories.DatasourceStructureCacheRepository;
 import com.appsmith.server.repositories.OrganizationRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
@@ -39,6 +42,7 @@ import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
@@ -71,6 +75,9 @@ public class DatasourceServiceTest {
     @Autowired
     EncryptionService encryptionService;
 
+    @Autowired
+    DatasourceStructureCacheRepository structureCacheRepository;
+
     @MockBean
     PluginExecutorHelper pluginExecutorHelper;
 
@@ -133,6 +140,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void createDatasourceNotInstalledPlugin() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Not Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -164,6 +172,7 @@ public class DatasourceServiceTest {
     public void createDatasourceValid() {
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -203,6 +212,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void createAndUpdateDatasourceValidDB() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Datasource datasource = new Datasource();
         datasource.setName("test db datasource");
@@ -251,10 +261,55 @@ public class DatasourceServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateDatasourceConfigurationDeletesSavedStructures() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Datasource datasource = new Datasource();
+        datasource.setName("datasource with saved structure");
+        datasource.setOrganizationId(orgId);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("http://test.com");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+
+        Mono<List<DatasourceStructureCache>> structureCachesMono = pluginService.findByName("Installed Plugin Name")
+                .map(plugin -> {
+                    datasource.setPluginId(plugin.getId());
+                    return datasource;
+                })
+                .flatMap(datasourceService::create)
+                .flatMap(createdDatasource -> {
+                    final DatasourceStructureCache structureCache = new DatasourceStructureCache();
+                    structureCache.setDatasourceId(createdDatasource.getId());
+                    structureCache.setConfigurationHash("old-configuration-hash");
+                    structureCache.setStructure(new DatasourceStructure());
+                    return structureCacheRepository.save(structureCache).thenReturn(createdDatasource);
+                })
+                .flatMap(createdDatasource -> {
+                    Datasource updates = new Datasource();
+                    DatasourceConfiguration updatedConfiguration = new DatasourceConfiguration();
+                    updatedConfiguration.setUrl("http://test-updated.com");
+                    updates.setDatasourceConfiguration(updatedConfiguration);
+                    return datasourceService.update(createdDatasource.getId(), updates);
+                })
+                .flatMap(updatedDatasource -> structureCacheRepository.findAll()
+                        .filter(structureCache -> updatedDatasource.getId().equals(structureCache.getDatasourceId()))
+                        .collectList()
+                );
+
+        StepVerifier
+                .create(structureCachesMono)
+                .assertNext(structureCaches -> assertThat(structureCaches).isEmpty())
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void createNamelessDatasource() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
 
@@ -311,6 +366,7 @@ public class DatasourceServiceTest {
         }).flatMap(datasourceService::create);
 
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<DatasourceTestResult> testResultMono = datasourceMono.flatMap(datasource1 -> datasourceService.testDatasource(datasource1));
 
@@ -327,6 +383,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void deleteDatasourceWithoutActions() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -358,6 +415,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void deleteDatasourceWithActions() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Datasource> datasourceMono = Mono
                 .zip(
@@ -424,6 +482,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void checkEncryptionOfAuthenticationDTOTest() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
         
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -458,6 +517,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void checkEncryptionOfAuthenticationDTONullPassword() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -489,6 +549,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void checkEncryptionOfAuthenticationDTOAfterUpdate() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByName("Installed Plugin Name");
         Datasource datasource = new Datasource();
@@ -530,6 +591,7 @@ public class DatasourceServiceTest {
     @WithUserDetails(value = "api_user")
     public void createDatasourceWithInvalidCharsInHost() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Plugin> pluginMono = pluginService.findByPackageName("installed-db-plugin");
         Datasource datasource = new Datasource();
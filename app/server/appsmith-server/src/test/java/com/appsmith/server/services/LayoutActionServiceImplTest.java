@@ -0,0 +1,118 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.Page;
+import com.appsmith.server.dtos.RefactorNameDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.MaterializedResultCache;
+import net.minidev.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LayoutActionServiceImplTest {
+
+    private ActionService actionService;
+
+    private PageService pageService;
+
+    private LayoutActionServiceImpl layoutActionService;
+
+    @Before
+    public void setup() {
+        actionService = Mockito.mock(ActionService.class);
+        pageService = Mockito.mock(PageService.class);
+        layoutActionService = new LayoutActionServiceImpl(
+                actionService, pageService, Mockito.mock(AnalyticsService.class), Mockito.mock(MaterializedResultCache.class));
+
+        final Layout storedLayout = new Layout();
+        storedLayout.setId("layout-1");
+        final Page page = new Page();
+        page.setId("page-1");
+        page.setLayouts(new ArrayList<>(List.of(storedLayout)));
+        Mockito.when(pageService.findByIdAndLayoutsId(
+                ArgumentMatchers.eq("page-1"), ArgumentMatchers.eq("layout-1"), ArgumentMatchers.any(AclPermission.class)))
+                .thenReturn(Mono.just(page));
+        Mockito.when(pageService.save(ArgumentMatchers.any(Page.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    private static Layout layout(String text) {
+        final Layout layout = new Layout();
+        layout.setId("layout-1");
+        layout.setDsl(new JSONObject(Map.of("widgetName", "Text1", "text", text)));
+        return layout;
+    }
+
+    @Test
+    public void failedSaveDoesNotBlockLaterSaves() {
+        Mockito.when(actionService.findOnLoadActionsInPage("page-1"))
+                .thenThrow(new IllegalStateException("Malformed page"))
+                .thenReturn(Flux.empty());
+        Mockito.when(actionService.setExecuteOnLoad(ArgumentMatchers.anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(layoutActionService.updateLayout("page-1", "layout-1", layout("{{ query1.data }}")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+
+        // The failed save has ended, so this update is saved right away instead of waiting on it.
+        StepVerifier.create(layoutActionService.updateLayout("page-1", "layout-1", layout("{{ query2.data }}")))
+                .assertNext(savedLayout -> assertThat(savedLayout.getWidgetNames()).containsExactly("Text1"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static RefactorNameDTO refactor(String pageId, String layoutId) {
+        final RefactorNameDTO refactorNameDTO = new RefactorNameDTO();
+        refactorNameDTO.setPageId(pageId);
+        refactorNameDTO.setLayoutId(layoutId);
+        refactorNameDTO.setOldName("Text1");
+        refactorNameDTO.setNewName("Text2");
+        return refactorNameDTO;
+    }
+
+    private static boolean isAppsmithError(Throwable error, AppsmithError appsmithError) {
+        return error instanceof AppsmithException && ((AppsmithException) error).getError() == appsmithError;
+    }
+
+    @Test
+    public void refactorOnMissingPageOrLayoutFails() {
+        Mockito.when(actionService.existsByNameAndPageId("Text2", "page-1", AclPermission.READ_ACTIONS)).thenReturn(Mono.just(false));
+        Mockito.when(actionService.existsByNameAndPageId("Text2", "page-2", AclPermission.READ_ACTIONS)).thenReturn(Mono.just(false));
+        Mockito.when(pageService.findLayoutWidgetNamesById("page-2", AclPermission.MANAGE_PAGES)).thenReturn(Mono.empty());
+
+        final Layout layout = new Layout();
+        layout.setId("layout-1");
+        final Page page = new Page();
+        page.setId("page-1");
+        page.setLayouts(List.of(layout));
+        Mockito.when(pageService.findLayoutWidgetNamesById("page-1", AclPermission.MANAGE_PAGES)).thenReturn(Mono.just(page));
+
+        StepVerifier.create(layoutActionService.refactorWidgetName(refactor("page-2", "layout-1")))
+                .expectErrorMatches(error -> isAppsmithError(error, AppsmithError.NO_RESOURCE_FOUND))
+                .verify();
+
+        StepVerifier.create(layoutActionService.refactorWidgetName(refactor("page-1", "layout-2")))
+                .expectErrorMatches(error -> isAppsmithError(error, AppsmithError.NO_RESOURCE_FOUND))
+                .verify();
+
+        // The layout has no widgets, so it has no DSL.
+        StepVerifier.create(layoutActionService.refactorWidgetName(refactor("page-1", "layout-1")))
+                .expectErrorMatches(error -> isAppsmithError(error, AppsmithError.NO_DSL_FOUND_IN_PAGE))
+                .verify();
+    }
+
+}
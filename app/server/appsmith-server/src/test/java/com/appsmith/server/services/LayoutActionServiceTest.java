@@ -10,6 +10,9 @@ import com.appsmith.server.domains.Organization;
 import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.RefactorNameDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.MockPluginExecutor;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.OrganizationRepository;
@@ -31,6 +34,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -127,6 +131,7 @@ public class LayoutActionServiceTest {
     @WithUserDetails(value = "api_user")
     public void updateActionUpdatesLayout() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Action action = new Action();
         action.setName("query1");
@@ -156,4 +161,65 @@ public class LayoutActionServiceTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void refactorActionNameToExistingNameIsNotAllowed() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Layout layout = testPage.getLayouts().get(0);
+        JSONObject dsl = new JSONObject(Map.of(
+                "widgetName", "MainContainer",
+                "children", List.of(Map.of("widgetName", "Table1", "tableData", "{{ query1.data }}"))
+        ));
+        layout.setDsl(dsl);
+        layoutActionService.updateLayout(testPage.getId(), layout.getId(), layout).block();
+
+        for (String name : List.of("query1", "query2")) {
+            Action action = new Action();
+            action.setName(name);
+            action.setPageId(testPage.getId());
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setHttpMethod(HttpMethod.GET);
+            action.setActionConfiguration(actionConfiguration);
+            action.setDatasource(datasource);
+            actionService.create(action).block();
+        }
+
+        RefactorNameDTO refactorToWidgetName = new RefactorNameDTO();
+        refactorToWidgetName.setPageId(testPage.getId());
+        refactorToWidgetName.setLayoutId(layout.getId());
+        refactorToWidgetName.setOldName("query1");
+        refactorToWidgetName.setNewName("Table1");
+
+        StepVerifier
+                .create(layoutActionService.refactorActionName(refactorToWidgetName))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                        ((AppsmithException) throwable).getError().equals(AppsmithError.NAME_CLASH_NOT_ALLOWED_IN_REFACTOR))
+                .verify();
+
+        RefactorNameDTO refactorToActionName = new RefactorNameDTO();
+        refactorToActionName.setPageId(testPage.getId());
+        refactorToActionName.setLayoutId(layout.getId());
+        refactorToActionName.setOldName("query1");
+        refactorToActionName.setNewName("query2");
+
+        StepVerifier
+                .create(layoutActionService.refactorActionName(refactorToActionName))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                        ((AppsmithException) throwable).getError().equals(AppsmithError.NAME_CLASH_NOT_ALLOWED_IN_REFACTOR))
+                .verify();
+
+        RefactorNameDTO refactorToNewName = new RefactorNameDTO();
+        refactorToNewName.setPageId(testPage.getId());
+        refactorToNewName.setLayoutId(layout.getId());
+        refactorToNewName.setOldName("query1");
+        refactorToNewName.setNewName("query3");
+
+        StepVerifier
+                .create(layoutActionService.refactorActionName(refactorToNewName))
+                .assertNext(refactoredLayout -> assertThat(refactoredLayout.getDsl().toString()).contains("query3.data"))
+                .verifyComplete();
+    }
 }
@@ -31,8 +31,10 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -250,10 +252,58 @@ public class LayoutServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayoutConcurrentUpdatesAreCoalesced() {
+        Layout testLayout = new Layout();
+        testLayout.setDsl(new JSONObject(Map.of("key", "value")));
+
+        Page testPage = new Page();
+        testPage.setName("LayoutServiceTest updateLayoutConcurrentUpdatesAreCoalesced");
+
+        Application app = new Application();
+        app.setName("newApplication-updateLayoutConcurrentUpdatesAreCoalesced-Test");
+
+        Mono<Page> pageMono = createPage(app, testPage).cache();
+
+        Mono<Layout> startLayoutMono = pageMono.flatMap(page -> layoutService.createLayout(page.getId(), testLayout));
+
+        Mono<Tuple2<List<Layout>, Layout>> updatedLayoutsMono = Mono.zip(pageMono, startLayoutMono)
+                .flatMap(tuple -> {
+                    Page page = tuple.getT1();
+                    Layout startLayout = tuple.getT2();
+
+                    return Flux.range(0, 5)
+                            .flatMap(i -> {
+                                Layout updateLayout = new Layout();
+                                updateLayout.setDsl(new JSONObject(Map.of("key", "value-" + i)));
+                                return layoutActionService.updateLayout(page.getId(), startLayout.getId(), updateLayout);
+                            })
+                            .collectList()
+                            .zipWhen(layouts -> layoutService.getLayout(page.getId(), startLayout.getId(), false));
+                });
+
+        StepVerifier
+                .create(updatedLayoutsMono)
+                .assertNext(tuple -> {
+                    final List<Layout> layouts = tuple.getT1();
+                    final Layout savedLayout = tuple.getT2();
+
+                    // Every caller gets a saved layout, and the layout saved last is the one in the page.
+                    assertThat(layouts).hasSize(5);
+                    assertThat(layouts).allSatisfy(layout ->
+                            assertThat(layout.getDsl().getAsString("key")).startsWith("value-"));
+                    assertThat(layouts.stream().map(layout -> layout.getDsl().getAsString("key")))
+                            .contains(savedLayout.getDsl().getAsString("key"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void getActionsExecuteOnLoad() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
 
         Mono<Layout> testMono = pageService
                 .findByName("validPageName", AclPermission.READ_PAGES)
@@ -359,6 +409,78 @@ public class LayoutServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void getActionsExecuteOnLoadWithCyclicDependencies() {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+
+        Mono<Layout> testMono = pageService
+                .findByName("validPageName", AclPermission.READ_PAGES)
+                .flatMap(page1 -> {
+                    List<Mono<Action>> monos = new ArrayList<>();
+
+                    Action action = new Action();
+                    action.setName("aCyclicGetAction");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.getActionConfiguration().setBody("{{aCyclicOnLoadAction.data}}");
+                    action.setJsonPathKeys(Set.of("aCyclicOnLoadAction.data"));
+                    action.setPageId(page1.getId());
+                    action.setDatasource(datasource);
+                    monos.add(actionService.create(action));
+
+                    action = new Action();
+                    action.setName("aCyclicOnLoadAction");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.POST);
+                    action.getActionConfiguration().setBody("{{aCyclicGetAction.data}}");
+                    action.setJsonPathKeys(Set.of("aCyclicGetAction.data"));
+                    action.setExecuteOnLoad(true);
+                    action.setPageId(page1.getId());
+                    action.setDatasource(datasource);
+                    monos.add(actionService.create(action));
+
+                    action = new Action();
+                    action.setName("anIndependentGetAction");
+                    action.setActionConfiguration(new ActionConfiguration());
+                    action.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+                    action.setPageId(page1.getId());
+                    action.setDatasource(datasource);
+                    monos.add(actionService.create(action));
+
+                    return Mono.zip(monos, objects -> page1);
+                })
+                .zipWhen(page1 -> {
+                    Layout layout = new Layout();
+                    layout.setDsl(new JSONObject(Map.of("key", "value")));
+                    return layoutService.createLayout(page1.getId(), layout);
+                })
+                .flatMap(tuple2 -> {
+                    Layout newLayout = new Layout();
+                    newLayout.setDsl(new JSONObject(Map.of(
+                            "cyclic", "{{aCyclicGetAction.data}}",
+                            "independent", "{{anIndependentGetAction.data}}"
+                    )));
+
+                    return layoutActionService.updateLayout(tuple2.getT1().getId(), tuple2.getT2().getId(), newLayout);
+                });
+
+        StepVerifier
+                .create(testMono)
+                .assertNext(layout -> {
+                    // Each action is executed once, with one of the actions in the cycle before the other.
+                    assertThat(layout.getLayoutOnLoadActions()).hasSize(2);
+                    assertThat(layout.getLayoutOnLoadActions().get(0)).hasSize(1);
+                    assertThat(layout.getLayoutOnLoadActions().stream()
+                            .flatMap(Set::stream)
+                            .map(DslActionDTO::getName)
+                            .collect(Collectors.toList()))
+                            .containsExactlyInAnyOrder("aCyclicGetAction", "aCyclicOnLoadAction", "anIndependentGetAction");
+                })
+                .verifyComplete();
+    }
+
     @After
     public void purgePages() {
         pageService.deleteAll();
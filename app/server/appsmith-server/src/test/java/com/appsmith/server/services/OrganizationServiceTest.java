@@ -9,12 +9,12 @@ import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.Asset;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.Page;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.UserRole;
 import com.appsmith.server.dtos.InviteUsersDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
-import com.appsmith.server.repositories.AssetRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.OrganizationRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +25,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -44,8 +45,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -58,6 +61,7 @@ import static com.appsmith.server.acl.AclPermission.ORGANIZATION_READ_APPLICATIO
 import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.READ_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.READ_ORGANIZATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -90,11 +94,14 @@ public class OrganizationServiceTest {
     @Autowired
     DatasourceRepository datasourceRepository;
 
+    @Autowired
+    PageService pageService;
+
     @Autowired
     RoleGraph roleGraph;
 
     @Autowired
-    private AssetRepository assetRepository;
+    private AssetService assetService;
 
     Organization organization;
 
@@ -510,6 +517,83 @@ public class OrganizationServiceTest {
                 .verifyComplete();
     }
 
+    /**
+     * This test invites an existing user and new users to an organization together, with a repeated email. All the users
+     * must be added to the organization once, and must get permissions on the existing pages of the organization.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void inviteMultipleUsersToOrganizationTogether() {
+        Organization organization = new Organization();
+        organization.setName("Bulk Invite Test Organization");
+
+        Mono<Organization> organizationMono = organizationService
+                .create(organization)
+                .cache();
+
+        Mono<Application> applicationMono = organizationMono
+                .flatMap(org -> {
+                    Application application = new Application();
+                    application.setName("Bulk Invite Test Application");
+                    return applicationPageService.createApplication(application, org.getId());
+                })
+                .cache();
+
+        List<String> newUsernames = List.of("bulkInviteNewUser1@usertest.com", "bulkInviteNewUser2@usertest.com");
+
+        Mono<List<User>> invitedUsersMono = applicationMono
+                .then(organizationMono)
+                .flatMap(org -> {
+                    InviteUsersDTO inviteUsersDTO = new InviteUsersDTO();
+                    ArrayList<String> users = new ArrayList<>();
+                    users.add("usertest@usertest.com");
+                    users.addAll(newUsernames);
+                    users.add(newUsernames.get(0));
+                    inviteUsersDTO.setUsernames(users);
+                    inviteUsersDTO.setOrgId(org.getId());
+                    inviteUsersDTO.setRoleName(AppsmithRole.ORGANIZATION_VIEWER.getName());
+
+                    return userService.inviteUser(inviteUsersDTO, "http://localhost:8080")
+                            .collectList();
+                })
+                .cache();
+
+        Mono<Organization> orgAfterUpdateMono = invitedUsersMono
+                .then(organizationRepository.findByName("Bulk Invite Test Organization"));
+
+        Mono<Page> pageAfterUpdateMono = invitedUsersMono
+                .then(applicationMono)
+                .flatMap(application -> pageService.findById(application.getPages().get(0).getId(), READ_PAGES));
+
+        StepVerifier
+                .create(Mono.zip(invitedUsersMono, orgAfterUpdateMono, pageAfterUpdateMono))
+                .assertNext(tuple -> {
+                    List<User> users = tuple.getT1();
+                    Organization org = tuple.getT2();
+                    Page page = tuple.getT3();
+
+                    assertThat(users).hasSize(3);
+                    assertThat(users).allMatch(user -> user.getOrganizationIds().contains(org.getId()));
+                    assertThat(users.stream().filter(user -> newUsernames.contains(user.getEmail())))
+                            .allMatch(user -> !user.getIsEnabled());
+
+                    Set<String> memberUsernames = org.getUserRoles().stream()
+                            .map(UserRole::getUsername)
+                            .collect(Collectors.toSet());
+                    assertThat(org.getUserRoles()).hasSize(4);
+                    assertThat(memberUsernames).contains("api_user", "usertest@usertest.com",
+                            "bulkInviteNewUser1@usertest.com", "bulkInviteNewUser2@usertest.com");
+
+                    Policy readPagePolicy = page.getPolicies().stream()
+                            .filter(policy -> policy.getPermission().equals(READ_PAGES.getValue()))
+                            .findFirst()
+                            .get();
+                    assertThat(readPagePolicy.getUsers()).contains("usertest@usertest.com",
+                            "bulkInviteNewUser1@usertest.com", "bulkInviteNewUser2@usertest.com");
+                })
+                .verifyComplete();
+    }
+
     /**
      * This test checks for application and datasource permissions if a user is invited to the organization as an Admin.
      * The existing applications in the organization should now have the new user be included in both
@@ -973,7 +1057,7 @@ public class OrganizationServiceTest {
                 .uploadLogo(organizationId, filePart)
                 .flatMap(organizationWithLogo -> Mono.zip(
                         Mono.just(organizationWithLogo),
-                        assetRepository.findById(organizationWithLogo.getLogoAssetId())
+                        assetService.getById(organizationWithLogo.getLogoAssetId())
                 ));
 
         StepVerifier.create(resultMono)
@@ -984,18 +1068,83 @@ public class OrganizationServiceTest {
 
                     final Asset asset = tuple.getT2();
                     assertThat(asset).isNotNull();
-                    assertThat(asset.getData()).isEqualTo(bytes);
+                    assertThat(asset.getContentType()).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+                    assertThat(readContent(asset, 0, bytes.length - 1)).isEqualTo(bytes);
                 })
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void uploadOrganizationLogoInParts() {
+        // Larger than a chunk, and received in parts that don't line up with the chunks.
+        final byte[] bytes = new byte[600 * 1024];
+        new Random(42).nextBytes(bytes);
+        final InMemoryFilePart filePart = new InMemoryFilePart(bytes, MediaType.IMAGE_PNG, 7000);
+
+        final String organizationId = organizationRepository
+                .findByName("Spring Test Organization")
+                .blockOptional(Duration.ofSeconds(3))
+                .map(Organization::getId)
+                .orElse(null);
+
+        final Mono<Asset> resultMono = organizationService
+                .uploadLogo(organizationId, filePart)
+                .flatMap(organizationWithLogo -> assetService.getById(organizationWithLogo.getLogoAssetId()));
+
+        StepVerifier.create(resultMono)
+                .assertNext(asset -> {
+                    assertThat(asset.getContentLength()).isEqualTo(bytes.length);
+                    assertThat(readContent(asset, 0, bytes.length - 1)).isEqualTo(bytes);
+
+                    // A range that spans the boundary between the first and the second chunks.
+                    final int start = 255 * 1024 - 10;
+                    final int end = 255 * 1024 + 10;
+                    assertThat(readContent(asset, start, end)).isEqualTo(Arrays.copyOfRange(bytes, start, end + 1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void uploadOrganizationLogoTooLarge() {
+        final byte[] bytes = new byte[1025 * 1024];
+        final InMemoryFilePart filePart = new InMemoryFilePart(bytes, MediaType.IMAGE_PNG, 64 * 1024);
+
+        final String organizationId = organizationRepository
+                .findByName("Spring Test Organization")
+                .blockOptional(Duration.ofSeconds(3))
+                .map(Organization::getId)
+                .orElse(null);
+
+        StepVerifier.create(organizationService.uploadLogo(organizationId, filePart))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException &&
+                        throwable.getMessage().equals(AppsmithError.PAYLOAD_TOO_LARGE.getMessage(1024)))
+                .verify();
+    }
+
+    private byte[] readContent(Asset asset, long start, long end) {
+        final DataBuffer dataBuffer = DataBufferUtils.join(assetService.getContent(asset, start, end)).block();
+        final byte[] content = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(content);
+        DataBufferUtils.release(dataBuffer);
+        return content;
+    }
+
     private static class InMemoryFilePart implements Part {
 
-        private final DataBuffer buffer;
+        private final List<DataBuffer> buffers = new ArrayList<>();
         private final HttpHeaders headers;
 
         public InMemoryFilePart(byte[] bytes, MediaType contentType) {
-            this.buffer = new DefaultDataBufferFactory().wrap(bytes);
+            this(bytes, contentType, bytes.length);
+        }
+
+        public InMemoryFilePart(byte[] bytes, MediaType contentType, int bufferSize) {
+            for (int offset = 0; offset < bytes.length; offset += bufferSize) {
+                buffers.add(new DefaultDataBufferFactory().wrap(
+                        Arrays.copyOfRange(bytes, offset, Math.min(offset + bufferSize, bytes.length))));
+            }
             headers = new HttpHeaders();
             headers.setContentType(contentType);
         }
@@ -1016,7 +1165,7 @@ public class OrganizationServiceTest {
         @Override
         @NonNull
         public Flux<DataBuffer> content() {
-            return Flux.just(buffer);
+            return Flux.fromIterable(buffers);
         }
 
     }
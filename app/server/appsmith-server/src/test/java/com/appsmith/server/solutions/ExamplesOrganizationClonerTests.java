@@ -140,6 +140,7 @@ public class ExamplesOrganizationClonerTests {
     @Before
     public void setup() {
         Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutorByPluginId(Mockito.any())).thenReturn(Mono.just(new MockPluginExecutor()));
         installedPlugin = pluginRepository.findByPackageName("installed-plugin").block();
     }
 
@@ -220,6 +221,62 @@ public class ExamplesOrganizationClonerTests {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void cloneOrganizationTwiceGivesIndependentCopies() {
+        Organization newOrganization = new Organization();
+        newOrganization.setName("Template Organization");
+        final Mono<List<OrganizationData>> resultMono = Mono
+                .zip(
+                        organizationService.create(newOrganization),
+                        sessionUserService.getCurrentUser()
+                )
+                .flatMap(tuple -> {
+                    final Organization organization = tuple.getT1();
+                    Application app = new Application();
+                    app.setName("template app");
+                    app.setOrganizationId(organization.getId());
+
+                    // Both clones are made from the same snapshot of the template application.
+                    return applicationPageService.createApplication(app)
+                            .flatMapMany(application -> Flux.concat(
+                                    examplesOrganizationCloner.cloneOrganizationForUser(
+                                            organization.getId(),
+                                            tuple.getT2(),
+                                            applicationService.getById(application.getId()).flux()
+                                    ),
+                                    examplesOrganizationCloner.cloneOrganizationForUser(
+                                            organization.getId(),
+                                            tuple.getT2(),
+                                            applicationService.getById(application.getId()).flux()
+                                    )
+                            ))
+                            .concatMap(this::loadOrganizationData)
+                            .collectList();
+                });
+
+        StepVerifier.create(resultMono)
+                .assertNext(dataList -> {
+                    assertThat(dataList).hasSize(2);
+                    final Application firstClone = dataList.get(0).applications.get(0);
+                    final Application secondClone = dataList.get(1).applications.get(0);
+
+                    assertThat(firstClone.getId()).isNotEqualTo(secondClone.getId());
+                    assertThat(firstClone.getPages()).hasSize(1);
+                    assertThat(secondClone.getPages()).hasSize(1);
+                    assertThat(firstClone.getPages().get(0).isDefault()).isTrue();
+                    assertThat(secondClone.getPages().get(0).isDefault()).isTrue();
+                    assertThat(firstClone.getPages().get(0).getId()).isNotEqualTo(secondClone.getPages().get(0).getId());
+
+                    final Page firstPage = pageService.findById(firstClone.getPages().get(0).getId(), READ_PAGES).block();
+                    final Page secondPage = pageService.findById(secondClone.getPages().get(0).getId(), READ_PAGES).block();
+                    assertThat(firstPage.getApplicationId()).isEqualTo(firstClone.getId());
+                    assertThat(secondPage.getApplicationId()).isEqualTo(secondClone.getId());
+                    assertThat(firstPage.getLayouts().get(0).getId()).isNotEqualTo(secondPage.getLayouts().get(0).getId());
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void cloneOrganizationWithOnlyPublicApplications() {